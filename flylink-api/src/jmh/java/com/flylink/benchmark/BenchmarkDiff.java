@@ -0,0 +1,91 @@
+package com.flylink.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Compara dois resultados JSON do JMH (ex.: o commit base e o atual) e
+ * aponta as regressões acima do limite, considerando o erro da medição.
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.main=com.flylink.benchmark.BenchmarkDiff \
+ *   -Djmh.args="target/jmh-base.json target/jmh-result.json 5"
+ *
+ * O terceiro argumento é o limite em % (padrão 5). Sai com código 1 se
+ * houver regressão, para uso em CI.
+ */
+public final class BenchmarkDiff {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BenchmarkDiff() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkDiff <base.json> <current.json> [threshold %]");
+            System.exit(2);
+        }
+        // Argumentos extras (as opções de resultado do exec) são ignorados
+        double thresholdPercent = args.length > 2 && !args[2].startsWith("-") ? Double.parseDouble(args[2]) : 5;
+
+        Map<String, JsonNode> base = load(args[0]);
+        Map<String, JsonNode> current = load(args[1]);
+
+        int regressions = 0;
+        System.out.printf("%-70s %14s %14s %9s%n", "Benchmark", "Base", "Current", "Change");
+        for (Map.Entry<String, JsonNode> entry : current.entrySet()) {
+            JsonNode before = base.get(entry.getKey());
+            JsonNode after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-70s %14s %14.3f %9s%n", entry.getKey(), "-", score(after), "new");
+                continue;
+            }
+
+            double change = (score(after) - score(before)) / score(before) * 100;
+            // Em throughput maior é melhor; nos demais modos (tempo) menor é melhor
+            double worse = "thrpt".equals(after.path("mode").asText()) ? -change : change;
+            double noise = (error(before) + error(after)) / score(before) * 100;
+            boolean regression = worse > thresholdPercent && worse > noise;
+            if (regression) {
+                regressions++;
+            }
+            System.out.printf("%-70s %14.3f %14.3f %+8.1f%%%s%n", entry.getKey(), score(before), score(after),
+                    change, regression ? "  REGRESSION" : "");
+        }
+
+        System.out.printf("%n%d regression(s) above %.1f%%%n", regressions, thresholdPercent);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> load(String path) throws IOException {
+        Map<String, JsonNode> results = new LinkedHashMap<>();
+        for (JsonNode result : MAPPER.readTree(new File(path))) {
+            results.put(key(result), result);
+        }
+        return results;
+    }
+
+    private static String key(JsonNode result) {
+        String name = result.path("benchmark").asText().replace("com.flylink.benchmark.", "");
+        StringJoiner params = new StringJoiner(",", "(", ")").setEmptyValue("");
+        result.path("params").fields().forEachRemaining(param -> params.add(param.getKey() + "=" + param.getValue().asText()));
+        return name + params + " " + result.path("mode").asText() + " t" + result.path("threads").asInt();
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static double error(JsonNode result) {
+        double error = result.path("primaryMetric").path("scoreError").asDouble();
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
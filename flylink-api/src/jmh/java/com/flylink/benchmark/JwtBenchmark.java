@@ -0,0 +1,93 @@
+package com.flylink.benchmark;
+
+import com.flylink.config.JwtProperties;
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.security.AccessTokenClaims;
+import com.flylink.infrastructure.security.JwtAuthenticationFilter;
+import com.flylink.infrastructure.security.JwtTokenProvider;
+import com.flylink.infrastructure.security.TokenRevocationList;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Emissão e validação do access token, e o JwtAuthenticationFilter de
+ * ponta a ponta (header, assinatura, lista de revogação, SecurityContext).
+ *
+ * A lista de revogação está vazia: mede o caminho comum, em que o Bloom
+ * filter responde "não revogado" sem tocar o conjunto exato.
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="JwtBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-with-at-least-256-bits-for-hmac-sha");
+        tokenProvider = new JwtTokenProvider(properties);
+        filter = new JwtAuthenticationFilter(tokenProvider, new TokenRevocationList(null, properties),
+                new HotPathMetrics(new SimpleMeterRegistry()));
+        token = tokenProvider.generateToken(42L, "bench@flylink.dev");
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/urls");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        Authentication authentication;
+
+        // O SecurityContext é limpo no fim, como faz o Spring Security a cada requisição
+        final FilterChain chain = (req, res) -> {
+            authentication = SecurityContextHolder.getContext().getAuthentication();
+            SecurityContextHolder.clearContext();
+        };
+
+        @Setup
+        public void setUp(JwtBenchmark benchmark) {
+            request.addHeader("Authorization", "Bearer " + benchmark.token);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(42L, "bench@flylink.dev");
+    }
+
+    @Benchmark
+    public AccessTokenClaims parseToken() {
+        return tokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public Authentication authenticationFilter(Exchange exchange) throws Exception {
+        filter.doFilter(exchange.request, exchange.response, exchange.chain);
+        return exchange.authentication;
+    }
+}
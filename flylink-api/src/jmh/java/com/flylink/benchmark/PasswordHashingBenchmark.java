@@ -0,0 +1,96 @@
+package com.flylink.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calibra o work factor do BCrypt para este host: mede a verificação de
+ * senha em cada strength e indica o maior que fica dentro da latência alvo.
+ *
+ * Só a medição:
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="PasswordHashingBenchmark"
+ *
+ * Medição + recomendação (alvo em ms, padrão 250 se nenhum argumento for numérico):
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args=250 \
+ *   -Djmh.main=com.flylink.benchmark.PasswordHashingBenchmark
+ *
+ * O valor recomendado vai em PASSWORD_BCRYPT_STRENGTH; hashes antigos são
+ * refeitos no próximo login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    @Param({ "10", "11", "12", "13" })
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode("correct horse battery staple");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("correct horse battery staple", encoded);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        double targetMs = targetMs(args);
+
+        Collection<RunResult> results = new Runner(new OptionsBuilder()
+                .include(PasswordHashingBenchmark.class.getSimpleName())
+                .build()).run();
+
+        results.stream()
+                .filter(result -> result.getPrimaryResult().getScore() <= targetMs)
+                .max(Comparator.comparingInt(result -> Integer.parseInt(result.getParams().getParam("strength"))))
+                .ifPresentOrElse(
+                        result -> System.out.printf("%nRecommended PASSWORD_BCRYPT_STRENGTH=%s (%.1f ms <= %.0f ms)%n",
+                                result.getParams().getParam("strength"),
+                                result.getPrimaryResult().getScore(), targetMs),
+                        () -> System.out.printf("%nNo strength fits in %.0f ms on this host; keep 10 or add CPU%n",
+                                targetMs));
+    }
+
+    /**
+     * Primeiro argumento numérico, ou 250. O exec:exec sempre passa
+     * ${jmh.args} (padrão ".*") seguido de "-rf json -rff ...", então os
+     * demais argumentos são ignorados.
+     */
+    static double targetMs(String[] args) {
+        for (String arg : args) {
+            try {
+                return Double.parseDouble(arg);
+            } catch (NumberFormatException ignored) {
+                // Não é o alvo: regex do JMH ou opção repassada pelo profile
+            }
+        }
+        return 250;
+    }
+}
@@ -0,0 +1,79 @@
+package com.flylink.benchmark;
+
+import com.flylink.config.RateLimitProperties;
+import com.flylink.infrastructure.ratelimit.RateLimitInterceptor;
+import com.flylink.infrastructure.ratelimit.RateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do rate limiting no caminho do redirecionamento (casamento da
+ * política, balde do cliente e headers), com 10k IPs distintos.
+ * Meta: bem abaixo de 1µs por requisição.
+ *
+ * A requisição é reaproveitada por thread (só o IP muda): milhares de
+ * MockHttpServletRequest distintos mediriam falhas de cache do mock, não
+ * do limiter. Os headers vão para um MockHttpServletResponse, mais lento
+ * que o response do Tomcat.
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="RateLimiterBenchmark -t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+
+    private static final int CLIENTS = 10_000;
+
+    private RateLimitInterceptor interceptor;
+    private String[] clientIps;
+
+    @Setup
+    public void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        // Reabastecimento rápido: mede o caminho de aceite, não o de exceção
+        properties.getPolicies().get(0).setRefillPerSecond(1_000_000);
+        interceptor = new RateLimitInterceptor(new RateLimiter(properties));
+
+        clientIps = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            clientIps[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Exchange {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/abc123");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        @Setup
+        public void setUp() {
+            // O DispatcherServlet já deixa o caminho parseado antes dos interceptors
+            ServletRequestPathUtils.parseAndCache(request);
+        }
+    }
+
+    @Benchmark
+    public boolean redirectPreHandle(Exchange exchange) {
+        exchange.request.setRemoteAddr(clientIps[ThreadLocalRandom.current().nextInt(CLIENTS)]);
+        return interceptor.preHandle(exchange.request, exchange.response, null);
+    }
+}
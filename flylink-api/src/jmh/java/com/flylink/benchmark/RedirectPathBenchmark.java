@@ -0,0 +1,182 @@
+package com.flylink.benchmark;
+
+import com.flylink.config.AccessLogProperties;
+import com.flylink.config.CacheProperties;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.service.UrlShortenerService;
+import com.flylink.infrastructure.accesslog.AccessLog;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import com.flylink.web.controller.DiscardingHttpServletResponse;
+import com.flylink.web.controller.RedirectController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caminho do redirecionamento sem servlet nem banco: RedirectController →
+ * UrlShortenerService → RedirectCache → circuit breaker → repositório em
+ * memória, incluindo o incremento de cliques, as métricas e os headers de
+ * cache.
+ *
+ * cache=hit mede o caso comum (código em cache); cache=miss desliga o
+ * cache e passa pelo single-flight e pelo circuit breaker a cada chamada.
+ * O custo do banco em si está no RedirectRepositoryBenchmark.
+ *
+ * notFound mede varreduras de códigos inexistentes (404 sem exceção).
+ *
+ * accessLog=on liga o log de acesso (segmentos num diretório temporário):
+ * a diferença para off é o custo do registro no buffer circular.
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="RedirectPathBenchmark -t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RedirectPathBenchmark {
+
+    private static final int LINKS = 10_000;
+
+    @Param({ "hit", "miss" })
+    public String cache;
+
+    @Param({ "off", "on" })
+    public String accessLog;
+
+    private AccessLog log;
+    private Path accessLogDir;
+    private RedirectController controller;
+    private String[] codes;
+    private String[] unknownCodes;
+
+    @Setup
+    public void setUp() throws IOException {
+        InMemoryRedirectRepository store = new InMemoryRedirectRepository();
+        codes = new String[LINKS];
+        unknownCodes = new String[LINKS];
+        for (int i = 0; i < LINKS; i++) {
+            codes[i] = "b" + i;
+            unknownCodes[i] = "x" + i;
+            store.targets.put(codes[i], new RedirectTarget(codes[i], "https://example.com/" + i, null, null));
+        }
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getRedirect().setMaxSize("hit".equals(cache) ? LINKS * 2 : 0);
+        RedirectCache redirectCache = new RedirectCache(cacheProperties, new InMemoryCacheInvalidationBus(50));
+        CircuitBreaker circuitBreaker = new CircuitBreaker("db", 5, Duration.ofMillis(500), Duration.ofSeconds(10));
+
+        UrlShortenerService service = new UrlShortenerService(null, null, store, redirectCache,
+                ShardRouter.single(), circuitBreaker, null, new HotPathMetrics(new SimpleMeterRegistry()));
+        if ("on".equals(accessLog)) {
+            AccessLogProperties accessLogProperties = new AccessLogProperties();
+            accessLogDir = Files.createTempDirectory("flylink-access-log");
+            accessLogProperties.setDir(accessLogDir.toString());
+            log = new AccessLog(accessLogProperties);
+        } else {
+            log = AccessLog.disabled();
+        }
+        controller = new RedirectController(service, log, 86_400, 300);
+
+        if ("hit".equals(cache)) {
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            DiscardingHttpServletResponse response = new DiscardingHttpServletResponse();
+            for (String code : codes) {
+                controller.redirect(code, request, response);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        log.close();
+        if (accessLogDir != null) {
+            FileSystemUtils.deleteRecursively(accessLogDir);
+        }
+    }
+
+    @Benchmark
+    public int redirect(ResponseState state) throws IOException {
+        controller.redirect(codes[ThreadLocalRandom.current().nextInt(LINKS)], state.request, state.response);
+        return state.response.getStatus();
+    }
+
+    @Benchmark
+    public int notFound(ResponseState state) throws IOException {
+        controller.redirect(unknownCodes[ThreadLocalRandom.current().nextInt(LINKS)], state.request,
+                state.response);
+        return state.response.getStatus();
+    }
+
+    /**
+     * Uma requisição e uma resposta por thread, reaproveitadas: mede o
+     * controller, não os mocks.
+     */
+    @State(Scope.Thread)
+    public static class ResponseState {
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final DiscardingHttpServletResponse response = new DiscardingHttpServletResponse();
+    }
+
+    /**
+     * Repositório do caminho quente em memória: lookup e clique sem I/O.
+     */
+    static final class InMemoryRedirectRepository implements RedirectRepository {
+
+        final Map<String, RedirectTarget> targets = new ConcurrentHashMap<>();
+        final LongAdder clicks = new LongAdder();
+
+        @Override
+        public Optional<RedirectTarget> findActiveByCode(String code) {
+            return Optional.ofNullable(targets.get(code));
+        }
+
+        @Override
+        public int incrementClickCount(String code) {
+            clicks.increment();
+            return targets.containsKey(code) ? 1 : 0;
+        }
+
+        @Override
+        public int addClicks(String code, long count) {
+            clicks.add(count);
+            return targets.containsKey(code) ? 1 : 0;
+        }
+
+        @Override
+        public void deactivate(String code) {
+            targets.remove(code);
+        }
+    }
+}
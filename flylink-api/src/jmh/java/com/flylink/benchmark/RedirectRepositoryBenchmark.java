@@ -0,0 +1,109 @@
+package com.flylink.benchmark;
+
+import com.flylink.FlylinkApplication;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de redirecionamento JPA com o JDBC puro, contra um
+ * Postgres real (Testcontainers — exige Docker).
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="RedirectRepositoryBenchmark -t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class RedirectRepositoryBenchmark {
+
+    private static final int LINKS = 10_000;
+
+    @Param({ "jpa", "jdbc" })
+    public String repository;
+
+    private PostgreSQLContainer<?> postgres;
+    private ConfigurableApplicationContext context;
+    private RedirectRepository redirectRepository;
+    private String[] codes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:16.1-alpine");
+        postgres.start();
+
+        context = new SpringApplicationBuilder(FlylinkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.jpa.show-sql=false",
+                        "app.redirect.repository=" + repository,
+                        "app.archival.enabled=false",
+                        "app.cache.invalidation.transport=in-memory")
+                .run();
+
+        codes = seed(context.getBean(JdbcTemplate.class));
+        redirectRepository = context.getBean(RedirectRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public Optional<RedirectTarget> findActiveByCode() {
+        return redirectRepository.findActiveByCode(randomCode());
+    }
+
+    @Benchmark
+    public int incrementClickCount() {
+        return redirectRepository.incrementClickCount(randomCode());
+    }
+
+    private String randomCode() {
+        return codes[ThreadLocalRandom.current().nextInt(codes.length)];
+    }
+
+    private static String[] seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>(LINKS);
+        String[] codes = new String[LINKS];
+        for (int i = 0; i < LINKS; i++) {
+            codes[i] = "b" + i;
+            rows.add(new Object[] { codes[i], "https://example.com/" + i });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO short_urls (code, original_url, click_count, created_at, updated_at, is_active) "
+                        + "VALUES (?, ?, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, true)",
+                rows);
+        return codes;
+    }
+}
@@ -0,0 +1,61 @@
+package com.flylink.benchmark;
+
+import com.flylink.domain.service.UrlShortenerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração do código Base62 de 7 caracteres (SecureRandom compartilhado).
+ * Rodar também com -t 8: o SecureRandom é único por serviço e a contenção
+ * só aparece com várias threads.
+ *
+ * O método é privado; o MethodHandle é static final, então o JIT o trata
+ * como chamada direta.
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="UrlCodeBenchmark -t 8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlCodeBenchmark {
+
+    private static final MethodHandle GENERATE_BASE62_CODE;
+
+    static {
+        try {
+            GENERATE_BASE62_CODE = MethodHandles.privateLookupIn(UrlShortenerService.class, MethodHandles.lookup())
+                    .findVirtual(UrlShortenerService.class, "generateBase62Code", MethodType.methodType(String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private UrlShortenerService service;
+
+    @Setup
+    public void setUp() {
+        // Só o SecureRandom do serviço participa da geração
+        service = new UrlShortenerService(null, null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public String generateBase62Code() throws Throwable {
+        return (String) GENERATE_BASE62_CODE.invokeExact(service);
+    }
+}
@@ -0,0 +1,113 @@
+package com.flylink.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
+import com.flylink.web.controller.UrlController;
+import com.flylink.web.dto.UrlResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Listagem de URLs do usuário: mapeamento entidade → UrlResponse
+ * (UrlController.toResponse) e serialização JSON da lista, separados e
+ * juntos, para listas de tamanhos diferentes.
+ *
+ * O ObjectMapper segue os padrões do Spring Boot (datas ISO-8601).
+ *
+ * mvn -Pbenchmark -pl flylink-api -am test-compile exec:exec -Djmh.args="UrlResponseBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UrlResponseBenchmark {
+
+    private static final MethodHandle TO_RESPONSE;
+
+    static {
+        try {
+            TO_RESPONSE = MethodHandles.privateLookupIn(UrlController.class, MethodHandles.lookup())
+                    .findVirtual(UrlController.class, "toResponse",
+                            MethodType.methodType(UrlResponse.class, ShortUrlEntity.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Param({ "10", "100", "1000" })
+    public int urls;
+
+    private UrlController controller;
+    private ObjectMapper objectMapper;
+    private List<ShortUrlEntity> entities;
+    private List<UrlResponse> responses;
+
+    @Setup
+    public void setUp() throws Throwable {
+        controller = new UrlController(null);
+        ReflectionTestUtils.setField(controller, "baseUrl", "https://flylink.dev");
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        OffsetDateTime now = OffsetDateTime.now();
+        entities = new ArrayList<>(urls);
+        for (int i = 0; i < urls; i++) {
+            entities.add(ShortUrlEntity.builder()
+                    .id((long) i)
+                    .code("c" + i)
+                    .originalUrl("https://example.com/articles/" + i + "?utm_source=flylink")
+                    .userId(1L)
+                    .clickCount((long) i * 7)
+                    .createdAt(now.minusDays(i))
+                    .lastClickAt(i % 2 == 0 ? now : null)
+                    .expiresAt(i % 3 == 0 ? now.plusDays(30) : null)
+                    .isActive(true)
+                    .redirectType(RedirectType.FOUND)
+                    .build());
+        }
+        responses = mapList();
+    }
+
+    @Benchmark
+    public List<UrlResponse> mapList() throws Throwable {
+        List<UrlResponse> mapped = new ArrayList<>(entities.size());
+        for (ShortUrlEntity entity : entities) {
+            mapped.add((UrlResponse) TO_RESPONSE.invokeExact(controller, entity));
+        }
+        return mapped;
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerializeList() throws Throwable {
+        return objectMapper.writeValueAsBytes(mapList());
+    }
+}
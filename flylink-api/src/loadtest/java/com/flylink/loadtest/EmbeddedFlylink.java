@@ -0,0 +1,63 @@
+package com.flylink.loadtest;
+
+import com.flylink.FlylinkApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sobe a aplicação numa porta aleatória contra um Postgres descartável
+ * (Testcontainers — exige Docker), no mesmo processo do gerador.
+ *
+ * Rate limit desligado por padrão: o teste mede a capacidade, não a
+ * política. O limite de concorrência continua ligado, como em produção.
+ */
+final class EmbeddedFlylink implements AutoCloseable {
+
+    private final PostgreSQLContainer<?> postgres;
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedFlylink(PostgreSQLContainer<?> postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    static EmbeddedFlylink start(Map<String, String> overrides) {
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16.1-alpine");
+        postgres.start();
+
+        // Como argumentos de linha de comando, para prevalecer sobre o application.yml
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl(),
+                "--spring.datasource.username=" + postgres.getUsername(),
+                "--spring.datasource.password=" + postgres.getPassword(),
+                "--spring.jpa.show-sql=false",
+                "--app.jwt.secret=load-test-secret-with-at-least-256-bits-for-hmac-sha",
+                "--app.jwt.expiration-ms=86400000",
+                "--app.rate-limit.enabled=false",
+                // O limite adaptativo responderia 503 à carga (e ao seed), em vez de medi-la
+                "--app.resilience.concurrency-limit.enabled=false",
+                "--app.archival.enabled=false",
+                "--app.cache.invalidation.transport=in-memory"));
+        overrides.forEach((name, value) -> args.add("--" + name + "=" + value));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(FlylinkApplication.class)
+                .run(args.toArray(String[]::new));
+        return new EmbeddedFlylink(postgres, context);
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        postgres.stop();
+    }
+}
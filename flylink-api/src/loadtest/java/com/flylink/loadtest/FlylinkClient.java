@@ -0,0 +1,117 @@
+package com.flylink.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP mínimo da API, com chamadas bloqueantes — cada cliente
+ * roda na sua própria virtual thread.
+ */
+final class FlylinkClient {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int SETUP_ATTEMPTS = 5;
+
+    private final URI baseUri;
+    private final HttpClient http;
+
+    FlylinkClient(String baseUrl) {
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Registra um usuário descartável e devolve o access token.
+     */
+    String register(String email) throws IOException, InterruptedException {
+        HttpResponse<String> response = sendSetup(post("api/v1/auth/register", null,
+                Map.of("name", "Load Test", "email", email, "password", "load-test-password")));
+        expect(response, 201);
+        return MAPPER.readTree(response.body()).path("token").asText();
+    }
+
+    /**
+     * @return código da URL criada
+     */
+    String createUrl(String token, String originalUrl) throws IOException, InterruptedException {
+        HttpResponse<String> response = sendSetup(post("api/v1/urls", token, Map.of("originalUrl", originalUrl)));
+        expect(response, 201);
+        return MAPPER.readTree(response.body()).path("code").asText();
+    }
+
+    boolean tryCreateUrl(String token, String originalUrl) throws IOException, InterruptedException {
+        return send(post("api/v1/urls", token, Map.of("originalUrl", originalUrl))).statusCode() == 201;
+    }
+
+    boolean tryList(String token) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("api/v1/urls"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .GET()
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    boolean tryRedirect(String code) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(code))
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        int status = http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        return status >= 301 && status <= 308;
+    }
+
+    private HttpRequest post(String path, String token, Map<String, ?> body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Requisições do seed: 503 (limite de concorrência, circuito aberto) e
+     * 429 são repetidos após o Retry-After, em vez de abortar o teste.
+     */
+    private HttpResponse<String> sendSetup(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = send(request);
+        for (int attempt = 1; attempt < SETUP_ATTEMPTS && isRetryable(response); attempt++) {
+            long retryAfterSeconds = response.headers().firstValueAsLong("Retry-After").orElse(1);
+            Thread.sleep(Duration.ofSeconds(Math.max(1, retryAfterSeconds)));
+            response = send(request);
+        }
+        return response;
+    }
+
+    private static boolean isRetryable(HttpResponse<?> response) {
+        return response.statusCode() == 503 || response.statusCode() == 429;
+    }
+
+    private static void expect(HttpResponse<String> response, int status) {
+        if (response.statusCode() != status) {
+            throw new IllegalStateException("Setup request " + response.request().uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+    }
+}
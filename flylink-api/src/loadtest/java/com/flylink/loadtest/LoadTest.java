@@ -0,0 +1,290 @@
+package com.flylink.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga HTTP open-loop para medir redirecionamento e criação de
+ * URLs a cada release, sem ferramentas externas.
+ *
+ * As requisições saem numa agenda fixa (--rate por segundo), cada uma na
+ * sua virtual thread, independentemente de as anteriores terem terminado.
+ * A latência é contada a partir do horário agendado, então um servidor
+ * lento aparece nos percentis em vez de reduzir a carga (coordinated
+ * omission).
+ *
+ * mvn -Ploadtest -pl flylink-api -am test-compile exec:exec -Dloadtest.args="--rate=5000 --duration=120"
+ *
+ * Sem --target, sobe a aplicação com Postgres via Testcontainers (exige
+ * Docker), sem rate limit nem limite de concorrência. Com --target, os dois
+ * devem estar desligados na instância.
+ * Sai com código 1 se algum limite (--max-p99-ms, --max-error-rate,
+ * --min-throughput-ratio) for violado.
+ */
+public final class LoadTest {
+
+    // Requisições simultâneas do seed: o cadastro faz o hash da senha, que é caro de propósito
+    private static final int SEED_CONCURRENCY = 8;
+
+    private final LoadTestOptions options;
+    private final FlylinkClient client;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final Operation[] mixTable;
+
+    private String[] codes;
+    private ZipfianGenerator popularity;
+    private String[] userTokens;
+
+    private LoadTest(LoadTestOptions options, String baseUrl) {
+        this.options = options;
+        this.client = new FlylinkClient(baseUrl);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+        this.mixTable = buildMixTable(options.mix);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+
+        boolean passed;
+        if (options.target != null) {
+            passed = new LoadTest(options, options.target).run();
+        } else {
+            try (EmbeddedFlylink app = EmbeddedFlylink.start(options.appProperties)) {
+                passed = new LoadTest(options, app.baseUrl()).run();
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        seed();
+
+        System.out.printf("%nOpen-loop load: %.0f req/s for %ds (+%ds warmup), mix %s, %d links (zipf %.2f)%n",
+                options.rate, options.duration.toSeconds(), options.warmup.toSeconds(), options.mix,
+                options.links, options.zipfExponent);
+
+        long intervalNanos = (long) (1_000_000_000L / options.rate);
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+        Semaphore inFlight = new Semaphore(options.maxInFlight);
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long intendedStart = start + i * intervalNanos;
+                if (intendedStart >= end) {
+                    break;
+                }
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                Operation operation = mixTable[ThreadLocalRandom.current().nextInt(mixTable.length)];
+                boolean measured = intendedStart >= measureFrom;
+                if (!inFlight.tryAcquire()) {
+                    // Cliente saturado: a requisição não sai, mas conta como erro
+                    if (measured) {
+                        stats.get(operation).dropped.increment();
+                    }
+                    continue;
+                }
+                clients.execute(() -> {
+                    try {
+                        execute(operation, intendedStart, measured);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+
+        return report();
+    }
+
+    private void execute(Operation operation, long intendedStart, boolean measured) {
+        OperationStats operationStats = stats.get(operation);
+        long actualStart = System.nanoTime();
+        boolean ok;
+        try {
+            ok = switch (operation) {
+                case REDIRECT -> client.tryRedirect(codes[popularity.next()]);
+                case CREATE -> client.tryCreateUrl(randomUser(), "https://example.com/load/" + UUID.randomUUID());
+                case LIST -> client.tryList(randomUser());
+            };
+        } catch (IOException ex) {
+            ok = false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (measured) {
+            operationStats.record(intendedStart, actualStart, System.nanoTime());
+            if (!ok) {
+                operationStats.errors.increment();
+            }
+        }
+    }
+
+    /**
+     * Cria os usuários e os links do teste. Os links ficam com um usuário
+     * próprio, para a listagem medir contas de tamanho normal.
+     */
+    private void seed() throws Exception {
+        String runId = UUID.randomUUID().toString().substring(0, 8);
+        System.out.printf("Seeding %d links and %d users...%n", options.links, options.users);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            String owner = client.register("loadtest-owner-" + runId + "@flylink.dev");
+
+            List<Future<String>> created = new ArrayList<>(options.links);
+            Semaphore concurrency = new Semaphore(SEED_CONCURRENCY);
+            for (int i = 0; i < options.links; i++) {
+                String url = "https://example.com/seed/" + i;
+                created.add(executor.submit(() -> {
+                    concurrency.acquire();
+                    try {
+                        return client.createUrl(owner, url);
+                    } finally {
+                        concurrency.release();
+                    }
+                }));
+            }
+
+            List<Future<String>> tokens = new ArrayList<>(options.users);
+            for (int i = 0; i < options.users; i++) {
+                String email = "loadtest-" + runId + "-" + i + "@flylink.dev";
+                tokens.add(executor.submit(() -> {
+                    concurrency.acquire();
+                    try {
+                        return client.register(email);
+                    } finally {
+                        concurrency.release();
+                    }
+                }));
+            }
+
+            codes = new String[options.links];
+            for (int i = 0; i < codes.length; i++) {
+                codes[i] = created.get(i).get();
+            }
+            userTokens = new String[options.users];
+            for (int i = 0; i < userTokens.length; i++) {
+                userTokens[i] = tokens.get(i).get();
+            }
+        }
+        popularity = new ZipfianGenerator(codes.length, options.zipfExponent);
+    }
+
+    private String randomUser() {
+        return userTokens[ThreadLocalRandom.current().nextInt(userTokens.length)];
+    }
+
+    private boolean report() throws IOException {
+        double seconds = options.duration.toNanos() / 1e9;
+        List<String> failures = new ArrayList<>();
+        ObjectNode json = new ObjectMapper().createObjectNode();
+        json.put("rate", options.rate);
+        json.put("durationSeconds", options.duration.toSeconds());
+        ObjectNode operations = json.putObject("operations");
+
+        long totalServed = 0;
+        System.out.printf("%n%-9s %10s %9s %8s %8s %9s %9s %9s %9s %9s %12s%n", "op", "requests", "req/s", "errors",
+                "dropped", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "svc p99 ms");
+        for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+            Operation operation = entry.getKey();
+            OperationStats operationStats = entry.getValue();
+            Histogram histogram = operationStats.responseTime;
+            long requests = operationStats.requests();
+            if (requests == 0) {
+                continue;
+            }
+            // Vazão servida: só respostas de sucesso (agendadas = respondidas + descartadas, sempre a taxa oferecida)
+            long served = operationStats.served();
+            totalServed += served;
+
+            double p99 = OperationStats.millis(histogram.getValueAtPercentile(99));
+            System.out.printf("%-9s %10d %9.0f %8d %8d %9.2f %9.2f %9.2f %9.2f %9.2f %12.2f%n",
+                    operation.key(), requests, served / seconds,
+                    operationStats.errors.sum(), operationStats.dropped.sum(),
+                    OperationStats.millis(histogram.getValueAtPercentile(50)),
+                    OperationStats.millis(histogram.getValueAtPercentile(90)),
+                    p99,
+                    OperationStats.millis(histogram.getValueAtPercentile(99.9)),
+                    OperationStats.millis(histogram.getMaxValue()),
+                    OperationStats.millis(operationStats.serviceTime.getValueAtPercentile(99)));
+
+            ObjectNode node = operations.putObject(operation.key());
+            node.put("requests", requests);
+            node.put("served", served);
+            node.put("throughput", served / seconds);
+            node.put("errors", operationStats.errors.sum());
+            node.put("dropped", operationStats.dropped.sum());
+            node.put("p50Ms", OperationStats.millis(histogram.getValueAtPercentile(50)));
+            node.put("p90Ms", OperationStats.millis(histogram.getValueAtPercentile(90)));
+            node.put("p99Ms", p99);
+            node.put("p999Ms", OperationStats.millis(histogram.getValueAtPercentile(99.9)));
+            node.put("maxMs", OperationStats.millis(histogram.getMaxValue()));
+            node.put("serviceP99Ms", OperationStats.millis(operationStats.serviceTime.getValueAtPercentile(99)));
+
+            Double maxP99 = options.maxP99Ms.get(operation);
+            if (maxP99 != null && p99 > maxP99) {
+                failures.add(String.format("%s p99 %.2f ms > %.2f ms", operation.key(), p99, maxP99));
+            }
+            if (operationStats.errorRate() > options.maxErrorRate) {
+                failures.add(String.format("%s error rate %.4f > %.4f", operation.key(),
+                        operationStats.errorRate(), options.maxErrorRate));
+            }
+        }
+
+        double throughput = totalServed / seconds;
+        System.out.printf("%nThroughput: %.0f req/s (target %.0f)%n", throughput, options.rate);
+        if (throughput < options.rate * options.minThroughputRatio) {
+            failures.add(String.format("throughput %.0f req/s < %.0f%% of %.0f", throughput,
+                    options.minThroughputRatio * 100, options.rate));
+        }
+        json.put("throughput", throughput);
+        json.putArray("failures").addAll(failures.stream().map(json::textNode).toList());
+
+        File result = new File(options.result);
+        if (result.getParentFile() != null) {
+            result.getParentFile().mkdirs();
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(result, json);
+        System.out.println("Result saved to " + result.getAbsolutePath());
+
+        failures.forEach(failure -> System.out.println("FAIL: " + failure));
+        return failures.isEmpty();
+    }
+
+    private static Operation[] buildMixTable(Map<Operation, Integer> mix) {
+        List<Operation> table = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(operation);
+            }
+        });
+        if (table.isEmpty()) {
+            throw new IllegalArgumentException("Empty --mix");
+        }
+        return table.toArray(Operation[]::new);
+    }
+}
@@ -0,0 +1,82 @@
+package com.flylink.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Opções da linha de comando, no formato --nome=valor.
+ *
+ * Argumentos --app.* e --spring.* são repassados à aplicação iniciada pelo
+ * próprio teste (ignorados com --target).
+ */
+final class LoadTestOptions {
+
+    // URL de uma instância já rodando; vazio = sobe a aplicação com Postgres (Testcontainers)
+    String target;
+    double rate = 2_000;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    Map<Operation, Integer> mix = parseMix("redirect=90,create=5,list=5");
+    int links = 10_000;
+    int users = 20;
+    double zipfExponent = 0.99;
+    int maxInFlight = 10_000;
+    String result = "target/loadtest-result.json";
+
+    // Limites: p99 do response time por operação, taxa de erro e vazão mínima (fração da taxa pedida)
+    Map<Operation, Double> maxP99Ms = parseDoubles("redirect=50,create=250,list=250");
+    double maxErrorRate = 0.001;
+    double minThroughputRatio = 0.95;
+
+    final Map<String, String> appProperties = new LinkedHashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+
+            if (name.startsWith("app.") || name.startsWith("spring.")) {
+                options.appProperties.put(name, value);
+                continue;
+            }
+            switch (name) {
+                case "target" -> options.target = value.isBlank() ? null : value;
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "warmup" -> options.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "mix" -> options.mix = parseMix(value);
+                case "links" -> options.links = Integer.parseInt(value);
+                case "users" -> options.users = Integer.parseInt(value);
+                case "zipf" -> options.zipfExponent = Double.parseDouble(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "result" -> options.result = value;
+                case "max-p99-ms" -> options.maxP99Ms = parseDoubles(value);
+                case "max-error-rate" -> options.maxErrorRate = Double.parseDouble(value);
+                case "min-throughput-ratio" -> options.minThroughputRatio = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return options;
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        parseDoubles(value).forEach((operation, weight) -> mix.put(operation, weight.intValue()));
+        return mix;
+    }
+
+    private static Map<Operation, Double> parseDoubles(String value) {
+        Map<Operation, Double> values = new EnumMap<>(Operation.class);
+        for (String pair : value.split(",")) {
+            String[] parts = pair.split("=");
+            values.put(Operation.fromKey(parts[0].trim()), Double.parseDouble(parts[1].trim()));
+        }
+        return values;
+    }
+}
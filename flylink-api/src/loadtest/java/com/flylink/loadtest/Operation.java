@@ -0,0 +1,30 @@
+package com.flylink.loadtest;
+
+/**
+ * Tipos de requisição do mix de carga.
+ */
+enum Operation {
+
+    REDIRECT("redirect"),
+    CREATE("create"),
+    LIST("list");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation: " + key);
+    }
+}
@@ -0,0 +1,55 @@
+package com.flylink.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências e erros de uma operação.
+ *
+ * responseTime é medido a partir do instante em que a requisição deveria
+ * ter saído (agenda open-loop), então inclui a espera causada por um
+ * servidor lento — a correção de coordinated omission. serviceTime é medido
+ * a partir do envio real, só para comparação.
+ */
+final class OperationStats {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    final Histogram responseTime = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    final Histogram serviceTime = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+    final LongAdder errors = new LongAdder();
+    final LongAdder dropped = new LongAdder();
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos) {
+        responseTime.recordValue(Math.min(endNanos - intendedStartNanos, MAX_TRACKABLE_NANOS));
+        serviceTime.recordValue(Math.min(endNanos - actualStartNanos, MAX_TRACKABLE_NANOS));
+    }
+
+    /**
+     * Requisições agendadas no período medido (respondidas ou descartadas).
+     * Denominador da taxa de erro — não serve para vazão, porque é sempre a
+     * taxa oferecida.
+     */
+    long requests() {
+        return responseTime.getTotalCount() + dropped.sum();
+    }
+
+    /**
+     * Requisições respondidas com sucesso: a base da vazão servida.
+     */
+    long served() {
+        return responseTime.getTotalCount() - errors.sum();
+    }
+
+    double errorRate() {
+        long requests = requests();
+        return requests == 0 ? 0 : (double) (errors.sum() + dropped.sum()) / requests;
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
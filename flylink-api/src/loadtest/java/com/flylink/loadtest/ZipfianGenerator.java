@@ -0,0 +1,41 @@
+package com.flylink.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sorteia índices em [0, n) com popularidade Zipfian: o índice de rank k
+ * sai com probabilidade proporcional a 1 / (k + 1)^s.
+ *
+ * A CDF é pré-calculada; cada sorteio é uma busca binária, sem alocação.
+ */
+final class ZipfianGenerator {
+
+    private final double[] cdf;
+
+    ZipfianGenerator(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+    }
+
+    int next() {
+        double u = ThreadLocalRandom.current().nextDouble();
+        int low = 0;
+        int high = cdf.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (cdf[mid] < u) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,39 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades das API keys de clientes de máquina.
+ * Prefixo: app.api-key
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.api-key")
+public class ApiKeyProperties {
+
+    // Header onde o cliente envia a chave
+    @NotBlank
+    private String header = "X-API-Key";
+
+    // Chaves (prefixos) mantidas em memória
+    @Positive
+    private int cacheMaxSize = 10_000;
+
+    // Rede de segurança: mesmo sem a invalidação chegar, a entrada é relida após esse tempo
+    @Positive
+    private long cacheTtlMs = 600_000;
+
+    // Prefixos inexistentes ou revogados lembrados à parte, para não expulsar chaves válidas
+    @Positive
+    private int negativeCacheMaxSize = 100_000;
+
+    // Curto: uma chave criada depois de o prefixo ser lembrado como inexistente volta a valer após esse tempo
+    @Positive
+    private long negativeCacheTtlMs = 60_000;
+}
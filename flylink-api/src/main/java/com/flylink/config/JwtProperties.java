@@ -0,0 +1,37 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do JWT externalizadas via application.yml.
+ * Prefixo: app.jwt
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+
+    // Chave secreta para assinar os tokens (mínimo 256 bits para HMAC-SHA)
+    @NotBlank(message = "A chave secreta JWT é obrigatória")
+    private String secret;
+
+    // Tempo de expiração do access token em milissegundos
+    private long expirationMs = 900_000; // 15 minutos padrão
+
+    // Validade do refresh token (renovado a cada uso)
+    private long refreshExpirationMs = 2_592_000_000L; // 30 dias
+
+    // Intervalo de sincronização da lista de tokens revogados entre os nós
+    private long revocationSyncMs = 5_000;
+
+    // Dimensionamento do Bloom filter da lista de revogação (~1% de falso positivo)
+    private int revocationExpectedTokens = 100_000;
+
+    // Intervalo da limpeza de refresh tokens e revogações expiradas
+    private long purgeIntervalMs = 3_600_000;
+}
@@ -0,0 +1,43 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades da proteção contra credential stuffing no login.
+ * Prefixo: app.login-guard
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.login-guard")
+public class LoginGuardProperties {
+
+    private boolean enabled = true;
+
+    // Falhas (com decaimento) de um mesmo email a partir das quais o login é bloqueado
+    @Positive
+    private int emailThreshold = 5;
+
+    // Falhas (com decaimento) de um mesmo IP a partir das quais o login é bloqueado
+    @Positive
+    private int ipThreshold = 20;
+
+    // Meia-vida das falhas: a cada intervalo destes, a contagem cai pela metade
+    @Positive
+    private long halfLifeMs = 300_000;
+
+    // Primeiro bloqueio; dobra a cada falha acima do limite
+    @Positive
+    private long baseBackoffMs = 1_000;
+
+    @Positive
+    private long maxBackoffMs = 900_000;
+
+    // Emails/IPs rastreados por dimensão; os menos frequentes saem primeiro
+    @Positive
+    private int maxTrackedKeys = 100_000;
+}
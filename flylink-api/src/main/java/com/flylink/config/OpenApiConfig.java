@@ -7,6 +7,7 @@ import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.info.License;
 import io.swagger.v3.oas.models.security.SecurityScheme;
 import io.swagger.v3.oas.models.servers.Server;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,8 +16,13 @@ import java.util.List;
 /**
  * Configuração do OpenAPI/Swagger.
  * Define informações da API e esquema de autenticação JWT.
+ *
+ * Fonte única dos metadados: o openapi.json servido em produção é gerado no
+ * build (OpenApiSpecGenerator) a partir desta mesma configuração. Com o
+ * springdoc desligado (perfil prod) não é carregada.
  */
 @Configuration
+@ConditionalOnProperty(name = "springdoc.api-docs.enabled", matchIfMissing = true)
 public class OpenApiConfig {
 
         @Bean
@@ -43,6 +49,11 @@ public class OpenApiConfig {
                                                                 .type(SecurityScheme.Type.HTTP)
                                                                 .scheme("bearer")
                                                                 .bearerFormat("JWT")
-                                                                .description("Token JWT obtido via /api/v1/auth/login")));
+                                                                .description("Token JWT obtido via /api/v1/auth/login"))
+                                                .addSecuritySchemes("apiKeyAuth", new SecurityScheme()
+                                                                .type(SecurityScheme.Type.APIKEY)
+                                                                .in(SecurityScheme.In.HEADER)
+                                                                .name("X-API-Key")
+                                                                .description("API key criada em /api/v1/api-keys")));
         }
 }
@@ -0,0 +1,42 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do hashing de senhas (BCrypt) e do pool dedicado a ele.
+ * Prefixo: app.password-hashing
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.password-hashing")
+public class PasswordHashingProperties {
+
+    // Work factor do BCrypt (2^strength rodadas); senhas com outro fator são refeitas no login
+    @Min(4)
+    @Max(31)
+    private int strength = 10;
+
+    // Threads do pool; 0 = metade dos núcleos (mínimo 1), deixando CPU para o redirect
+    @PositiveOrZero
+    private int poolSize = 0;
+
+    // Pedidos aguardando uma thread; acima disso o login/registro falha na hora com 503
+    @Positive
+    private int queueCapacity = 32;
+
+    // Tempo máximo esperando o resultado (fila + hash)
+    @Positive
+    private long timeoutMs = 5_000;
+
+    public int resolvedPoolSize() {
+        return poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+}
@@ -1,9 +1,11 @@
 package com.flylink.config;
 
+import com.flylink.infrastructure.security.ApiKeyAuthenticationFilter;
 import com.flylink.infrastructure.security.CustomAccessDeniedHandler;
 import com.flylink.infrastructure.security.CustomAuthenticationEntryPoint;
 import com.flylink.infrastructure.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -18,6 +20,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -36,17 +39,21 @@ import java.util.List;
  */
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties({ JwtProperties.class, CorsProperties.class })
+@EnableConfigurationProperties({ JwtProperties.class, CorsProperties.class, PasswordHashingProperties.class,
+                LoginGuardProperties.class, ApiKeyProperties.class })
 @RequiredArgsConstructor
 public class SecurityConfig {
 
         private final JwtAuthenticationFilter jwtAuthenticationFilter;
+        private final ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
         private final CustomAuthenticationEntryPoint authenticationEntryPoint;
         private final CustomAccessDeniedHandler accessDeniedHandler;
         private final CorsProperties corsProperties;
 
         @Bean
-        public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        public SecurityFilterChain securityFilterChain(
+                        HttpSecurity http,
+                        @Value("${management.server.port:-1}") int managementPort) throws Exception {
                 return http
                                 .csrf(AbstractHttpConfigurer::disable)
                                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -64,10 +71,16 @@ public class SecurityConfig {
 
                                                 // Rotas públicas — redirecionamento e health
                                                 .requestMatchers(HttpMethod.GET, "/health").permitAll()
+                                                .requestMatchers(HttpMethod.GET, "/health/ready").permitAll()
                                                 .requestMatchers(HttpMethod.GET, "/{code}").permitAll()
 
-                                                // Rotas públicas — documentação Swagger/OpenAPI
+                                                // Scrape do Prometheus — aberto só na porta de gerenciamento (interna)
+                                                .requestMatchers(prometheusScrape(managementPort)).permitAll()
+
+                                                // Rotas públicas — documentação Swagger/OpenAPI (openapi.json gerado no build)
                                                 .requestMatchers(
+                                                                "/openapi.json",
+                                                                "/docs.html",
                                                                 "/swagger-ui/**",
                                                                 "/swagger-ui.html",
                                                                 "/api-docs/**",
@@ -78,12 +91,28 @@ public class SecurityConfig {
                                                 .anyRequest().authenticated())
 
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                                .addFilterBefore(apiKeyAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                                 .build();
         }
 
+        /**
+         * GET /actuator/prometheus recebido na porta de gerenciamento
+         * (management.server.port, ligada a uma interface interna). Na porta
+         * pública, ou sem porta própria, o endpoint exige autenticação.
+         */
+        private static RequestMatcher prometheusScrape(int managementPort) {
+                return request -> managementPort > 0
+                                && request.getLocalPort() == managementPort
+                                && HttpMethod.GET.matches(request.getMethod())
+                                && "/actuator/prometheus".equals(request.getRequestURI());
+        }
+
+        /**
+         * O AuthService usa o encoder através do PasswordHasher (pool dedicado).
+         */
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
+        public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties) {
+                return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
         }
 
         @Bean
@@ -0,0 +1,67 @@
+package com.flylink.domain.service;
+
+import com.flylink.domain.exception.ApiKeyNotFoundException;
+import com.flylink.domain.model.IssuedApiKey;
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import com.flylink.infrastructure.persistence.repository.ApiKeyJpaRepository;
+import com.flylink.infrastructure.security.ApiKeyCache;
+import com.flylink.infrastructure.security.ApiKeys;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Serviço de API keys — criação, listagem e revogação.
+ */
+@Service
+@RequiredArgsConstructor
+public class ApiKeyService {
+
+    private final ApiKeyJpaRepository repository;
+    private final ApiKeyCache apiKeyCache;
+
+    /**
+     * Cria uma chave para o usuário. Só o prefixo e o SHA-256 são gravados.
+     *
+     * @param userId ID do usuário autenticado
+     * @param name   Nome da integração
+     * @return Chave criada, com o texto plano para exibir uma única vez
+     */
+    @Transactional
+    public IssuedApiKey create(Long userId, String name) {
+        String rawKey = ApiKeys.generate();
+
+        ApiKeyEntity apiKey = repository.save(ApiKeyEntity.builder()
+                .userId(userId)
+                .name(name)
+                .prefix(ApiKeys.prefixOf(rawKey))
+                .keyHash(ApiKeys.hexDigest(rawKey))
+                .build());
+
+        return new IssuedApiKey(apiKey, rawKey);
+    }
+
+    public List<ApiKeyEntity> findAllByUser(Long userId) {
+        return repository.findAllByUserIdOrderByCreatedAtDesc(userId);
+    }
+
+    /**
+     * Revoga a chave e propaga a revogação para o cache de todos os nós.
+     *
+     * @throws ApiKeyNotFoundException se a chave não existir ou for de outro usuário
+     */
+    @Transactional
+    public void revoke(Long id, Long userId) {
+        ApiKeyEntity apiKey = repository.findByIdAndUserId(id, userId)
+                .orElseThrow(() -> new ApiKeyNotFoundException(id));
+
+        if (!apiKey.isRevoked()) {
+            apiKey.setRevokedAt(OffsetDateTime.now());
+            repository.save(apiKey);
+            apiKeyCache.invalidate(apiKey.getPrefix());
+        }
+    }
+}
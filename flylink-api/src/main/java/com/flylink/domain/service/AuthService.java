@@ -0,0 +1,121 @@
+package com.flylink.domain.service;
+
+import com.flylink.domain.exception.EmailAlreadyExistsException;
+import com.flylink.domain.exception.RateLimitExceededException;
+import com.flylink.domain.model.TokenPair;
+import com.flylink.infrastructure.persistence.entity.UserEntity;
+import com.flylink.infrastructure.persistence.repository.UserJpaRepository;
+import com.flylink.infrastructure.security.AccessTokenClaims;
+import com.flylink.infrastructure.security.LoginAttemptGuard;
+import com.flylink.infrastructure.security.PasswordHasher;
+import com.flylink.web.dto.AuthResponse;
+import com.flylink.web.dto.TokenResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serviço de autenticação — registro e login.
+ * Toda lógica de negócio de auth concentrada aqui.
+ *
+ * O BCrypt roda no {@link PasswordHasher}, fora de transação: nenhuma
+ * conexão do banco fica presa durante o hash.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthService {
+
+    private final UserJpaRepository userRepository;
+    private final PasswordHasher passwordHasher;
+    private final TokenService tokenService;
+    private final LoginAttemptGuard loginAttemptGuard;
+
+    /**
+     * Registra um novo usuário.
+     *
+     * @param name     Nome do usuário
+     * @param email    Email (deve ser único)
+     * @param password Senha em texto plano (será hashada)
+     * @return Resposta com os tokens e dados do usuário
+     * @throws EmailAlreadyExistsException se o email já estiver cadastrado
+     */
+    public AuthResponse register(String name, String email, String password) {
+        if (userRepository.existsByEmail(email)) {
+            throw new EmailAlreadyExistsException(email);
+        }
+
+        UserEntity user = UserEntity.builder()
+                .name(name)
+                .email(email)
+                .password(passwordHasher.encode(password))
+                .build();
+
+        UserEntity savedUser = userRepository.save(user);
+
+        return toResponse(savedUser, tokenService.issue(savedUser.getId(), savedUser.getEmail()));
+    }
+
+    /**
+     * Autentica um usuário com email e senha.
+     * Se o hash foi gerado com outro work factor, é refeito com o atual.
+     *
+     * Email ou IP com muitas falhas recentes é recusado antes de consultar
+     * o banco ou rodar o BCrypt.
+     *
+     * @param email    Email do usuário
+     * @param password Senha em texto plano
+     * @param clientIp IP de origem da requisição
+     * @return Resposta com os tokens e dados do usuário
+     * @throws BadCredentialsException se as credenciais forem inválidas
+     * @throws RateLimitExceededException se o email ou o IP está bloqueado
+     */
+    public AuthResponse login(String email, String password, String clientIp) {
+        loginAttemptGuard.checkAllowed(email, clientIp);
+
+        UserEntity user = userRepository.findByEmail(email).orElse(null);
+        if (user == null || !passwordHasher.matches(password, user.getPassword())) {
+            loginAttemptGuard.recordFailure(email, clientIp);
+            throw new BadCredentialsException("Credenciais inválidas");
+        }
+        loginAttemptGuard.recordSuccess(email);
+
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            user.setPassword(passwordHasher.encode(password));
+            userRepository.save(user);
+        }
+
+        return toResponse(user, tokenService.issue(user.getId(), user.getEmail()));
+    }
+
+    /**
+     * Troca o refresh token por um novo par; o token apresentado deixa de valer.
+     *
+     * @throws BadCredentialsException se o refresh token é inválido, expirou ou já foi usado
+     */
+    public TokenResponse refresh(String refreshToken) {
+        TokenPair tokens = tokenService.rotate(refreshToken);
+
+        return TokenResponse.builder()
+                .token(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
+                .expiresIn(tokens.expiresIn())
+                .build();
+    }
+
+    /**
+     * Encerra a sessão do refresh token e revoga o access token em uso, se houver.
+     */
+    public void logout(String refreshToken, AccessTokenClaims accessToken) {
+        tokenService.logout(refreshToken, accessToken);
+    }
+
+    private AuthResponse toResponse(UserEntity user, TokenPair tokens) {
+        return AuthResponse.builder()
+                .token(tokens.accessToken())
+                .refreshToken(tokens.refreshToken())
+                .expiresIn(tokens.expiresIn())
+                .name(user.getName())
+                .email(user.getEmail())
+                .build();
+    }
+}
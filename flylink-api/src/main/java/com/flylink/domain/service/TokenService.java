@@ -0,0 +1,146 @@
+package com.flylink.domain.service;
+
+import com.flylink.config.JwtProperties;
+import com.flylink.domain.model.TokenPair;
+import com.flylink.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.flylink.infrastructure.persistence.entity.UserEntity;
+import com.flylink.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import com.flylink.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import com.flylink.infrastructure.persistence.repository.UserJpaRepository;
+import com.flylink.infrastructure.security.AccessTokenClaims;
+import com.flylink.infrastructure.security.JwtTokenProvider;
+import com.flylink.infrastructure.security.Sha256;
+import com.flylink.infrastructure.security.TokenRevocationList;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emissão, rotação e revogação de tokens.
+ *
+ * Cada login abre uma família de refresh tokens; cada renovação consome o
+ * token atual e emite o próximo da mesma família. Reapresentar um token já
+ * consumido indica vazamento, e a família inteira é revogada; um token
+ * revogado pelo logout é só recusado.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenService {
+
+    private static final int REFRESH_TOKEN_BYTES = 32;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenJpaRepository refreshTokenRepository;
+    private final RevokedTokenJpaRepository revokedTokenRepository;
+    private final UserJpaRepository userRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * Emite um par de tokens abrindo uma nova família (login ou registro).
+     */
+    public TokenPair issue(Long userId, String email) {
+        return issue(userId, email, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Troca um refresh token válido por um novo par.
+     *
+     * @throws BadCredentialsException se o token é desconhecido, expirou, foi
+     *                                 revogado ou já foi usado (neste caso a
+     *                                 família é revogada)
+     */
+    @Transactional(noRollbackFor = BadCredentialsException.class)
+    public TokenPair rotate(String rawRefreshToken) {
+        RefreshTokenEntity current = refreshTokenRepository.findByTokenHash(Sha256.hex(rawRefreshToken))
+                .orElseThrow(() -> new BadCredentialsException("Refresh token inválido"));
+
+        OffsetDateTime now = OffsetDateTime.now();
+        if (current.isConsumed()) {
+            throw reuseDetected(current, now);
+        }
+        // Revogado sem ter sido consumido: logout ou família já revogada, não é reuso
+        if (current.isRevoked()) {
+            throw new BadCredentialsException("Refresh token inválido");
+        }
+        if (refreshTokenRepository.consume(current.getId(), now) == 0) {
+            // Outra requisição chegou antes: renovação concorrente (reuso) ou logout
+            if (refreshTokenRepository.existsByIdAndConsumedAtIsNotNull(current.getId())) {
+                throw reuseDetected(current, now);
+            }
+            throw new BadCredentialsException("Refresh token inválido");
+        }
+        if (current.isExpired()) {
+            throw new BadCredentialsException("Refresh token expirado");
+        }
+
+        UserEntity user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new BadCredentialsException("Refresh token inválido"));
+        return issue(user.getId(), user.getEmail(), current.getFamilyId());
+    }
+
+    /**
+     * Encerra a sessão: revoga a família do refresh token e, se informado,
+     * o access token em uso.
+     */
+    @Transactional
+    public void logout(String rawRefreshToken, AccessTokenClaims accessToken) {
+        if (rawRefreshToken != null) {
+            refreshTokenRepository.findByTokenHash(Sha256.hex(rawRefreshToken))
+                    .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), OffsetDateTime.now()));
+        }
+        if (accessToken != null) {
+            revocationList.revoke(accessToken.tokenId(), accessToken.expiresAt());
+        }
+    }
+
+    /**
+     * Remove refresh tokens e revogações cujo token já expirou.
+     */
+    @Scheduled(initialDelayString = "${app.jwt.purge-interval-ms:3600000}", fixedDelayString = "${app.jwt.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        OffsetDateTime now = OffsetDateTime.now();
+        int refreshTokens = refreshTokenRepository.deleteExpired(now);
+        int revokedTokens = revokedTokenRepository.deleteExpired(now);
+        if (refreshTokens > 0 || revokedTokens > 0) {
+            log.info("Purged {} expired refresh tokens and {} revoked access tokens", refreshTokens, revokedTokens);
+        }
+    }
+
+    private TokenPair issue(Long userId, String email, String familyId) {
+        byte[] secret = new byte[REFRESH_TOKEN_BYTES];
+        RANDOM.nextBytes(secret);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+
+        refreshTokenRepository.save(RefreshTokenEntity.builder()
+                .userId(userId)
+                .tokenHash(Sha256.hex(refreshToken))
+                .familyId(familyId)
+                .expiresAt(OffsetDateTime.now().plusNanos(jwtProperties.getRefreshExpirationMs() * 1_000_000))
+                .build());
+
+        return new TokenPair(
+                jwtTokenProvider.generateToken(userId, email),
+                refreshToken,
+                jwtProperties.getExpirationMs() / 1000);
+    }
+
+    // Token já consumido apresentado de novo: vazamento, a família inteira cai
+    private BadCredentialsException reuseDetected(RefreshTokenEntity token, OffsetDateTime now) {
+        refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+        log.warn("Refresh token reuse detected for user {}, family {} revoked", token.getUserId(),
+                token.getFamilyId());
+        return new BadCredentialsException("Refresh token inválido");
+    }
+}
@@ -0,0 +1,11 @@
+package com.flylink.infrastructure.security;
+
+import java.time.Instant;
+
+/**
+ * Dados de um access token já validado.
+ *
+ * @param tokenId jti — null em tokens emitidos antes da revogação existir
+ */
+public record AccessTokenClaims(Long userId, String tokenId, Instant expiresAt) {
+}
@@ -0,0 +1,56 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.ApiKeyProperties;
+import com.flylink.infrastructure.timing.ServerTiming;
+import com.flylink.infrastructure.timing.TimingPhase;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+/**
+ * Autentica clientes de máquina pela API key (header X-API-Key).
+ *
+ * Mesmo principal do JWT (userId), então controllers e rate limiting não
+ * distinguem os dois — exceto onde o tipo {@link ApiKeyAuthenticationToken}
+ * é checado (criação de chaves). Chave inválida ou revogada: segue sem autenticação
+ * e o Spring Security responde 401 nas rotas protegidas.
+ */
+@Component
+public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
+
+    private final ApiKeyCache apiKeyCache;
+    private final String header;
+
+    public ApiKeyAuthenticationFilter(ApiKeyCache apiKeyCache, ApiKeyProperties properties) {
+        this.apiKeyCache = apiKeyCache;
+        this.header = properties.getHeader();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        long timing = ServerTiming.start();
+        String rawKey = request.getHeader(header);
+
+        if (rawKey != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            Long userId = apiKeyCache.authenticate(rawKey);
+            if (userId != null) {
+                ApiKeyAuthenticationToken authentication = new ApiKeyAuthenticationToken(userId);
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+        ServerTiming.stop(TimingPhase.AUTH, timing);
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,17 @@
+package com.flylink.infrastructure.security;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Collections;
+
+/**
+ * Autenticação por API key. O principal continua sendo o userId, como no
+ * JWT; o tipo próprio só existe para as rotas que exigem o login do usuário
+ * (uma chave não pode emitir outras chaves).
+ */
+public class ApiKeyAuthenticationToken extends UsernamePasswordAuthenticationToken {
+
+    public ApiKeyAuthenticationToken(Long userId) {
+        super(userId, null, Collections.emptyList());
+    }
+}
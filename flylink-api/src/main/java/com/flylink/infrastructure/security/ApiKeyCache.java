@@ -0,0 +1,139 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.ApiKeyProperties;
+import com.flylink.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.flylink.infrastructure.cache.invalidation.InvalidationListener;
+import com.flylink.infrastructure.persistence.repository.ApiKeyJpaRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+
+/**
+ * Resolve API keys para o userId com um SHA-256 e uma busca em memória.
+ *
+ * Cache limitado prefixo → (userId, digest). Prefixos desconhecidos ou
+ * revogados vão para um cache negativo à parte, também limitado e com TTL
+ * curto: chaves inventadas não repetem a consulta ao banco nem expulsam as
+ * chaves válidas do cache principal. A comparação do digest é em tempo
+ * constante.
+ *
+ * Revogações são publicadas no {@link CacheInvalidationBus} (como
+ * "apikey:prefixo", que não colide com códigos de URL) para que todos os
+ * nós descartem a entrada.
+ */
+@Component
+public class ApiKeyCache implements InvalidationListener, MeterBinder {
+
+    static final String INVALIDATION_PREFIX = "apikey:";
+
+    private final Cache<String, Entry> cache;
+    private final Cache<String, Boolean> unknown;
+    private final ApiKeyJpaRepository repository;
+    private final CacheInvalidationBus invalidationBus;
+
+    public ApiKeyCache(ApiKeyProperties properties, ApiKeyJpaRepository repository,
+            CacheInvalidationBus invalidationBus) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getCacheTtlMs()))
+                .build();
+        this.unknown = Caffeine.newBuilder()
+                .maximumSize(properties.getNegativeCacheMaxSize())
+                .expireAfterWrite(Duration.ofMillis(properties.getNegativeCacheTtlMs()))
+                .build();
+        this.repository = repository;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribe(this);
+    }
+
+    /**
+     * @return userId dono da chave, ou null se a chave é inválida ou foi revogada
+     */
+    public Long authenticate(String rawKey) {
+        String prefix = ApiKeys.prefixOf(rawKey);
+        if (prefix == null) {
+            return null;
+        }
+        if (unknown.getIfPresent(prefix) != null) {
+            return null;
+        }
+        Entry entry = cache.get(prefix, this::load);
+        if (entry == null) {
+            unknown.put(prefix, Boolean.TRUE);
+            return null;
+        }
+        if (!MessageDigest.isEqual(entry.digest(), ApiKeys.digest(rawKey))) {
+            return null;
+        }
+        return entry.userId();
+    }
+
+    /**
+     * Descarta a chave neste nó e nos demais — após o commit, se houver
+     * transação, para que ninguém recarregue a versão ainda não revogada.
+     */
+    public void invalidate(String prefix) {
+        discard(prefix);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    discard(prefix);
+                    invalidationBus.publish(INVALIDATION_PREFIX + prefix);
+                }
+            });
+        } else {
+            invalidationBus.publish(INVALIDATION_PREFIX + prefix);
+        }
+    }
+
+    @Override
+    public void onInvalidate(Collection<String> codes) {
+        for (String code : codes) {
+            if (code.startsWith(INVALIDATION_PREFIX)) {
+                discard(code.substring(INVALIDATION_PREFIX.length()));
+            }
+        }
+    }
+
+    @Override
+    public void onResync() {
+        cache.invalidateAll();
+        unknown.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flylink.apikey.cache.size", cache, Cache::estimatedSize)
+                .register(registry);
+        Gauge.builder("flylink.apikey.negative.cache.size", unknown, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    private void discard(String prefix) {
+        cache.invalidate(prefix);
+        unknown.invalidate(prefix);
+    }
+
+    // null: nada é guardado no cache principal
+    private Entry load(String prefix) {
+        return repository.findByPrefix(prefix)
+                .filter(key -> !key.isRevoked())
+                .map(key -> new Entry(key.getUserId(), HexFormat.of().parseHex(key.getKeyHash())))
+                .orElse(null);
+    }
+
+    private record Entry(Long userId, byte[] digest) {
+    }
+}
@@ -0,0 +1,52 @@
+package com.flylink.infrastructure.security;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Formato e hash das API keys: {@code flk_<prefixo>_<segredo>}.
+ *
+ * O prefixo (8 caracteres) é público e serve de chave de busca; o segredo
+ * tem 256 bits aleatórios. Como a chave já tem entropia total, SHA-256
+ * basta — BCrypt só faz sentido para senhas escolhidas por pessoas.
+ */
+public final class ApiKeys {
+
+    static final String KEY_PREFIX = "flk_";
+    private static final int PREFIX_LENGTH = 8;
+    private static final int SECRET_BYTES = 32;
+    private static final char[] PREFIX_ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789".toCharArray();
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private ApiKeys() {
+    }
+
+    public static String generate() {
+        StringBuilder key = new StringBuilder(KEY_PREFIX);
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            key.append(PREFIX_ALPHABET[RANDOM.nextInt(PREFIX_ALPHABET.length)]);
+        }
+        byte[] secret = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(secret);
+        return key.append('_').append(Base64.getUrlEncoder().withoutPadding().encodeToString(secret)).toString();
+    }
+
+    /**
+     * Prefixo público da chave, ou null se o formato for inválido.
+     */
+    public static String prefixOf(String rawKey) {
+        int end = KEY_PREFIX.length() + PREFIX_LENGTH;
+        if (rawKey == null || rawKey.length() <= end + 1 || !rawKey.startsWith(KEY_PREFIX) || rawKey.charAt(end) != '_') {
+            return null;
+        }
+        return rawKey.substring(KEY_PREFIX.length(), end);
+    }
+
+    public static byte[] digest(String rawKey) {
+        return Sha256.digest(rawKey);
+    }
+
+    public static String hexDigest(String rawKey) {
+        return Sha256.hex(rawKey);
+    }
+}
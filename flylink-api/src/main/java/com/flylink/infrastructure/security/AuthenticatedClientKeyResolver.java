@@ -0,0 +1,27 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.infrastructure.ratelimit.ClientKeyResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Chave do rate limiting nos nós de API: usuários autenticados (JWT ou API
+ * key) são limitados pelo userId, os demais pelo IP.
+ */
+@Component
+public class AuthenticatedClientKeyResolver implements ClientKeyResolver {
+
+    /**
+     * userId (Long, já em cache no principal) ou IP — nenhum dos dois aloca.
+     */
+    @Override
+    public Object clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return request.getRemoteAddr();
+    }
+}
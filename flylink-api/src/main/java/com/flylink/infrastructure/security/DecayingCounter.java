@@ -0,0 +1,39 @@
+package com.flylink.infrastructure.security;
+
+/**
+ * Contador com decaimento exponencial — aproxima "falhas na janela recente"
+ * com dois campos, sem guardar cada evento.
+ *
+ * Cada contador sincroniza só em si mesmo: logins de chaves diferentes não
+ * disputam lock.
+ */
+final class DecayingCounter {
+
+    private final double halfLifeNanos;
+    private double value;
+    private long lastNanos;
+
+    DecayingCounter(long halfLifeNanos) {
+        this.halfLifeNanos = halfLifeNanos;
+    }
+
+    synchronized void increment(long nowNanos) {
+        value = decayed(nowNanos) + 1;
+        lastNanos = nowNanos;
+    }
+
+    synchronized double value(long nowNanos) {
+        return decayed(nowNanos);
+    }
+
+    synchronized long lastNanos() {
+        return lastNanos;
+    }
+
+    private double decayed(long nowNanos) {
+        if (value == 0) {
+            return 0;
+        }
+        return value * Math.pow(0.5, (nowNanos - lastNanos) / halfLifeNanos);
+    }
+}
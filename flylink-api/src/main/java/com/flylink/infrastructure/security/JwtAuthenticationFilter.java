@@ -1,5 +1,8 @@
 package com.flylink.infrastructure.security;
 
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.timing.ServerTiming;
+import com.flylink.infrastructure.timing.TimingPhase;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,8 +24,9 @@ import java.util.Collections;
  * Fluxo:
  * 1. Extrai o token do header Authorization
  * 2. Valida assinatura e expiração
- * 3. Se válido, seta a autenticação no SecurityContext
- * 4. Se inválido ou ausente, deixa passar (Spring Security decide se a rota
+ * 3. Recusa tokens revogados (lista em memória, sem consulta ao banco)
+ * 4. Se válido, seta a autenticação no SecurityContext
+ * 5. Se inválido ou ausente, deixa passar (Spring Security decide se a rota
  * exige auth)
  */
 @Slf4j
@@ -31,6 +35,8 @@ import java.util.Collections;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationList revocationList;
+    private final HotPathMetrics metrics;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -41,22 +47,32 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        long timing = ServerTiming.start();
         String token = extractTokenFromRequest(request);
 
-        if (token != null && jwtTokenProvider.isTokenValid(token)) {
-            Long userId = jwtTokenProvider.extractUserId(token);
+        AccessTokenClaims claims = null;
+        boolean revoked = false;
+        if (token != null) {
+            long start = System.nanoTime();
+            claims = jwtTokenProvider.parse(token);
+            revoked = claims != null && revocationList.isRevoked(claims.tokenId());
+            metrics.recordJwtValidation(System.nanoTime() - start, claims != null, revoked);
+        }
 
+        if (claims != null && !revoked) {
             // Cria autenticação com userId como principal
             // Não precisamos carregar UserDetails do banco em toda request —
-            // o token já foi validado e contém o userId
-            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(userId, null,
-                    Collections.emptyList());
+            // o token já foi validado e contém o userId. As claims ficam como
+            // credenciais para o logout revogar o token em uso
+            UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                    claims.userId(), claims, Collections.emptyList());
 
             authentication.setDetails(
                     new WebAuthenticationDetailsSource().buildDetails(request));
 
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
+        ServerTiming.stop(TimingPhase.AUTH, timing);
 
         filterChain.doFilter(request, response);
     }
@@ -1,6 +1,7 @@
 package com.flylink.infrastructure.security;
 
 import com.flylink.config.JwtProperties;
+import com.flylink.infrastructure.profiling.TokenVerifiedEvent;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * Responsável por gerar e validar tokens JWT.
@@ -28,13 +30,15 @@ public class JwtTokenProvider {
     }
 
     /**
-     * Gera um token JWT contendo o userId como subject e o email como claim.
+     * Gera um access token JWT contendo o userId como subject, o email como
+     * claim e um id único (jti) usado para revogação.
      */
     public String generateToken(Long userId, String email) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(userId.toString())
                 .claim("email", email)
                 .issuedAt(now)
@@ -64,6 +68,33 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Valida o token e extrai userId, jti e expiração numa única verificação
+     * de assinatura.
+     *
+     * @return null se o token for inválido ou expirado
+     */
+    public AccessTokenClaims parse(String token) {
+        TokenVerifiedEvent event = TokenVerifiedEvent.start();
+        try {
+            Claims claims = extractClaims(token);
+            AccessTokenClaims parsed = new AccessTokenClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.getId(),
+                    claims.getExpiration().toInstant());
+            if (event != null) {
+                event.finish(true);
+            }
+            return parsed;
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Token JWT inválido: {}", ex.getMessage());
+            if (event != null) {
+                event.finish(false);
+            }
+            return null;
+        }
+    }
+
     private Claims extractClaims(String token) {
         return Jwts.parser()
                 .verifyWith(signingKey)
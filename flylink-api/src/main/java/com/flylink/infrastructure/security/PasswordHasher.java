@@ -0,0 +1,129 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.PasswordHashingProperties;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executa o BCrypt num pool próprio e limitado, fora das threads do Tomcat.
+ *
+ * Uma rajada de logins ocupa no máximo pool-size núcleos; o excedente
+ * espera numa fila curta e, com a fila cheia, falha na hora com
+ * {@link ServiceUnavailableException} (503) em vez de disputar CPU com o
+ * redirecionamento.
+ */
+@Component
+public class PasswordHasher implements MeterBinder, DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final int strength;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder rejected = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, PasswordHashingProperties properties) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = properties.getStrength();
+        this.timeoutMs = properties.getTimeoutMs();
+
+        int poolSize = properties.resolvedPoolSize();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * true se o hash foi gerado com um work factor diferente do configurado.
+     * Hashes fora do formato BCrypt ($2a$NN$...) não são tocados.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword, 4, 6, 10) != strength;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException("Muitas tentativas de autenticação simultâneas. Tente novamente.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException("Autenticação demorou demais. Tente novamente.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Autenticação interrompida. Tente novamente.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flylink.password.hash.queue.depth", this, PasswordHasher::queueDepth)
+                .description("Password hashing requests waiting for a pool thread")
+                .register(registry);
+        Gauge.builder("flylink.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(registry);
+        FunctionCounter.builder("flylink.password.hash.rejected", rejected, LongAdder::sum)
+                .description("Password hashing requests rejected because the pool was saturated or slow")
+                .register(registry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
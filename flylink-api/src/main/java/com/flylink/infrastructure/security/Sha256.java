@@ -0,0 +1,27 @@
+package com.flylink.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 de segredos com entropia total (API keys, refresh tokens).
+ */
+public final class Sha256 {
+
+    private Sha256() {
+    }
+
+    public static byte[] digest(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    public static String hex(String value) {
+        return HexFormat.of().formatHex(digest(value));
+    }
+}
@@ -0,0 +1,157 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.JwtProperties;
+import com.flylink.infrastructure.persistence.entity.RevokedTokenEntity;
+import com.flylink.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lista local de access tokens revogados (por jti), consultada a cada
+ * requisição autenticada sem ir ao banco.
+ *
+ * Bloom filter na frente de um conjunto exato: quase todo token não foi
+ * revogado e sai no primeiro teste; um positivo do Bloom é confirmado no
+ * conjunto, então falso positivo custa uma busca extra, nunca um 401.
+ *
+ * Cada nó relê periodicamente as revogações novas da tabela
+ * revoked_tokens; entradas cujo token já expirou são descartadas e o
+ * filtro é reconstruído.
+ */
+@Slf4j
+@Component
+public class TokenRevocationList implements MeterBinder {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenJpaRepository repository;
+    private final int expectedTokens;
+    // Margem para revogações gravadas em outro nó com commit atrasado
+    private final long overlapMs;
+    private final LongSupplier clock;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private final LongAdder falsePositives = new LongAdder();
+    private volatile BloomFilter filter;
+    private volatile long lastSyncMs = -1;
+
+    @Autowired
+    public TokenRevocationList(RevokedTokenJpaRepository repository, JwtProperties properties) {
+        this(repository, properties, System::currentTimeMillis);
+    }
+
+    TokenRevocationList(RevokedTokenJpaRepository repository, JwtProperties properties, LongSupplier clock) {
+        this.repository = repository;
+        this.expectedTokens = properties.getRevocationExpectedTokens();
+        this.overlapMs = Math.max(1_000, properties.getRevocationSyncMs() * 2);
+        this.clock = clock;
+        this.filter = BloomFilter.create(expectedTokens, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * @return true se o token foi revogado; tokens sem jti nunca estão na lista
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revoga o token em todos os nós: grava na tabela e já aplica neste nó;
+     * os demais o recebem na próxima sincronização.
+     */
+    public void revoke(String tokenId, Instant expiresAt) {
+        if (tokenId == null || revoked.containsKey(tokenId)) {
+            return;
+        }
+        if (!repository.existsByJti(tokenId)) {
+            repository.save(RevokedTokenEntity.builder()
+                    .jti(tokenId)
+                    .expiresAt(OffsetDateTime.ofInstant(expiresAt, ZoneOffset.UTC))
+                    .revokedAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(clock.getAsLong()), ZoneOffset.UTC))
+                    .build());
+        }
+        add(tokenId, expiresAt.toEpochMilli());
+    }
+
+    /**
+     * Carrega tudo na primeira execução e depois só o que foi revogado desde
+     * a última. Com o banco fora, mantém a lista atual.
+     */
+    @Scheduled(fixedDelayString = "${app.jwt.revocation-sync-ms:5000}")
+    public void sync() {
+        long now = clock.getAsLong();
+        long since = lastSyncMs < 0 ? 0 : lastSyncMs - overlapMs;
+
+        List<RevokedTokenEntity> rows;
+        try {
+            rows = repository.findAllByRevokedAtAfterAndExpiresAtAfter(toDateTime(since), toDateTime(now));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to sync revoked tokens, keeping {} local entries: {}", revoked.size(), ex.getMessage());
+            return;
+        }
+        for (RevokedTokenEntity row : rows) {
+            add(row.getJti(), row.getExpiresAt().toInstant().toEpochMilli());
+        }
+        lastSyncMs = now;
+
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+            rebuildFilter();
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flylink.token.revoked", revoked, Map::size)
+                .description("Revoked access tokens tracked by this node")
+                .register(registry);
+        FunctionCounter.builder("flylink.token.revocation.false.positives", falsePositives, LongAdder::sum)
+                .description("Bloom filter hits not confirmed by the exact set")
+                .register(registry);
+    }
+
+    private void add(String tokenId, long expiresAtMs) {
+        if (revoked.putIfAbsent(tokenId, expiresAtMs) == null) {
+            filter.put(tokenId);
+        }
+    }
+
+    // Revogações concorrentes com a troca podem faltar no filtro novo; por
+    // isso o conjunto exato é reinserido depois da publicação
+    private void rebuildFilter() {
+        BloomFilter rebuilt = BloomFilter.create(Math.max(expectedTokens, revoked.size() * 2), FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(rebuilt::put);
+        filter = rebuilt;
+        revoked.keySet().forEach(rebuilt::put);
+    }
+
+    private static OffsetDateTime toDateTime(long epochMs) {
+        return OffsetDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,103 @@
+package com.flylink.web.controller;
+
+import com.flylink.domain.model.IssuedApiKey;
+import com.flylink.domain.service.ApiKeyService;
+import com.flylink.infrastructure.security.ApiKeyAuthenticationToken;
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import com.flylink.web.dto.ApiKeyResponse;
+import com.flylink.web.dto.CreateApiKeyRequest;
+import com.flylink.web.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller REST para as API keys do usuário autenticado.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/api-keys", produces = "application/json")
+@RequiredArgsConstructor
+@Tag(name = "API keys", description = "Chaves de longa duração para integrações (header X-API-Key)")
+@SecurityRequirement(name = "bearerAuth")
+public class ApiKeyController {
+
+    private final ApiKeyService apiKeyService;
+
+    @Operation(summary = "Criar API key", description = "Cria uma chave para integrações. A chave completa é exibida apenas nesta resposta.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Chave criada", content = @Content(schema = @Schema(implementation = ApiKeyResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Autenticado por API key; criar chaves exige o login (JWT)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping
+    public ResponseEntity<ApiKeyResponse> create(
+            @Valid @RequestBody CreateApiKeyRequest request,
+            Authentication authentication) {
+        // Uma chave vazada não pode se perpetuar emitindo outras
+        if (authentication instanceof ApiKeyAuthenticationToken) {
+            throw new AccessDeniedException("Criar API keys exige autenticação por login (JWT)");
+        }
+        IssuedApiKey issued = apiKeyService.create(extractUserId(authentication), request.getName());
+        ApiKeyResponse response = toResponse(issued.apiKey());
+        response.setKey(issued.rawKey());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "Listar API keys", description = "Retorna as chaves do usuário (sem o segredo).")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Lista de chaves", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = ApiKeyResponse.class)))),
+            @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping
+    public ResponseEntity<List<ApiKeyResponse>> listAll(Authentication authentication) {
+        List<ApiKeyResponse> keys = apiKeyService.findAllByUser(extractUserId(authentication))
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(keys);
+    }
+
+    @Operation(summary = "Revogar API key", description = "Revoga a chave em todos os nós; requisições seguintes com ela recebem 401.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Chave revogada"),
+            @ApiResponse(responseCode = "401", description = "Não autenticado", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Chave não encontrada", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> revoke(
+            @Parameter(description = "ID da chave", example = "1") @PathVariable Long id,
+            Authentication authentication) {
+        apiKeyService.revoke(id, extractUserId(authentication));
+        return ResponseEntity.noContent().build();
+    }
+
+    private Long extractUserId(Authentication authentication) {
+        return (Long) authentication.getPrincipal();
+    }
+
+    private ApiKeyResponse toResponse(ApiKeyEntity apiKey) {
+        return ApiKeyResponse.builder()
+                .id(apiKey.getId())
+                .name(apiKey.getName())
+                .prefix(apiKey.getPrefix())
+                .createdAt(apiKey.getCreatedAt())
+                .revokedAt(apiKey.getRevokedAt())
+                .build();
+    }
+}
@@ -0,0 +1,94 @@
+package com.flylink.web.controller;
+
+import com.flylink.domain.service.AuthService;
+import com.flylink.infrastructure.security.AccessTokenClaims;
+import com.flylink.web.dto.*;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller REST para autenticação — registro, login, renovação e logout.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/auth", produces = "application/json")
+@RequiredArgsConstructor
+@Tag(name = "Autenticação", description = "Registro, login e sessão de usuários")
+public class AuthController {
+
+    private final AuthService authService;
+
+    @Operation(summary = "Registrar novo usuário", description = "Cria uma conta e retorna o par de tokens para autenticação imediata.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Usuário registrado com sucesso", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "Email já cadastrado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/register")
+    public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
+        AuthResponse response = authService.register(
+                request.getName(),
+                request.getEmail(),
+                request.getPassword());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "Login", description = "Autentica com email e senha, retorna um access token curto e um refresh token.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Login realizado com sucesso", content = @Content(schema = @Schema(implementation = AuthResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Muitas tentativas de login falhas", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/login")
+    public ResponseEntity<AuthResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest) {
+        // IP do cliente, já resolvido pelo Tomcat a partir do X-Forwarded-For de um proxy
+        // confiável (TRUSTED_PROXIES); nunca o header lido direto, que o cliente forjaria
+        AuthResponse response = authService.login(
+                request.getEmail(),
+                request.getPassword(),
+                httpRequest.getRemoteAddr());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "Renovar tokens", description = "Troca o refresh token por um novo par. Cada refresh token vale uma única vez; reutilizá-lo encerra a sessão.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Tokens renovados", content = @Content(schema = @Schema(implementation = TokenResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado ou já usado", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
+    @Operation(summary = "Logout", description = "Revoga o refresh token e, se enviado no header Authorization, o access token atual.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Sessão encerrada"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Valid @RequestBody RefreshTokenRequest request,
+            Authentication authentication) {
+        AccessTokenClaims accessToken = authentication != null
+                && authentication.getCredentials() instanceof AccessTokenClaims claims ? claims : null;
+        authService.logout(request.getRefreshToken(), accessToken);
+        return ResponseEntity.noContent().build();
+    }
+}
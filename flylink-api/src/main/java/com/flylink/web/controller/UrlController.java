@@ -1,5 +1,6 @@
 package com.flylink.web.controller;
 
+import com.flylink.domain.model.RedirectType;
 import com.flylink.domain.service.UrlShortenerService;
 import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
 import com.flylink.web.dto.CreateUrlRequest;
@@ -35,6 +36,7 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "URLs", description = "Operações de criação, listagem e gerenciamento de URLs encurtadas")
 @SecurityRequirement(name = "bearerAuth")
+@SecurityRequirement(name = "apiKeyAuth")
 public class UrlController {
 
         private final UrlShortenerService urlService;
@@ -59,7 +61,8 @@ public class UrlController {
                                 request.getCustomCode(),
                                 userId,
                                 request.getMaxClicks(),
-                                request.getExpiresAt());
+                                request.getExpiresAt(),
+                                request.getRedirectType());
                 return ResponseEntity
                                 .status(HttpStatus.CREATED)
                                 .body(toResponse(entity));
@@ -118,6 +121,7 @@ public class UrlController {
                                 request.getExpiresAt(),
                                 request.getCustomCode(),
                                 request.getMaxClicks(),
+                                request.getRedirectType(),
                                 userId);
                 return ResponseEntity.ok(toResponse(entity));
         }
@@ -194,6 +198,8 @@ public class UrlController {
                                 .lastClickAt(entity.getLastClickAt())
                                 .isActive(entity.getIsActive())
                                 .maxClicks(entity.getMaxClicks())
+                                .redirectType(entity.getRedirectType() != null ? entity.getRedirectType()
+                                                : RedirectType.FOUND)
                                 .build();
         }
 
@@ -0,0 +1,40 @@
+package com.flylink.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.OffsetDateTime;
+
+/**
+ * DTO de resposta de uma API key. A chave completa só vem na criação.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Dados de uma API key")
+public class ApiKeyResponse {
+
+    @Schema(description = "ID da chave", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Long id;
+
+    @Schema(description = "Nome da integração", example = "pipeline-ci", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String name;
+
+    @Schema(description = "Prefixo público da chave", example = "k3x9a0bz", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String prefix;
+
+    @Schema(description = "Chave completa — exibida apenas na criação, guarde-a em local seguro", example = "flk_k3x9a0bz_Zm9vYmFy...", nullable = true)
+    private String key;
+
+    @Schema(description = "Data de criação", requiredMode = Schema.RequiredMode.REQUIRED)
+    private OffsetDateTime createdAt;
+
+    @Schema(description = "Data de revogação (null se ativa)", nullable = true)
+    private OffsetDateTime revokedAt;
+}
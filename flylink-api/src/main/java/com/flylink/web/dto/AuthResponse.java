@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO de resposta após registro ou login bem-sucedido.
- * Retorna o token JWT e dados básicos do usuário.
+ * Retorna o par de tokens e dados básicos do usuário.
  */
 @Data
 @Builder
@@ -17,9 +17,15 @@ import lombok.NoArgsConstructor;
 @Schema(description = "Resposta de autenticação com token JWT")
 public class AuthResponse {
 
-    @Schema(description = "Token JWT para autenticação nas requisições protegidas", requiredMode = Schema.RequiredMode.REQUIRED)
+    @Schema(description = "Access token JWT para autenticação nas requisições protegidas", requiredMode = Schema.RequiredMode.REQUIRED)
     private String token;
 
+    @Schema(description = "Refresh token para obter um novo access token (uso único)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String refreshToken;
+
+    @Schema(description = "Validade do access token em segundos", example = "900", requiredMode = Schema.RequiredMode.REQUIRED)
+    private long expiresIn;
+
     @Schema(description = "Nome do usuário", example = "Gabriel Silva", requiredMode = Schema.RequiredMode.REQUIRED)
     private String name;
 
@@ -0,0 +1,25 @@
+package com.flylink.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para requisição de criação de API key.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Dados para criar uma API key")
+public class CreateApiKeyRequest {
+
+    @Schema(description = "Nome para identificar a integração", example = "pipeline-ci", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "O nome é obrigatório")
+    @Size(max = 100, message = "O nome deve ter no máximo 100 caracteres")
+    private String name;
+}
@@ -1,5 +1,6 @@
 package com.flylink.web.dto;
 
+import com.flylink.domain.model.RedirectType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -39,4 +40,7 @@ public class CreateUrlRequest {
     @Size(max = 50, message = "O código deve ter no máximo 50 caracteres")
     @Pattern(regexp = "^[a-zA-Z0-9-_]*$", message = "O código deve conter apenas letras, números, hífen e underscore")
     private String customCode;
+
+    @Schema(description = "Tipo do redirecionamento (opcional, padrão FOUND/302). Permanentes (301/308) podem ficar mais tempo em cache de navegadores e CDNs.", example = "MOVED_PERMANENTLY", nullable = true)
+    private RedirectType redirectType;
 }
@@ -0,0 +1,23 @@
+package com.flylink.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO para renovação de tokens e logout.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Refresh token recebido no login ou na última renovação")
+public class RefreshTokenRequest {
+
+    @Schema(description = "Refresh token", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotBlank(message = "O refresh token é obrigatório")
+    private String refreshToken;
+}
@@ -0,0 +1,27 @@
+package com.flylink.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta da renovação de tokens.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Novo par de tokens")
+public class TokenResponse {
+
+    @Schema(description = "Access token JWT para autenticação nas requisições protegidas", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String token;
+
+    @Schema(description = "Refresh token para a próxima renovação (o anterior deixa de valer)", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String refreshToken;
+
+    @Schema(description = "Validade do access token em segundos", example = "900", requiredMode = Schema.RequiredMode.REQUIRED)
+    private long expiresIn;
+}
@@ -1,5 +1,6 @@
 package com.flylink.web.dto;
 
+import com.flylink.domain.model.RedirectType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.Pattern;
@@ -39,4 +40,7 @@ public class UpdateUrlRequest {
     @Size(max = 50, message = "O código deve ter no máximo 50 caracteres")
     @Pattern(regexp = "^[a-zA-Z0-9-_]*$", message = "O código deve conter apenas letras, números, hífen e underscore")
     private String customCode;
+
+    @Schema(description = "Novo tipo de redirecionamento (opcional). Se não informado, mantém o atual.", example = "TEMPORARY_REDIRECT", nullable = true)
+    private RedirectType redirectType;
 }
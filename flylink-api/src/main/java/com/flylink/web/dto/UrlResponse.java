@@ -1,5 +1,6 @@
 package com.flylink.web.dto;
 
+import com.flylink.domain.model.RedirectType;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,4 +48,7 @@ public class UrlResponse {
 
     @Schema(description = "Número máximo de cliques permitido (pode ser null)", example = "100", nullable = true)
     private Long maxClicks;
+
+    @Schema(description = "Tipo do redirecionamento", example = "FOUND", requiredMode = Schema.RequiredMode.REQUIRED)
+    private RedirectType redirectType;
 }
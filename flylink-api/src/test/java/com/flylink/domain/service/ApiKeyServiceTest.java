@@ -0,0 +1,69 @@
+package com.flylink.domain.service;
+
+import com.flylink.domain.exception.ApiKeyNotFoundException;
+import com.flylink.domain.model.IssuedApiKey;
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import com.flylink.infrastructure.persistence.repository.ApiKeyJpaRepository;
+import com.flylink.infrastructure.security.ApiKeyCache;
+import com.flylink.infrastructure.security.ApiKeys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyServiceTest {
+
+    @Mock
+    private ApiKeyJpaRepository repository;
+
+    @Mock
+    private ApiKeyCache apiKeyCache;
+
+    @InjectMocks
+    private ApiKeyService apiKeyService;
+
+    @Test
+    @DisplayName("Deve gravar só o prefixo e o SHA-256 da chave criada")
+    void shouldStoreOnlyPrefixAndDigest() {
+        when(repository.save(any(ApiKeyEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        IssuedApiKey issued = apiKeyService.create(1L, "ci");
+
+        ApiKeyEntity saved = issued.apiKey();
+        assertEquals(ApiKeys.prefixOf(issued.rawKey()), saved.getPrefix());
+        assertEquals(ApiKeys.hexDigest(issued.rawKey()), saved.getKeyHash());
+        assertFalse(saved.getKeyHash().contains(issued.rawKey()));
+        assertEquals(1L, saved.getUserId());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a chave e invalidar o cache")
+    void shouldRevokeAndInvalidateCache() {
+        ApiKeyEntity apiKey = ApiKeyEntity.builder().id(5L).userId(1L).prefix("abcd1234").build();
+        when(repository.findByIdAndUserId(5L, 1L)).thenReturn(Optional.of(apiKey));
+
+        apiKeyService.revoke(5L, 1L);
+
+        assertTrue(apiKey.isRevoked());
+        verify(apiKeyCache).invalidate("abcd1234");
+    }
+
+    @Test
+    @DisplayName("Deve lançar ApiKeyNotFoundException ao revogar chave de outro usuário")
+    void shouldNotRevokeOtherUsersKey() {
+        when(repository.findByIdAndUserId(5L, 2L)).thenReturn(Optional.empty());
+
+        assertThrows(ApiKeyNotFoundException.class, () -> apiKeyService.revoke(5L, 2L));
+
+        verifyNoInteractions(apiKeyCache);
+    }
+}
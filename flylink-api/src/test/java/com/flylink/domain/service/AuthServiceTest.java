@@ -1,9 +1,12 @@
 package com.flylink.domain.service;
 
 import com.flylink.domain.exception.EmailAlreadyExistsException;
+import com.flylink.domain.exception.RateLimitExceededException;
+import com.flylink.domain.model.TokenPair;
 import com.flylink.infrastructure.persistence.entity.UserEntity;
 import com.flylink.infrastructure.persistence.repository.UserJpaRepository;
-import com.flylink.infrastructure.security.JwtTokenProvider;
+import com.flylink.infrastructure.security.LoginAttemptGuard;
+import com.flylink.infrastructure.security.PasswordHasher;
 import com.flylink.web.dto.AuthResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,7 +15,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
@@ -23,14 +25,19 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
 
+    private static final String CLIENT_IP = "10.0.0.1";
+
     @Mock
     private UserJpaRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
+
+    @Mock
+    private TokenService tokenService;
 
     @Mock
-    private JwtTokenProvider jwtTokenProvider;
+    private LoginAttemptGuard loginAttemptGuard;
 
     @InjectMocks
     private AuthService authService;
@@ -53,9 +60,9 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.existsByEmail(email)).thenReturn(false);
-        when(passwordEncoder.encode(password)).thenReturn(encodedPassword);
+        when(passwordHasher.encode(password)).thenReturn(encodedPassword);
         when(userRepository.save(any(UserEntity.class))).thenReturn(savedUser);
-        when(jwtTokenProvider.generateToken(1L, email)).thenReturn(token);
+        when(tokenService.issue(1L, email)).thenReturn(new TokenPair(token, "refresh", 900));
 
         // 2. ACT (Ação)
         AuthResponse response = authService.register(name, email, password);
@@ -63,6 +70,8 @@ class AuthServiceTest {
         // 3. ASSERT (Verificação)
         assertNotNull(response);
         assertEquals(token, response.getToken());
+        assertEquals("refresh", response.getRefreshToken());
+        assertEquals(900, response.getExpiresIn());
         assertEquals(name, response.getName());
         assertEquals(email, response.getEmail());
 
@@ -100,11 +109,11 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(password, encodedPassword)).thenReturn(true);
-        when(jwtTokenProvider.generateToken(1L, email)).thenReturn(token);
+        when(passwordHasher.matches(password, encodedPassword)).thenReturn(true);
+        when(tokenService.issue(1L, email)).thenReturn(new TokenPair(token, "refresh", 900));
 
         // 2. ACT
-        AuthResponse response = authService.login(email, password);
+        AuthResponse response = authService.login(email, password, CLIENT_IP);
 
         // 3. ASSERT
         assertNotNull(response);
@@ -121,7 +130,7 @@ class AuthServiceTest {
         when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
 
         // 2 & 3. ACT & ASSERT
-        assertThrows(BadCredentialsException.class, () -> authService.login(email, "password"));
+        assertThrows(BadCredentialsException.class, () -> authService.login(email, "password", CLIENT_IP));
     }
 
     @Test
@@ -139,9 +148,89 @@ class AuthServiceTest {
                 .build();
 
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
-        when(passwordEncoder.matches(password, encodedPassword)).thenReturn(false);
+        when(passwordHasher.matches(password, encodedPassword)).thenReturn(false);
 
         // 2 & 3. ACT & ASSERT
-        assertThrows(BadCredentialsException.class, () -> authService.login(email, password));
+        assertThrows(BadCredentialsException.class, () -> authService.login(email, password, CLIENT_IP));
+    }
+
+    @Test
+    @DisplayName("Deve refazer o hash da senha no login quando o work factor mudou")
+    void shouldRehashPasswordOnLoginWhenWorkFactorChanged() {
+        // 1. ARRANGE
+        String email = "test@example.com";
+        String password = "password123";
+
+        UserEntity user = UserEntity.builder()
+                .id(1L)
+                .name("Test User")
+                .email(email)
+                .password("$2a$10$oldHash")
+                .build();
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches(password, "$2a$10$oldHash")).thenReturn(true);
+        when(passwordHasher.needsRehash("$2a$10$oldHash")).thenReturn(true);
+        when(passwordHasher.encode(password)).thenReturn("$2a$12$newHash");
+        when(tokenService.issue(1L, email)).thenReturn(new TokenPair("token", "refresh", 900));
+
+        // 2. ACT
+        authService.login(email, password, CLIENT_IP);
+
+        // 3. ASSERT
+        assertEquals("$2a$12$newHash", user.getPassword());
+        verify(userRepository).save(user);
+    }
+
+    @Test
+    @DisplayName("Não deve refazer o hash quando o work factor é o atual")
+    void shouldNotRehashWhenWorkFactorIsCurrent() {
+        // 1. ARRANGE
+        String email = "test@example.com";
+
+        UserEntity user = UserEntity.builder()
+                .id(1L)
+                .email(email)
+                .password("$2a$10$hash")
+                .build();
+
+        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(passwordHasher.matches("password", "$2a$10$hash")).thenReturn(true);
+        when(passwordHasher.needsRehash("$2a$10$hash")).thenReturn(false);
+        when(tokenService.issue(1L, email)).thenReturn(new TokenPair("token", "refresh", 900));
+
+        // 2. ACT
+        authService.login(email, "password", CLIENT_IP);
+
+        // 3. ASSERT
+        verify(passwordHasher, never()).encode(any());
+        verify(userRepository, never()).save(any(UserEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve registrar a falha no guard quando a senha estiver incorreta")
+    void shouldRecordFailureWhenLoginFails() {
+        // 1. ARRANGE
+        String email = "notfound@example.com";
+        when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
+
+        // 2. ACT
+        assertThrows(BadCredentialsException.class, () -> authService.login(email, "password", CLIENT_IP));
+
+        // 3. ASSERT
+        verify(loginAttemptGuard).recordFailure(email, CLIENT_IP);
+    }
+
+    @Test
+    @DisplayName("Deve recusar login bloqueado sem consultar o banco nem o BCrypt")
+    void shouldRejectBlockedLoginBeforeDatabaseAndBcrypt() {
+        // 1. ARRANGE
+        String email = "victim@example.com";
+        doThrow(new RateLimitExceededException(30)).when(loginAttemptGuard).checkAllowed(email, CLIENT_IP);
+
+        // 2 & 3. ACT & ASSERT
+        assertThrows(RateLimitExceededException.class, () -> authService.login(email, "password", CLIENT_IP));
+
+        verifyNoInteractions(userRepository, passwordHasher);
     }
 }
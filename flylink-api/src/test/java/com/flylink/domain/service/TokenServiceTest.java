@@ -0,0 +1,171 @@
+package com.flylink.domain.service;
+
+import com.flylink.config.JwtProperties;
+import com.flylink.domain.model.TokenPair;
+import com.flylink.infrastructure.persistence.entity.RefreshTokenEntity;
+import com.flylink.infrastructure.persistence.entity.UserEntity;
+import com.flylink.infrastructure.persistence.repository.RefreshTokenJpaRepository;
+import com.flylink.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import com.flylink.infrastructure.persistence.repository.UserJpaRepository;
+import com.flylink.infrastructure.security.AccessTokenClaims;
+import com.flylink.infrastructure.security.JwtTokenProvider;
+import com.flylink.infrastructure.security.Sha256;
+import com.flylink.infrastructure.security.TokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    @Mock
+    private RefreshTokenJpaRepository refreshTokenRepository;
+
+    @Mock
+    private RevokedTokenJpaRepository revokedTokenRepository;
+
+    @Mock
+    private UserJpaRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private TokenRevocationList revocationList;
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        tokenService = new TokenService(refreshTokenRepository, revokedTokenRepository, userRepository,
+                jwtTokenProvider, revocationList, properties);
+    }
+
+    @Test
+    @DisplayName("Deve emitir par de tokens gravando só o hash do refresh token")
+    void shouldIssueTokenPairStoringOnlyHash() {
+        when(jwtTokenProvider.generateToken(1L, "a@b.com")).thenReturn("access");
+
+        TokenPair tokens = tokenService.issue(1L, "a@b.com");
+
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("access", tokens.accessToken());
+        assertEquals(900, tokens.expiresIn());
+        assertEquals(Sha256.hex(tokens.refreshToken()), saved.getValue().getTokenHash());
+        assertNotNull(saved.getValue().getFamilyId());
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar o refresh token mantendo a família")
+    void shouldRotateWithinFamily() {
+        RefreshTokenEntity current = refreshToken(null);
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.consume(eq(10L), any())).thenReturn(1);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(UserEntity.builder().id(1L).email("a@b.com").build()));
+        when(jwtTokenProvider.generateToken(1L, "a@b.com")).thenReturn("access");
+
+        TokenPair tokens = tokenService.rotate("raw");
+
+        ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertEquals("family-1", saved.getValue().getFamilyId());
+        assertNotEquals("raw", tokens.refreshToken());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família inteira quando um refresh token é reutilizado")
+    void shouldRevokeFamilyOnReuse() {
+        OffsetDateTime consumedAt = OffsetDateTime.now().minusMinutes(1);
+        RefreshTokenEntity used = refreshToken(consumedAt, consumedAt);
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(used));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.rotate("raw"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve só recusar um refresh token revogado pelo logout, sem tratar como reuso")
+    void shouldRejectLoggedOutTokenWithoutReuseAlert() {
+        RefreshTokenEntity loggedOut = refreshToken(OffsetDateTime.now().minusMinutes(1), null);
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(loggedOut));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.rotate("raw"));
+
+        verify(refreshTokenRepository, never()).consume(any(), any());
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve revogar a família quando uma renovação concorrente consumiu o token antes")
+    void shouldRevokeFamilyWhenConcurrentRotationWins() {
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(refreshToken(null)));
+        when(refreshTokenRepository.consume(eq(10L), any())).thenReturn(0);
+        when(refreshTokenRepository.existsByIdAndConsumedAtIsNotNull(10L)).thenReturn(true);
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.rotate("raw"));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Não deve tratar como reuso um logout concorrente com a renovação")
+    void shouldNotRevokeFamilyWhenConcurrentLogoutWins() {
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(refreshToken(null)));
+        when(refreshTokenRepository.consume(eq(10L), any())).thenReturn(0);
+        when(refreshTokenRepository.existsByIdAndConsumedAtIsNotNull(10L)).thenReturn(false);
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.rotate("raw"));
+
+        verify(refreshTokenRepository, never()).revokeFamily(any(), any());
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve revogar o access token em uso no logout")
+    void shouldRevokeAccessTokenOnLogout() {
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        when(refreshTokenRepository.findByTokenHash(Sha256.hex("raw"))).thenReturn(Optional.of(refreshToken(null)));
+
+        tokenService.logout("raw", new AccessTokenClaims(1L, "jti-1", expiresAt));
+
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(revocationList).revoke("jti-1", expiresAt);
+    }
+
+    private RefreshTokenEntity refreshToken(OffsetDateTime revokedAt) {
+        return refreshToken(revokedAt, null);
+    }
+
+    private RefreshTokenEntity refreshToken(OffsetDateTime revokedAt, OffsetDateTime consumedAt) {
+        return RefreshTokenEntity.builder()
+                .id(10L)
+                .userId(1L)
+                .tokenHash(Sha256.hex("raw"))
+                .familyId("family-1")
+                .expiresAt(OffsetDateTime.now().plusDays(1))
+                .revokedAt(revokedAt)
+                .consumedAt(consumedAt)
+                .build();
+    }
+}
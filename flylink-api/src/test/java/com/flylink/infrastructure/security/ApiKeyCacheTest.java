@@ -0,0 +1,106 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.ApiKeyProperties;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import com.flylink.infrastructure.persistence.repository.ApiKeyJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyCacheTest {
+
+    @Mock
+    private ApiKeyJpaRepository repository;
+
+    private ApiKeyCache apiKeyCache;
+    private String rawKey;
+    private ApiKeyEntity apiKey;
+
+    @BeforeEach
+    void setUp() {
+        apiKeyCache = new ApiKeyCache(new ApiKeyProperties(), repository, new InMemoryCacheInvalidationBus(50));
+        rawKey = ApiKeys.generate();
+        apiKey = ApiKeyEntity.builder()
+                .id(1L)
+                .userId(42L)
+                .name("ci")
+                .prefix(ApiKeys.prefixOf(rawKey))
+                .keyHash(ApiKeys.hexDigest(rawKey))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve resolver a chave para o userId consultando o banco uma única vez")
+    void shouldAuthenticateAndCache() {
+        when(repository.findByPrefix(apiKey.getPrefix())).thenReturn(Optional.of(apiKey));
+
+        assertEquals(42L, apiKeyCache.authenticate(rawKey));
+        assertEquals(42L, apiKeyCache.authenticate(rawKey));
+
+        verify(repository, times(1)).findByPrefix(apiKey.getPrefix());
+    }
+
+    @Test
+    @DisplayName("Deve recusar chave com o prefixo certo e segredo errado")
+    void shouldRejectWrongSecret() {
+        when(repository.findByPrefix(apiKey.getPrefix())).thenReturn(Optional.of(apiKey));
+
+        String forged = rawKey.substring(0, rawKey.length() - 1) + (rawKey.endsWith("A") ? "B" : "A");
+
+        assertNull(apiKeyCache.authenticate(forged));
+    }
+
+    @Test
+    @DisplayName("Deve recusar formato inválido sem consultar o banco")
+    void shouldRejectMalformedKey() {
+        assertNull(apiKeyCache.authenticate("not-a-key"));
+        assertNull(apiKeyCache.authenticate("flk_short"));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Deve lembrar prefixos inexistentes sem expulsar as chaves válidas do cache")
+    void shouldCacheUnknownPrefixesApart() {
+        ApiKeyProperties properties = new ApiKeyProperties();
+        properties.setCacheMaxSize(1);
+        apiKeyCache = new ApiKeyCache(properties, repository, new InMemoryCacheInvalidationBus(50));
+        when(repository.findByPrefix(anyString())).thenReturn(Optional.empty());
+        when(repository.findByPrefix(apiKey.getPrefix())).thenReturn(Optional.of(apiKey));
+        assertEquals(42L, apiKeyCache.authenticate(rawKey));
+
+        List<String> forged = Stream.generate(ApiKeys::generate).limit(20).toList();
+        forged.forEach(key -> assertNull(apiKeyCache.authenticate(key)));
+        forged.forEach(key -> assertNull(apiKeyCache.authenticate(key)));
+
+        assertEquals(42L, apiKeyCache.authenticate(rawKey));
+        verify(repository, times(1)).findByPrefix(apiKey.getPrefix());
+        verify(repository, times(21)).findByPrefix(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a chave após revogação recebida de outro nó")
+    void shouldRejectAfterRemoteRevocation() {
+        when(repository.findByPrefix(apiKey.getPrefix())).thenReturn(Optional.of(apiKey));
+        assertEquals(42L, apiKeyCache.authenticate(rawKey));
+
+        apiKey.setRevokedAt(OffsetDateTime.now());
+        apiKeyCache.onInvalidate(List.of(ApiKeyCache.INVALIDATION_PREFIX + apiKey.getPrefix()));
+
+        assertNull(apiKeyCache.authenticate(rawKey));
+    }
+}
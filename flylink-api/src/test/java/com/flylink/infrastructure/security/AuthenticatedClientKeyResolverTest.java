@@ -0,0 +1,43 @@
+package com.flylink.infrastructure.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AuthenticatedClientKeyResolverTest {
+
+    private final AuthenticatedClientKeyResolver resolver = new AuthenticatedClientKeyResolver();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Deve usar o userId do principal quando autenticado")
+    void shouldUseUserIdWhenAuthenticated() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(42L, null, Collections.emptyList()));
+
+        assertEquals(42L, resolver.clientKey(requestFrom("1.1.1.1")));
+    }
+
+    @Test
+    @DisplayName("Deve usar o IP quando não autenticado")
+    void shouldUseRemoteAddressWhenAnonymous() {
+        assertEquals("1.1.1.1", resolver.clientKey(requestFrom("1.1.1.1")));
+    }
+
+    private MockHttpServletRequest requestFrom(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/abc1234");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+}
@@ -1,5 +1,6 @@
 package com.flylink.infrastructure.security;
 
+import com.flylink.infrastructure.metrics.HotPathMetrics;
 import jakarta.servlet.FilterChain;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.Instant;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -20,9 +23,18 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class JwtAuthenticationFilterTest {
 
+    private static final AccessTokenClaims CLAIMS = new AccessTokenClaims(1L, "jti-1",
+            Instant.now().plusSeconds(900));
+
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private TokenRevocationList revocationList;
+
+    @Mock
+    private HotPathMetrics metrics;
+
     @Mock
     private FilterChain filterChain;
 
@@ -42,13 +54,30 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + token);
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        when(jwtTokenProvider.isTokenValid(token)).thenReturn(true);
-        when(jwtTokenProvider.extractUserId(token)).thenReturn(1L);
+        when(jwtTokenProvider.parse(token)).thenReturn(CLAIMS);
 
         jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
         assertNotNull(SecurityContextHolder.getContext().getAuthentication());
         assertEquals(1L, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        assertEquals(CLAIMS, SecurityContextHolder.getContext().getAuthentication().getCredentials());
+        verify(filterChain).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("Não deve autenticar com token revogado")
+    void shouldNotAuthenticateRevokedToken() throws Exception {
+        String token = "revoked-token";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtTokenProvider.parse(token)).thenReturn(CLAIMS);
+        when(revocationList.isRevoked("jti-1")).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
         verify(filterChain).doFilter(request, response);
     }
 
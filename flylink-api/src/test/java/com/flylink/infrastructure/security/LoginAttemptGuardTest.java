@@ -0,0 +1,94 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.LoginGuardProperties;
+import com.flylink.domain.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginAttemptGuardTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private LoginGuardProperties properties;
+    private LoginAttemptGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoginGuardProperties();
+        properties.setEmailThreshold(3);
+        properties.setIpThreshold(5);
+        guard = new LoginAttemptGuard(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o email após atingir o limite de falhas")
+    void shouldBlockEmailAfterThreshold() {
+        fail("user@example.com", "1.1.1.1", 2);
+        assertDoesNotThrow(() -> guard.checkAllowed("user@example.com", "2.2.2.2"));
+
+        fail("user@example.com", "1.1.1.1", 1);
+
+        assertThrows(RateLimitExceededException.class, () -> guard.checkAllowed("USER@example.com ", "2.2.2.2"));
+        assertDoesNotThrow(() -> guard.checkAllowed("other@example.com", "2.2.2.2"));
+    }
+
+    @Test
+    @DisplayName("Deve bloquear o IP que tenta muitos emails diferentes")
+    void shouldBlockIpSprayingEmails() {
+        for (int i = 0; i < 5; i++) {
+            guard.recordFailure("user" + i + "@example.com", "6.6.6.6");
+        }
+
+        assertThrows(RateLimitExceededException.class, () -> guard.checkAllowed("new@example.com", "6.6.6.6"));
+        assertDoesNotThrow(() -> guard.checkAllowed("new@example.com", "7.7.7.7"));
+    }
+
+    @Test
+    @DisplayName("Deve dobrar o tempo de bloqueio a cada falha acima do limite")
+    void shouldBackOffExponentially() {
+        fail("user@example.com", "1.1.1.1", 3);
+        assertEquals(1, retryAfter("user@example.com"));
+
+        fail("user@example.com", "1.1.1.1", 2);
+        assertEquals(4, retryAfter("user@example.com"));
+
+        clock.addAndGet(Duration.ofSeconds(4).toNanos());
+        assertDoesNotThrow(() -> guard.checkAllowed("user@example.com", "2.2.2.2"));
+    }
+
+    @Test
+    @DisplayName("Deve esquecer as falhas com o tempo (decaimento)")
+    void shouldDecayFailures() {
+        fail("user@example.com", "1.1.1.1", 3);
+
+        clock.addAndGet(Duration.ofMillis(properties.getHalfLifeMs()).toNanos());
+
+        assertDoesNotThrow(() -> guard.checkAllowed("user@example.com", "2.2.2.2"));
+    }
+
+    @Test
+    @DisplayName("Deve zerar as falhas do email após login correto")
+    void shouldResetEmailOnSuccess() {
+        fail("user@example.com", "1.1.1.1", 2);
+        guard.recordSuccess("user@example.com");
+        fail("user@example.com", "1.1.1.1", 2);
+
+        assertDoesNotThrow(() -> guard.checkAllowed("user@example.com", "2.2.2.2"));
+    }
+
+    private void fail(String email, String ip, int times) {
+        for (int i = 0; i < times; i++) {
+            guard.recordFailure(email, ip);
+        }
+    }
+
+    private long retryAfter(String email) {
+        return assertThrows(RateLimitExceededException.class, () -> guard.checkAllowed(email, "2.2.2.2"))
+                .getRetryAfterSeconds();
+    }
+}
@@ -0,0 +1,84 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.PasswordHashingProperties;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PasswordHasherTest {
+
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        hasher.destroy();
+    }
+
+    @Test
+    @DisplayName("Deve gerar e verificar hashes BCrypt no pool")
+    void shouldEncodeAndMatchOnPool() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), properties(4, 1, 1));
+
+        String encoded = hasher.encode("senha123");
+
+        assertTrue(hasher.matches("senha123", encoded));
+        assertFalse(hasher.matches("outra", encoded));
+    }
+
+    @Test
+    @DisplayName("Deve pedir rehash só quando o work factor do hash é diferente do configurado")
+    void shouldDetectWorkFactorChange() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), properties(4, 1, 1));
+
+        assertFalse(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("senha")));
+        assertTrue(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("senha")));
+        assertFalse(hasher.needsRehash("{noop}senha"));
+    }
+
+    @Test
+    @DisplayName("Deve falhar na hora com 503 quando o pool e a fila estão cheios")
+    void shouldRejectWhenSaturated() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = mock(PasswordEncoder.class);
+        when(slowEncoder.encode(any())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash";
+        });
+        hasher = new PasswordHasher(slowEncoder, properties(4, 1, 1));
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        while (hasher.queueDepth() == 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> hasher.encode("c"));
+
+        release.countDown();
+        assertEquals("hash", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hash", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private static PasswordHashingProperties properties(int strength, int poolSize, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(strength);
+        properties.setPoolSize(poolSize);
+        properties.setQueueCapacity(queueCapacity);
+        return properties;
+    }
+}
@@ -0,0 +1,108 @@
+package com.flylink.infrastructure.security;
+
+import com.flylink.config.JwtProperties;
+import com.flylink.infrastructure.persistence.entity.RevokedTokenEntity;
+import com.flylink.infrastructure.persistence.repository.RevokedTokenJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationListTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private RevokedTokenJpaRepository repository;
+    private TokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedTokenJpaRepository.class);
+        JwtProperties properties = new JwtProperties();
+        properties.setRevocationExpectedTokens(1_000);
+        revocationList = new TokenRevocationList(repository, properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve revogar localmente e gravar o jti no banco")
+    void shouldRevokeLocallyAndPersist() {
+        revocationList.revoke("jti-1", Instant.ofEpochMilli(clock.get() + 60_000));
+
+        assertTrue(revocationList.isRevoked("jti-1"));
+        assertFalse(revocationList.isRevoked("jti-2"));
+        assertFalse(revocationList.isRevoked(null));
+        verify(repository).save(any(RevokedTokenEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve receber revogações feitas em outros nós na sincronização")
+    void shouldPickUpRevocationsFromOtherNodes() {
+        when(repository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(row("remote-jti", clock.get() + 60_000)));
+
+        revocationList.sync();
+
+        assertTrue(revocationList.isRevoked("remote-jti"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar revogações de tokens que já expiraram")
+    void shouldPruneExpiredEntries() {
+        revocationList.revoke("short", Instant.ofEpochMilli(clock.get() + 1_000));
+        revocationList.revoke("long", Instant.ofEpochMilli(clock.get() + 60_000));
+        when(repository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any())).thenReturn(List.of());
+
+        clock.addAndGet(5_000);
+        revocationList.sync();
+
+        assertEquals(1, revocationList.size());
+        assertFalse(revocationList.isRevoked("short"));
+        assertTrue(revocationList.isRevoked("long"));
+    }
+
+    @Test
+    @DisplayName("Deve manter a lista atual quando o banco está fora")
+    void shouldKeepEntriesWhenDatabaseIsDown() {
+        revocationList.revoke("jti-1", Instant.ofEpochMilli(clock.get() + 60_000));
+        when(repository.findAllByRevokedAtAfterAndExpiresAtAfter(any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"));
+
+        revocationList.sync();
+
+        assertTrue(revocationList.isRevoked("jti-1"));
+    }
+
+    @Test
+    @DisplayName("Bloom filter não deve ter falso negativo")
+    void bloomFilterShouldHaveNoFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("jti-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("jti-" + i));
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "falsos positivos: " + falsePositives);
+    }
+
+    private RevokedTokenEntity row(String jti, long expiresAtMs) {
+        return RevokedTokenEntity.builder()
+                .jti(jti)
+                .expiresAt(OffsetDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMs), ZoneOffset.UTC))
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package com.flylink.integration;
+
+import com.flylink.infrastructure.persistence.archive.LinkArchiver;
+import com.flylink.infrastructure.persistence.entity.ShortUrlArchiveEntity;
+import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
+import com.flylink.infrastructure.persistence.repository.ShortUrlArchiveJpaRepository;
+import com.flylink.infrastructure.persistence.repository.ShortUrlJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LinkArchiverIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LinkArchiver linkArchiver;
+
+    @Autowired
+    private ShortUrlJpaRepository urlRepository;
+
+    @Autowired
+    private ShortUrlArchiveJpaRepository archiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        urlRepository.deleteAll();
+        archiveRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        urlRepository.deleteAll();
+        archiveRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve arquivar só links inativos ou expirados sem atividade desde o corte")
+    void shouldArchiveOnlyStaleInactiveOrExpiredLinks() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime old = now.minusDays(200);
+
+        save("inactold", old, old, null, false, null);
+        save("inactnew", old, now.minusDays(10), null, false, null);
+        save("exprold", old, old, now.minusDays(120), true, null);
+        save("exprupd", old, now.minusDays(5), now.minusDays(120), true, null);
+        save("exprclk", old, old, now.minusDays(120), true, now.minusDays(3));
+        save("exprrec", old, old, now.minusDays(10), true, null);
+        save("noexpiry", old, old, null, true, null);
+
+        assertEquals(2, linkArchiver.archiveAll(now.minusDays(90)));
+
+        Set<String> archived = archiveRepository.findAll().stream()
+                .map(ShortUrlArchiveEntity::getCode)
+                .collect(Collectors.toSet());
+        assertEquals(Set.of("inactold", "exprold"), archived);
+        assertEquals(5, urlRepository.count());
+        assertTrue(urlRepository.findByCode("exprupd").isPresent());
+        assertTrue(urlRepository.findByCode("exprclk").isPresent());
+    }
+
+    private void save(String code, OffsetDateTime createdAt, OffsetDateTime updatedAt, OffsetDateTime expiresAt,
+            boolean active, OffsetDateTime lastClickAt) {
+        urlRepository.save(ShortUrlEntity.builder()
+                .code(code)
+                .originalUrl("https://example.com/" + code)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .expiresAt(expiresAt)
+                .lastClickAt(lastClickAt)
+                .isActive(active)
+                .build());
+    }
+}
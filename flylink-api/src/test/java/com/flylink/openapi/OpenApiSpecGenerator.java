@@ -0,0 +1,147 @@
+package com.flylink.openapi;
+
+import com.flylink.config.OpenApiConfig;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Constructor;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Gera o openapi.json no build (fase prepare-package, antes do jar), para
+ * que produção sirva a especificação como arquivo estático sem carregar o
+ * springdoc.
+ *
+ * Sobe só a camada web — controllers, handlers de exceção, OpenApiConfig e
+ * springdoc — com as dependências dos controllers como mocks, num Tomcat em
+ * porta aleatória, e grava a resposta de /api-docs. Banco, JPA e segurança
+ * ficam de fora; a especificação é a mesma que o springdoc monta em tempo
+ * de execução.
+ *
+ * Uso: OpenApiSpecGenerator &lt;arquivo de saída&gt;
+ */
+public final class OpenApiSpecGenerator {
+
+    private static final String WEB_PACKAGE = "com.flylink.web";
+
+    private OpenApiSpecGenerator() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Uso: OpenApiSpecGenerator <arquivo de saída>");
+        }
+        Path output = Path.of(args[0]);
+
+        SpringApplication application = new SpringApplication(SpecContext.class);
+        application.setDefaultProperties(Map.of(
+                "springdoc.writer-with-default-pretty-printer", "true",
+                "spring.main.banner-mode", "off",
+                "logging.level.root", "warn"));
+
+        // Portas como argumentos: as propriedades padrão perdem para o application.yml
+        try (ConfigurableApplicationContext context = application.run("--server.port=0",
+                "--management.server.port=-1")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String path = context.getEnvironment().getProperty("springdoc.api-docs.path", "/v3/api-docs");
+
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + path + " respondeu " + response.statusCode());
+            }
+
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            Files.writeString(output, response.body());
+        }
+    }
+
+    /**
+     * Sem @Configuration de propósito: a classe está sob com.flylink e, com
+     * a anotação, o scan de todo @SpringBootTest a encontraria e desligaria
+     * JPA e segurança no contexto dos testes. Entra só como fonte explícita
+     * do SpringApplication acima.
+     */
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            SecurityFilterAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class,
+            ManagementWebSecurityAutoConfiguration.class })
+    @Import(OpenApiConfig.class)
+    static class SpecContext {
+
+        @Bean
+        static BeanDefinitionRegistryPostProcessor webLayer() {
+            return registry -> registerWebLayer(registry);
+        }
+    }
+
+    /**
+     * Registra os controllers e handlers de com.flylink.web e um mock para
+     * cada dependência de construtor que não seja valor (@Value).
+     */
+    private static void registerWebLayer(BeanDefinitionRegistry registry) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ControllerAdvice.class));
+
+        Set<Class<?>> mocked = new HashSet<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(WEB_PACKAGE)) {
+            Class<?> type = load(candidate.getBeanClassName());
+            registry.registerBeanDefinition(type.getName(), new RootBeanDefinition(type));
+
+            for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+                for (Class<?> dependency : constructor.getParameterTypes()) {
+                    if (!dependency.isPrimitive() && !dependency.getName().startsWith("java.")
+                            && mocked.add(dependency)) {
+                        registry.registerBeanDefinition("mock:" + dependency.getName(), mockDefinition(dependency));
+                    }
+                }
+            }
+        }
+    }
+
+    private static <T> RootBeanDefinition mockDefinition(Class<T> type) {
+        return new RootBeanDefinition(type, () -> Mockito.mock(type));
+    }
+
+    private static Class<?> load(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
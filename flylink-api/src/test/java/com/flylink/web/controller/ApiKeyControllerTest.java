@@ -0,0 +1,88 @@
+package com.flylink.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flylink.domain.model.IssuedApiKey;
+import com.flylink.domain.service.ApiKeyService;
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import com.flylink.infrastructure.security.ApiKeyAuthenticationFilter;
+import com.flylink.infrastructure.security.ApiKeyAuthenticationToken;
+import com.flylink.infrastructure.security.CustomAccessDeniedHandler;
+import com.flylink.infrastructure.security.CustomAuthenticationEntryPoint;
+import com.flylink.infrastructure.security.JwtAuthenticationFilter;
+import com.flylink.web.dto.CreateApiKeyRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ApiKeyController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class ApiKeyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private ApiKeyService apiKeyService;
+
+    @MockitoBean
+    private ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+
+    @MockitoBean
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @MockitoBean
+    private CustomAuthenticationEntryPoint customAuthenticationEntryPoint;
+
+    @MockitoBean
+    private CustomAccessDeniedHandler customAccessDeniedHandler;
+
+    @Test
+    @DisplayName("Deve criar a API key para o usuário autenticado por login")
+    void shouldCreateApiKeyWithLogin() throws Exception {
+        ApiKeyEntity apiKey = ApiKeyEntity.builder().id(1L).name("pipeline-ci").prefix("abcd1234").build();
+        when(apiKeyService.create(1L, "pipeline-ci")).thenReturn(new IssuedApiKey(apiKey, "flk_abcd1234_segredo"));
+
+        mockMvc.perform(post("/api/v1/api-keys")
+                .principal(new UsernamePasswordAuthenticationToken(1L, null, Collections.emptyList()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.key").value("flk_abcd1234_segredo"));
+    }
+
+    @Test
+    @DisplayName("Não deve criar API key a partir de outra API key")
+    void shouldRejectCreationWithApiKey() throws Exception {
+        mockMvc.perform(post("/api/v1/api-keys")
+                .principal(new ApiKeyAuthenticationToken(1L))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request())))
+                .andExpect(status().isForbidden());
+
+        verify(apiKeyService, never()).create(any(), anyString());
+    }
+
+    private static CreateApiKeyRequest request() {
+        return CreateApiKeyRequest.builder().name("pipeline-ci").build();
+    }
+}
@@ -12,12 +12,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import com.flylink.infrastructure.security.JwtAuthenticationFilter;
 import com.flylink.infrastructure.security.CustomAuthenticationEntryPoint;
+import com.flylink.infrastructure.security.ApiKeyAuthenticationFilter;
 import com.flylink.infrastructure.security.CustomAccessDeniedHandler;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -36,6 +38,9 @@ class AuthControllerTest {
         @MockitoBean
         private AuthService authService;
 
+        @MockitoBean
+        private ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+
         @MockitoBean
         private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -83,7 +88,7 @@ class AuthControllerTest {
                                 .email("john@example.com")
                                 .build();
 
-                when(authService.login(anyString(), anyString())).thenReturn(response);
+                when(authService.login(anyString(), anyString(), anyString())).thenReturn(response);
 
                 mockMvc.perform(post("/api/v1/auth/login")
                                 .contentType(MediaType.APPLICATION_JSON)
@@ -93,4 +98,26 @@ class AuthControllerTest {
                                 .andExpect(jsonPath("$.name").value("John Doe"))
                                 .andExpect(jsonPath("$.email").value("john@example.com"));
         }
+
+        @Test
+        @DisplayName("Deve usar o IP resolvido da conexão no login, não o X-Forwarded-For enviado pelo cliente")
+        void shouldLoginWithResolvedRemoteAddress() throws Exception {
+                LoginRequest request = new LoginRequest();
+                request.setEmail("john@example.com");
+                request.setPassword("password123");
+                when(authService.login(anyString(), anyString(), anyString()))
+                                .thenReturn(AuthResponse.builder().token("fake-jwt-token").build());
+
+                mockMvc.perform(post("/api/v1/auth/login")
+                                .with(httpRequest -> {
+                                        httpRequest.setRemoteAddr("203.0.113.7");
+                                        return httpRequest;
+                                })
+                                .header("X-Forwarded-For", "198.51.100.1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andExpect(status().isOk());
+
+                verify(authService).login("john@example.com", "password123", "203.0.113.7");
+        }
 }
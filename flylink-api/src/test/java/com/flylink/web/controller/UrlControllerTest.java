@@ -13,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import com.flylink.infrastructure.security.JwtAuthenticationFilter;
 import com.flylink.infrastructure.security.CustomAuthenticationEntryPoint;
+import com.flylink.infrastructure.security.ApiKeyAuthenticationFilter;
 import com.flylink.infrastructure.security.CustomAccessDeniedHandler;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
@@ -43,6 +44,9 @@ class UrlControllerTest {
     @MockitoBean
     private UrlShortenerService urlService;
 
+    @MockitoBean
+    private ApiKeyAuthenticationFilter apiKeyAuthenticationFilter;
+
     @MockitoBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -71,7 +75,7 @@ class UrlControllerTest {
                 .isActive(true)
                 .build();
 
-        when(urlService.createShortUrl(anyString(), any(), anyLong(), any(), any())).thenReturn(entity);
+        when(urlService.createShortUrl(anyString(), any(), anyLong(), any(), any(), any())).thenReturn(entity);
 
         mockMvc.perform(post("/api/v1/urls")
                 .principal(auth)
@@ -110,7 +114,7 @@ class UrlControllerTest {
         request.setOriginalUrl("https://new.com");
 
         ShortUrlEntity entity = ShortUrlEntity.builder().code("code123").originalUrl("https://new.com").build();
-        when(urlService.updateUrl(anyString(), anyString(), any(), any(), any(), anyLong())).thenReturn(entity);
+        when(urlService.updateUrl(anyString(), anyString(), any(), any(), any(), any(), anyLong())).thenReturn(entity);
 
         mockMvc.perform(put("/api/v1/urls/code123")
                 .principal(auth)
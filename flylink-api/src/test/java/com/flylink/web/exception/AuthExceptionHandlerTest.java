@@ -0,0 +1,62 @@
+package com.flylink.web.exception;
+
+import com.flylink.domain.exception.EmailAlreadyExistsException;
+import com.flylink.web.dto.ErrorResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class AuthExceptionHandlerTest {
+
+        private final AuthExceptionHandler authHandler = new AuthExceptionHandler();
+
+        @Test
+        @DisplayName("Deve tratar EmailAlreadyExistsException")
+        void handleEmailAlreadyExists() {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setRequestURI("/test");
+                EmailAlreadyExistsException ex = new EmailAlreadyExistsException("test@test.com");
+
+                ResponseEntity<ErrorResponse> response = authHandler.handleEmailAlreadyExists(ex, request);
+
+                assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+                assertNotNull(response.getBody());
+                assertEquals("Já existe um usuário cadastrado com o email: test@test.com",
+                                response.getBody().getMessage());
+        }
+
+        @Test
+        @DisplayName("Deve tratar BadCredentialsException")
+        void handleBadCredentials() {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setRequestURI("/login");
+                BadCredentialsException ex = new BadCredentialsException("Bad");
+
+                ResponseEntity<ErrorResponse> response = authHandler.handleBadCredentials(ex, request);
+
+                assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+                assertNotNull(response.getBody());
+                assertEquals("Credenciais inválidas", response.getBody().getMessage());
+        }
+
+        @Test
+        @DisplayName("Deve tratar AccessDeniedException")
+        void handleAccessDenied() {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setRequestURI("/secure");
+                AccessDeniedException ex = new AccessDeniedException("Denied");
+
+                ResponseEntity<ErrorResponse> response = authHandler.handleAccessDenied(ex, request);
+
+                assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+                assertNotNull(response.getBody());
+                assertEquals("Acesso negado", response.getBody().getMessage());
+        }
+}
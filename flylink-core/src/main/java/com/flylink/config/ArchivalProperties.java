@@ -0,0 +1,36 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do arquivamento de links inativos.
+ * Prefixo: app.archival
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.archival")
+public class ArchivalProperties {
+
+    private boolean enabled = true;
+
+    // Tempo mínimo inativo (ou expirado) antes de sair de short_urls
+    @Positive
+    private long retentionDays = 90;
+
+    // Linhas movidas por transação
+    @Positive
+    private int batchSize = 500;
+
+    // Limite de lotes por execução, para não monopolizar o banco
+    @Positive
+    private int maxBatchesPerRun = 200;
+
+    // Intervalo entre execuções
+    @Positive
+    private long intervalMs = 3_600_000; // 1 hora
+}
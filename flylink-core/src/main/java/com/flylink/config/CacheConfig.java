@@ -0,0 +1,46 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.cache.invalidation.PostgresCacheInvalidationBus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Configuração do cache de redirecionamento e do barramento de invalidação.
+ *
+ * O transporte é escolhido por app.cache.invalidation.transport:
+ * - postgres (padrão): LISTEN/NOTIFY, propaga entre todos os nós
+ * - in-memory: apenas dentro da JVM (testes / nó único)
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "postgres", matchIfMissing = true)
+    public CacheInvalidationBus postgresCacheInvalidationBus(
+            CacheProperties cacheProperties,
+            JdbcConnectionDetails connectionDetails,
+            JdbcTemplate jdbcTemplate) {
+        CacheProperties.Invalidation props = cacheProperties.getInvalidation();
+        return new PostgresCacheInvalidationBus(
+                connectionDetails,
+                jdbcTemplate,
+                props.getChannel(),
+                props.getFlushIntervalMs(),
+                props.getListenTimeoutMs(),
+                props.getReconnectBackoffMs(),
+                props.getMaxReconnectBackoffMs());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.cache.invalidation", name = "transport", havingValue = "in-memory")
+    public CacheInvalidationBus inMemoryCacheInvalidationBus(CacheProperties cacheProperties) {
+        return new InMemoryCacheInvalidationBus(cacheProperties.getInvalidation().getFlushIntervalMs());
+    }
+}
@@ -0,0 +1,99 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.cache.invalidation.PostgresCacheInvalidationBus;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do cache de redirecionamento e do barramento de invalidação.
+ * Prefixo: app.cache
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    private Redirect redirect = new Redirect();
+
+    private Invalidation invalidation = new Invalidation();
+
+    private Warmup warmup = new Warmup();
+
+    @Getter
+    @Setter
+    public static class Redirect {
+
+        // Número máximo de códigos mantidos em memória por nó
+        @Positive
+        private long maxSize = 100_000;
+
+        // Rede de segurança: mesmo sem invalidação, nenhuma entrada vive mais que isso
+        @Positive
+        private long ttlMs = 600_000; // 10 minutos
+
+        // Por quanto tempo o último valor conhecido ainda pode ser servido com o banco fora
+        @Positive
+        private long staleTtlMs = 86_400_000; // 24 horas
+
+        // Quanto uma requisição espera pela consulta de outra ao mesmo código antes de desistir (503)
+        @Positive
+        private long loadTimeoutMs = 2_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Invalidation {
+
+        // Transporte entre nós: "postgres" (LISTEN/NOTIFY) ou "in-memory" (testes / nó único)
+        @NotBlank
+        private String transport = "postgres";
+
+        // Canal do LISTEN/NOTIFY; vai no SQL como identificador, então só minúsculas, dígitos e _
+        @NotBlank
+        @Pattern(regexp = PostgresCacheInvalidationBus.CHANNEL_PATTERN)
+        @Size(max = 63)
+        private String channel = "flylink_cache_invalidation";
+
+        // Janela de agrupamento das invalidações antes de publicar
+        @Positive
+        private long flushIntervalMs = 50;
+
+        // Tempo máximo bloqueado aguardando notificações antes de checar a conexão
+        @Positive
+        private long listenTimeoutMs = 500;
+
+        // Espera inicial antes de reconectar (dobra a cada falha até o máximo)
+        @Positive
+        private long reconnectBackoffMs = 500;
+
+        @Positive
+        private long maxReconnectBackoffMs = 30_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        // Pré-carrega os códigos mais acessados ao subir o nó
+        private boolean enabled = true;
+
+        // Quantidade de códigos carregados (dividida entre os shards)
+        @Positive
+        private int topN = 10_000;
+
+        // Linhas por ida ao banco na leitura em streaming
+        @Positive
+        private int fetchSize = 1_000;
+
+        // Depois disso o nó é declarado pronto mesmo com o aquecimento incompleto
+        @Positive
+        private long timeoutMs = 30_000;
+    }
+}
@@ -0,0 +1,58 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.metrics.HandledExceptionMetricsFilter;
+import com.flylink.infrastructure.startup.StartupPhase;
+import com.flylink.infrastructure.startup.StartupTimeline;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas que não pertencem a um componente específico. As dos caminhos
+ * quentes ficam no HotPathMetrics; o endpoint /actuator/prometheus expõe
+ * todas.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<HandledExceptionMetricsFilter> handledExceptionMetricsFilter(MeterRegistry registry) {
+        FilterRegistrationBean<HandledExceptionMetricsFilter> registration = new FilterRegistrationBean<>(
+                new HandledExceptionMetricsFilter(registry));
+        // Por fora de tudo: vê o atributo depois que o DispatcherServlet terminou
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Uma série por fase da inicialização (NaN até a fase acontecer), com a
+     * versão como tag para comparar o tempo até o primeiro redirecionamento
+     * entre releases.
+     */
+    @Bean
+    public MeterBinder startupPhaseMetrics(ObjectProvider<BuildProperties> buildProperties) {
+        BuildProperties build = buildProperties.getIfAvailable();
+        String version = build != null ? build.getVersion() : "unknown";
+        return registry -> {
+            for (StartupPhase phase : StartupPhase.values()) {
+                TimeGauge.builder("flylink.startup.phase", phase, TimeUnit.MILLISECONDS, MetricsConfig::reachedAtMs)
+                        .description("Time from JVM start until the startup phase was reached")
+                        .tags("phase", phase.tag(), "version", version)
+                        .register(registry);
+            }
+        };
+    }
+
+    private static double reachedAtMs(StartupPhase phase) {
+        long reachedAt = StartupTimeline.reachedAtMs(phase);
+        return reachedAt >= 0 ? reachedAt : Double.NaN;
+    }
+}
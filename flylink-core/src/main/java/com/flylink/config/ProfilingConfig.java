@@ -0,0 +1,20 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.profiling.FlightRecordingEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Gravações JFR sob demanda. Os eventos da aplicação (categoria Flylink)
+ * são emitidos direto pelos serviços e não dependem deste bean.
+ */
+@Configuration
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    @Bean
+    public FlightRecordingEndpoint flightRecordingEndpoint(ProfilingProperties properties) {
+        return new FlightRecordingEndpoint(properties);
+    }
+}
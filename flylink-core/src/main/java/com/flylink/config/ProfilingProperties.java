@@ -0,0 +1,35 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades das gravações JFR sob demanda (/actuator/flightrecording).
+ * Prefixo: app.profiling
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.profiling")
+public class ProfilingProperties {
+
+    // Diretório onde os arquivos .jfr são gravados ao fim de cada gravação
+    @NotBlank
+    private String recordingDir = "jfr";
+
+    // Configuração do JDK usada na gravação: "default" (~1% de overhead) ou "profile" (~2%)
+    @NotBlank
+    private String settings = "profile";
+
+    // Duração quando a requisição não informa uma
+    @Positive
+    private int defaultDurationSeconds = 60;
+
+    // Teto da duração: a gravação sempre termina sozinha
+    @Positive
+    private int maxDurationSeconds = 600;
+}
@@ -0,0 +1,21 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.ratelimit.RateLimiter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limiting por cliente. O interceptor é registrado no {@link WebConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", matchIfMissing = true)
+    public RateLimiter rateLimiter(RateLimitProperties properties) {
+        return new RateLimiter(properties);
+    }
+}
@@ -0,0 +1,73 @@
+package com.flylink.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do rate limiting por cliente (usuário do JWT ou IP).
+ * Prefixo: app.rate-limit
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Clientes distintos rastreados por política; acima disso novos clientes passam sem limite
+    @Positive
+    private int maxKeys = 100_000;
+
+    // Baldes cheios e sem uso há mais que isso são removidos da memória
+    @Positive
+    private long idleEvictionMs = 60_000;
+
+    // A primeira política que casar com a requisição é aplicada
+    @Valid
+    private List<Policy> policies = new ArrayList<>(List.of(
+            new Policy("redirect", "GET", "/{code}", 200, 100),
+            new Policy("create-url", "POST", "/api/v1/urls", 20, 0.5)));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class Policy {
+
+        // Nome usado nas métricas e no header RateLimit-Policy
+        @NotBlank
+        private String name;
+
+        // Método HTTP; vazio casa com qualquer método
+        private String method;
+
+        // Padrão de caminho do Spring MVC (ex.: /api/v1/urls/{code})
+        @NotBlank
+        private String pattern;
+
+        // Rajada máxima (tamanho do balde)
+        @Positive
+        private int capacity;
+
+        // Tokens devolvidos ao balde por segundo
+        @Positive
+        private double refillPerSecond;
+
+        public Policy(String name, String method, String pattern, int capacity, double refillPerSecond) {
+            this.name = name;
+            this.method = method;
+            this.pattern = pattern;
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+}
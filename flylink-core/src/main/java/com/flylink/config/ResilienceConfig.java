@@ -0,0 +1,95 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.resilience.AdaptiveConcurrencyLimiter;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import com.flylink.infrastructure.resilience.ConcurrencyLimitFilter;
+import com.flylink.infrastructure.resilience.RouteClass;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Circuit breaker do banco, compartilhado pelo redirecionamento, pelo
+ * registro de cliques e pelas rotas de gerenciamento, e limites de
+ * concorrência por classe de rota.
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreaker databaseCircuitBreaker(ResilienceProperties properties) {
+        ResilienceProperties.Breaker breaker = properties.getBreaker();
+        return new CircuitBreaker(
+                "database",
+                breaker.getFailureThreshold(),
+                Duration.ofMillis(breaker.getSlowCallMs()),
+                Duration.ofMillis(breaker.getOpenMs()));
+    }
+
+    @Bean
+    public MeterBinder databaseCircuitBreakerMetrics(CircuitBreaker databaseCircuitBreaker) {
+        return registry -> Gauge.builder("flylink.db.circuit.state", databaseCircuitBreaker, b -> b.state().ordinal())
+                .description("0 = closed, 1 = open, 2 = half-open")
+                .register(registry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.resilience.concurrency-limit", name = "enabled", matchIfMissing = true)
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ResilienceProperties properties) {
+        ResilienceProperties.ConcurrencyLimit config = properties.getConcurrencyLimit();
+        Map<RouteClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(RouteClass.class);
+        for (RouteClass routeClass : RouteClass.values()) {
+            ResilienceProperties.Budget budget = config.budgetFor(routeClass);
+            limiters.put(routeClass, new AdaptiveConcurrencyLimiter(
+                    budget.getInitialLimit(), budget.getMinLimit(), budget.getMaxLimit(), config.getRttTolerance()));
+        }
+        return new ConcurrencyLimitFilter(limiters, config.getShedBelowRedirectUtilization(),
+                config.getRetryAfterSeconds());
+    }
+
+    /**
+     * Roda antes do Spring Security: requisições descartadas não chegam a
+     * validar JWT.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.resilience.concurrency-limit", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.resilience.concurrency-limit", name = "enabled", matchIfMissing = true)
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        return registry -> {
+            for (RouteClass routeClass : RouteClass.values()) {
+                AdaptiveConcurrencyLimiter limiter = concurrencyLimitFilter.limiter(routeClass);
+                Tags tags = Tags.of("route", routeClass.name().toLowerCase());
+                Gauge.builder("flylink.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("flylink.concurrency.in.flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("flylink.concurrency.rejected", limiter, AdaptiveConcurrencyLimiter::rejectedCount)
+                        .tags(tags)
+                        .description("Requests shed with 503 by the adaptive concurrency limiter")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -0,0 +1,122 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.resilience.RouteClass;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do circuit breaker do banco, do spool de cliques e do
+ * limite adaptativo de concorrência.
+ * Prefixo: app.resilience
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.resilience")
+public class ResilienceProperties {
+
+    private Breaker breaker = new Breaker();
+
+    private ClickSpool clickSpool = new ClickSpool();
+
+    @Valid
+    private ConcurrencyLimit concurrencyLimit = new ConcurrencyLimit();
+
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        // Falhas seguidas (erro de conexão/timeout ou chamada lenta) que abrem o circuito
+        @Positive
+        private int failureThreshold = 5;
+
+        // Chamadas mais lentas que isso contam como falha, mesmo com sucesso
+        @Positive
+        private long slowCallMs = 1_000;
+
+        // Tempo aberto antes de liberar uma chamada de teste (half-open)
+        @Positive
+        private long openMs = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ClickSpool {
+
+        // Códigos distintos guardados enquanto o banco está fora; acima disso os cliques são descartados
+        @Positive
+        private int maxCodes = 100_000;
+
+        // Intervalo entre tentativas de reenviar os cliques guardados
+        @Positive
+        private long replayIntervalMs = 5_000;
+    }
+
+    @Getter
+    @Setter
+    public static class ConcurrencyLimit {
+
+        private boolean enabled = true;
+
+        // Quanto a latência pode subir acima da média antes de o limite encolher
+        @DecimalMin("1.0")
+        private double rttTolerance = 1.5;
+
+        // Uso do orçamento de redirect a partir do qual gerenciamento e auth são descartados
+        @DecimalMin("0.1")
+        @DecimalMax("1.0")
+        private double shedBelowRedirectUtilization = 0.8;
+
+        // Segundos enviados no Retry-After das requisições descartadas
+        @Positive
+        private int retryAfterSeconds = 1;
+
+        @Valid
+        private Budget redirect = new Budget(100, 20, 400);
+
+        // listAll/stats: consultas pesadas que disputam conexões com o redirect
+        @Valid
+        private Budget management = new Budget(20, 4, 100);
+
+        // Login/registro: limitado pelo custo de CPU do BCrypt
+        @Valid
+        private Budget auth = new Budget(8, 2, 32);
+
+        public Budget budgetFor(RouteClass routeClass) {
+            return switch (routeClass) {
+                case REDIRECT -> redirect;
+                case MANAGEMENT -> management;
+                case AUTH -> auth;
+            };
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        @Positive
+        private int initialLimit;
+
+        @Positive
+        private int minLimit;
+
+        @Positive
+        private int maxLimit;
+
+        public Budget() {
+        }
+
+        Budget(int initialLimit, int minLimit, int maxLimit) {
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.flylink.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita os jobs agendados (@Scheduled) da aplicação.
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ArchivalProperties.class)
+public class SchedulingConfig {
+}
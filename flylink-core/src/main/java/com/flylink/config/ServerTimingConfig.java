@@ -0,0 +1,57 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.timing.RepositoryTimingInterceptor;
+import com.flylink.infrastructure.timing.ServerTimingFilter;
+import com.flylink.infrastructure.timing.ServerTimingInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Server-Timing por requisição (auth, app, db, ser, total), opt-in.
+ *
+ * Tudo aqui só existe com app.server-timing.enabled=true; desligado, os
+ * pontos instrumentados caem no atalho de {@code ServerTiming.start()} e
+ * não alocam nada. O interceptor é registrado no {@link WebConfig}.
+ */
+@Configuration
+@EnableConfigurationProperties(ServerTimingProperties.class)
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<ServerTimingFilter> serverTimingFilter(ServerTimingProperties properties) {
+        FilterRegistrationBean<ServerTimingFilter> registration = new FilterRegistrationBean<>(
+                new ServerTimingFilter(properties.getLogSampleRate()));
+        // Antes do Spring Security, para medir a autenticação dentro da requisição
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public ServerTimingInterceptor serverTimingInterceptor() {
+        return new ServerTimingInterceptor();
+    }
+
+    /**
+     * Mede a fase db em todos os repositórios (Spring Data e o
+     * RedirectRepository JDBC) sem tocar em cada um.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor repositoryTimingAdvisor() {
+        ComposablePointcut repositories = new ComposablePointcut(
+                type -> Repository.class.isAssignableFrom(type) || RedirectRepository.class.isAssignableFrom(type));
+        return new DefaultPointcutAdvisor(repositories, new RepositoryTimingInterceptor());
+    }
+}
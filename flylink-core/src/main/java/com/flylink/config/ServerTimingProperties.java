@@ -0,0 +1,27 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do header Server-Timing (tempo por fase da requisição).
+ * Prefixo: app.server-timing
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.server-timing")
+public class ServerTimingProperties {
+
+    // Desligado: nenhum filtro, interceptor ou proxy é registrado
+    private boolean enabled = false;
+
+    // Fração das requisições medidas que também gera a linha de log server_timing
+    @DecimalMin("0.0")
+    @DecimalMax("1.0")
+    private double logSampleRate = 0.01;
+}
@@ -0,0 +1,121 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.persistence.sharding.ShardRoutingDataSource;
+import com.flylink.infrastructure.persistence.sharding.ShardSchema;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Configuração do sharding de short_urls por hash do código.
+ *
+ * Com app.sharding.enabled=false (padrão) nada muda: existe um único shard,
+ * servido pelo DataSource auto-configurado.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties shardingProperties, PlatformTransactionManager transactionManager) {
+        if (!shardingProperties.isEnabled() || shardingProperties.getShards().size() <= 1) {
+            return ShardRouter.single();
+        }
+
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        return new ShardRouter(
+                shardingProperties.getShards().size(),
+                requiresNew,
+                Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    /**
+     * DataSource principal quando o sharding está ativo: roteia pelo shard da
+     * thread, com a conexão obtida apenas no primeiro comando SQL.
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public DataSource shardedDataSource(ShardingProperties shardingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<ShardingProperties.Shard> shards = shardingProperties.getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("app.sharding.enabled=true exige ao menos um shard em app.sharding.shards");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            HikariDataSource shard = createShardDataSource(shards.get(i), "flylink-shard-" + i);
+            // Os pools dos shards não são beans: a métrica do Hikari (espera por conexão) é ligada aqui
+            meterRegistry.ifAvailable(shard::setMetricRegistry);
+            ShardSchema.apply(shard, i);
+            targets.put(i, shard);
+        }
+
+        ShardRoutingDataSource routing = new ShardRoutingDataSource();
+        routing.setTargetDataSources(targets);
+        routing.setDefaultTargetDataSource(targets.get(0));
+        routing.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * Conexões avulsas (ex.: LISTEN do barramento de invalidação) vão para o
+     * shard 0, o mesmo banco que recebe os NOTIFY.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+    public JdbcConnectionDetails shardZeroConnectionDetails(ShardingProperties shardingProperties) {
+        ShardingProperties.Shard shard = shardingProperties.getShards().get(0);
+        return new JdbcConnectionDetails() {
+            @Override
+            public String getUsername() {
+                return shard.getUsername();
+            }
+
+            @Override
+            public String getPassword() {
+                return shard.getPassword();
+            }
+
+            @Override
+            public String getJdbcUrl() {
+                return shard.getUrl();
+            }
+        };
+    }
+
+    public static HikariDataSource createShardDataSource(ShardingProperties.Shard shard, String poolName) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(shard.getMaxPoolSize());
+        dataSource.setConnectionTimeout(shard.getConnectionTimeoutMs());
+        return dataSource;
+    }
+}
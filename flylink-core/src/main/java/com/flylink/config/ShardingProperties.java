@@ -0,0 +1,68 @@
+package com.flylink.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades do sharding de short_urls.
+ * Prefixo: app.sharding
+ *
+ * Desabilitado, a aplicação usa apenas spring.datasource. Habilitado, a lista
+ * de shards é completa e o shard 0 também guarda as tabelas globais (users).
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+
+    private boolean enabled = false;
+
+    @Valid
+    private List<Shard> shards = new ArrayList<>();
+
+    private Reshard reshard = new Reshard();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        @NotBlank
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        @Positive
+        private int maxPoolSize = 10;
+
+        // Espera máxima por uma conexão do pool (curta: o circuit breaker decide o resto)
+        @Positive
+        private long connectionTimeoutMs = 3_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Reshard {
+
+        // Executa o resharding offline e encerra a aplicação
+        private boolean enabled = false;
+
+        // Linhas lidas e movidas por lote
+        @Positive
+        private int batchSize = 1_000;
+
+        // Topologia de destino (lista completa, na ordem final)
+        @Valid
+        private List<Shard> targetShards = new ArrayList<>();
+    }
+}
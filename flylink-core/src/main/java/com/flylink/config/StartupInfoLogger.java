@@ -0,0 +1,64 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.cache.CacheWarmupCompletedEvent;
+import com.flylink.infrastructure.startup.StartupPhase;
+import com.flylink.infrastructure.startup.StartupTimeline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.StringJoiner;
+
+/**
+ * Exibe informações ao iniciar a aplicação, incluindo as fases da
+ * inicialização (ms desde o início da JVM) para acompanhar o tempo até o
+ * primeiro redirecionamento de cada versão.
+ */
+@Slf4j
+@Component
+public class StartupInfoLogger {
+
+    @Value("${server.port:8080}")
+    private int port;
+
+    private final ObjectProvider<BuildProperties> buildProperties;
+
+    public StartupInfoLogger(ObjectProvider<BuildProperties> buildProperties) {
+        this.buildProperties = buildProperties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logStartupInfo() {
+        log.info("API running at: http://localhost:{}", port);
+        log.info("Docs: http://localhost:{}/docs.html", port);
+        log.info("Startup phases (ms since JVM start): {} [version={}, aot={}]",
+                phases(), version(), AotDetector.useGeneratedArtifacts());
+    }
+
+    @EventListener(CacheWarmupCompletedEvent.class)
+    public void logCacheWarmup(CacheWarmupCompletedEvent event) {
+        log.info("Redirect cache warmed up: {} entries in {} ms{}",
+                event.entries(), event.duration().toMillis(), event.timedOut() ? " (timed out)" : "");
+    }
+
+    private static String phases() {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (StartupPhase phase : StartupPhase.values()) {
+            long reachedAt = StartupTimeline.reachedAtMs(phase);
+            if (reachedAt >= 0) {
+                joiner.add(phase.tag() + "=" + reachedAt);
+            }
+        }
+        return joiner.toString();
+    }
+
+    private String version() {
+        BuildProperties build = buildProperties.getIfAvailable();
+        return build != null ? build.getVersion() : "unknown";
+    }
+}
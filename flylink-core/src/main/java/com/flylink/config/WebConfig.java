@@ -0,0 +1,64 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.ratelimit.ClientKeyResolver;
+import com.flylink.infrastructure.ratelimit.RateLimitInterceptor;
+import com.flylink.infrastructure.ratelimit.RateLimiter;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import com.flylink.infrastructure.resilience.CircuitBreakerInterceptor;
+import com.flylink.infrastructure.timing.ServerTimingInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração para redirecionar /docs para o Scalar, proteger as rotas
+ * de gerenciamento com o circuit breaker do banco, aplicar o rate limiting
+ * e medir o handler para o Server-Timing.
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<CircuitBreaker> circuitBreaker;
+    private final ObjectProvider<RateLimiter> rateLimiter;
+    private final ObjectProvider<ClientKeyResolver> clientKeyResolver;
+    private final ObjectProvider<ServerTimingInterceptor> serverTimingInterceptor;
+
+    public WebConfig(ObjectProvider<CircuitBreaker> circuitBreaker, ObjectProvider<RateLimiter> rateLimiter,
+            ObjectProvider<ClientKeyResolver> clientKeyResolver,
+            ObjectProvider<ServerTimingInterceptor> serverTimingInterceptor) {
+        this.circuitBreaker = circuitBreaker;
+        this.rateLimiter = rateLimiter;
+        this.clientKeyResolver = clientKeyResolver;
+        this.serverTimingInterceptor = serverTimingInterceptor;
+    }
+
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        // Redireciona /docs para a página do Scalar
+        registry.addRedirectViewController("/docs", "/docs.html");
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Banco fora: API falha na hora com 503 (o redirecionamento tem fallback próprio)
+        circuitBreaker.ifAvailable(breaker -> registry
+                .addInterceptor(new CircuitBreakerInterceptor(breaker))
+                .addPathPatterns("/api/v1/**"));
+
+        // Cota antes do circuit breaker: cliente abusivo recebe 429 mesmo com o banco fora.
+        // Sem o Spring Security no classpath (flylink-redirect) a chave é o IP
+        rateLimiter.ifAvailable(limiter -> registry
+                .addInterceptor(new RateLimitInterceptor(limiter,
+                        clientKeyResolver.getIfAvailable(() -> ClientKeyResolver.REMOTE_ADDRESS)))
+                .excludePathPatterns("/health", "/health/**", "/docs", "/actuator/**")
+                .order(-1));
+
+        // Por último: a fase app começa no controller, depois de cota e circuit breaker
+        serverTimingInterceptor.ifAvailable(interceptor -> registry
+                .addInterceptor(interceptor)
+                .order(Ordered.LOWEST_PRECEDENCE));
+    }
+}
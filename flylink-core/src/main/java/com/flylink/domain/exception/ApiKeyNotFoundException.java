@@ -0,0 +1,11 @@
+package com.flylink.domain.exception;
+
+/**
+ * Exceção lançada quando a API key não existe ou pertence a outro usuário.
+ */
+public class ApiKeyNotFoundException extends RuntimeException {
+
+    public ApiKeyNotFoundException(Long id) {
+        super("API key não encontrada com o id: " + id);
+    }
+}
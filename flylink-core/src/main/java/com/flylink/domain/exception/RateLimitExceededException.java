@@ -0,0 +1,23 @@
+package com.flylink.domain.exception;
+
+/**
+ * Exceção lançada quando o cliente esgota a cota de requisições da rota.
+ * O cliente deve tentar de novo após retryAfterSeconds.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterSeconds) {
+        this("Limite de requisições excedido. Tente novamente em " + retryAfterSeconds + "s.", retryAfterSeconds);
+    }
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
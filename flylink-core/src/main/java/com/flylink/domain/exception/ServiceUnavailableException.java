@@ -0,0 +1,24 @@
+package com.flylink.domain.exception;
+
+/**
+ * Exceção lançada quando o serviço não consegue atender agora, mas pode
+ * atender em breve (ex.: banco lento ou indisponível).
+ * O cliente deve tentar de novo após retryAfterSeconds.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message) {
+        this(message, 1);
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,12 @@
+package com.flylink.domain.exception;
+
+/**
+ * Exceção lançada quando o usuário tenta acessar uma URL que não é dele.
+ * Resulta em HTTP 403 (Forbidden).
+ */
+public class UrlAccessDeniedException extends RuntimeException {
+
+    public UrlAccessDeniedException(String code) {
+        super("Você não tem permissão para acessar a URL com o código: " + code);
+    }
+}
@@ -0,0 +1,10 @@
+package com.flylink.domain.model;
+
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+
+/**
+ * API key recém-criada: a chave em texto plano só existe aqui, para ser
+ * mostrada uma única vez ao usuário.
+ */
+public record IssuedApiKey(ApiKeyEntity apiKey, String rawKey) {
+}
@@ -0,0 +1,40 @@
+package com.flylink.domain.model;
+
+/**
+ * Resultado da resolução de um redirecionamento, sem exceções: o código
+ * pode não existir, ter expirado ou ter esgotado os cliques — casos comuns
+ * (varreduras de códigos aleatórios) que não justificam montar e desempilhar
+ * uma exceção com stack trace.
+ *
+ * O caso de sucesso é o próprio {@link RedirectTarget}, já guardado no cache,
+ * para que o cache hit não aloque um invólucro. Os demais casos não carregam
+ * dados e têm uma instância única.
+ *
+ * A API de gerenciamento continua usando as exceções do domínio.
+ */
+public sealed interface RedirectResolution
+        permits RedirectTarget, RedirectResolution.NotFound, RedirectResolution.Expired,
+        RedirectResolution.Exhausted {
+
+    NotFound NOT_FOUND = new NotFound();
+    Expired EXPIRED = new Expired();
+    Exhausted EXHAUSTED = new Exhausted();
+
+    /**
+     * Código inexistente ou inativo (404).
+     */
+    record NotFound() implements RedirectResolution {
+    }
+
+    /**
+     * Data limite já passou (410).
+     */
+    record Expired() implements RedirectResolution {
+    }
+
+    /**
+     * Limite de cliques atingido (410).
+     */
+    record Exhausted() implements RedirectResolution {
+    }
+}
@@ -0,0 +1,85 @@
+package com.flylink.domain.model;
+
+import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Projeção imutável do que o redirecionamento precisa saber sobre uma URL.
+ * É o valor guardado no cache em memória — nunca a entidade JPA — e o caso
+ * de sucesso de {@link RedirectResolution}.
+ *
+ * @param code         Código da URL encurtada
+ * @param originalUrl  Destino do redirecionamento
+ * @param expiresAt    Data limite (pode ser null)
+ * @param maxClicks    Limite de cliques (pode ser null)
+ * @param redirectType Status HTTP do redirecionamento (null vira FOUND)
+ * @param stale        true se veio do último valor conhecido, sem confirmação do banco
+ */
+public record RedirectTarget(String code, String originalUrl, OffsetDateTime expiresAt, Long maxClicks,
+        RedirectType redirectType, boolean stale) implements RedirectResolution {
+
+    public RedirectTarget {
+        if (redirectType == null) {
+            redirectType = RedirectType.FOUND;
+        }
+    }
+
+    public RedirectTarget(String code, String originalUrl, OffsetDateTime expiresAt, Long maxClicks) {
+        this(code, originalUrl, expiresAt, maxClicks, RedirectType.FOUND);
+    }
+
+    public RedirectTarget(String code, String originalUrl, OffsetDateTime expiresAt, Long maxClicks,
+            RedirectType redirectType) {
+        this(code, originalUrl, expiresAt, maxClicks, redirectType, false);
+    }
+
+    public static RedirectTarget from(ShortUrlEntity entity) {
+        return new RedirectTarget(
+                entity.getCode(),
+                entity.getOriginalUrl(),
+                entity.getExpiresAt(),
+                entity.getMaxClicks(),
+                entity.getRedirectType());
+    }
+
+    /**
+     * Cópia marcada como stale (servida sem o banco).
+     */
+    public RedirectTarget asStale() {
+        return new RedirectTarget(code, originalUrl, expiresAt, maxClicks, redirectType, true);
+    }
+
+    /**
+     * Indica se a data limite já passou no instante informado. Recebe epoch
+     * millis (System.currentTimeMillis()) para não alocar no redirecionamento.
+     */
+    public boolean isExpiredAt(long nowEpochMillis) {
+        return expiresAt != null && nowEpochMillis > expiresAtEpochMillis();
+    }
+
+    /**
+     * Por quanto tempo caches HTTP (navegador, CDN) podem reutilizar o
+     * redirecionamento: até maxAgeSeconds, sem passar do expiresAt.
+     * URLs com limite de cliques nunca são cacheáveis — todo clique precisa
+     * chegar ao servidor para ser contado.
+     *
+     * @return Segundos inteiros (positivo), ou 0 se não for cacheável
+     */
+    public long cacheableSeconds(long nowEpochMillis, long maxAgeSeconds) {
+        if (maxClicks != null) {
+            return 0;
+        }
+
+        long ttl = maxAgeSeconds;
+        if (expiresAt != null) {
+            ttl = Math.min(ttl, (expiresAtEpochMillis() - nowEpochMillis) / 1_000);
+        }
+        return Math.max(ttl, 0);
+    }
+
+    // toEpochSecond/getNano leem os campos do OffsetDateTime sem criar Instant
+    private long expiresAtEpochMillis() {
+        return expiresAt.toEpochSecond() * 1_000 + expiresAt.getNano() / 1_000_000;
+    }
+}
@@ -0,0 +1,31 @@
+package com.flylink.domain.model;
+
+/**
+ * Tipo de redirecionamento HTTP de uma URL encurtada.
+ *
+ * Permanentes (301/308) podem ser guardados por navegadores e CDNs por mais
+ * tempo; 307/308 preservam o método e o corpo da requisição original.
+ */
+public enum RedirectType {
+
+    MOVED_PERMANENTLY(301, true),
+    FOUND(302, false),
+    TEMPORARY_REDIRECT(307, false),
+    PERMANENT_REDIRECT(308, true);
+
+    private final int statusCode;
+    private final boolean permanent;
+
+    RedirectType(int statusCode, boolean permanent) {
+        this.statusCode = statusCode;
+        this.permanent = permanent;
+    }
+
+    public int statusCode() {
+        return statusCode;
+    }
+
+    public boolean isPermanent() {
+        return permanent;
+    }
+}
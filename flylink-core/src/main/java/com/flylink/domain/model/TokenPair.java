@@ -0,0 +1,9 @@
+package com.flylink.domain.model;
+
+/**
+ * Access token curto + refresh token rotativo emitidos juntos.
+ *
+ * @param expiresIn validade do access token, em segundos
+ */
+public record TokenPair(String accessToken, String refreshToken, long expiresIn) {
+}
@@ -0,0 +1,572 @@
+package com.flylink.domain.service;
+
+import com.flylink.domain.exception.CodeAlreadyExistsException;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.exception.UrlAccessDeniedException;
+import com.flylink.domain.exception.UrlExpiredException;
+import com.flylink.domain.exception.UrlNotFoundException;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.metrics.RedirectOutcome;
+import com.flylink.infrastructure.persistence.entity.ShortUrlArchiveEntity;
+import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.repository.ShortUrlArchiveJpaRepository;
+import com.flylink.infrastructure.persistence.repository.ShortUrlJpaRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter.ShardScope;
+import com.flylink.infrastructure.profiling.ClickWriteEvent;
+import com.flylink.infrastructure.profiling.CodeGeneratedEvent;
+import com.flylink.infrastructure.profiling.RedirectResolvedEvent;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import com.flylink.infrastructure.resilience.ClickSpool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Serviço principal de encurtamento de URLs.
+ * Contém toda a lógica de negócio da aplicação.
+ *
+ * Com sharding ativo, cada método define o shard do código antes do primeiro
+ * comando SQL (a conexão é obtida de forma preguiçosa).
+ *
+ * O caminho de redirecionamento (consulta e clique) passa pelo circuit
+ * breaker do banco: com o circuito aberto, serve o último destino conhecido
+ * e guarda os cliques para reenvio.
+ */
+@Service
+@RequiredArgsConstructor
+public class UrlShortenerService {
+
+    private final ShortUrlJpaRepository repository;
+    private final ShortUrlArchiveJpaRepository archiveRepository;
+    private final RedirectRepository redirectRepository;
+    private final RedirectCache redirectCache;
+    private final ShardRouter shardRouter;
+    private final CircuitBreaker circuitBreaker;
+    private final ClickSpool clickSpool;
+    private final HotPathMetrics metrics;
+
+    // Guardadas para o clique e o cache miss não alocarem um lambda por redirecionamento
+    private final Function<String, Integer> incrementClicks = this::incrementClickRow;
+    private final Function<String, RedirectResolution> loadTarget = this::loadRedirectTarget;
+    private final Function<String, RedirectResolution> guardedLoadTarget = this::loadThroughCircuitBreaker;
+
+    // Caracteres Base62 para geração de códigos
+    private static final String BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int CODE_LENGTH = 7;
+    private final SecureRandom random = new SecureRandom();
+
+    // Ordem da listagem quando combinada de vários shards
+    private static final Comparator<ShortUrlEntity> CREATION_ORDER = Comparator
+            .comparing(ShortUrlEntity::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(ShortUrlEntity::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * Cria uma nova URL encurtada vinculada ao usuário autenticado.
+     *
+     * @param originalUrl URL original a ser encurtada
+     * @param customCode  Código personalizado (opcional)
+     * @param userId      ID do usuário autenticado
+     * @param redirectType Tipo do redirecionamento (opcional, padrão 302)
+     * @return Entidade criada com o código gerado
+     * @throws CodeAlreadyExistsException se o código customizado já existir
+     */
+    @Transactional
+    public ShortUrlEntity createShortUrl(String originalUrl, String customCode, Long userId, Long maxClicks,
+            OffsetDateTime expiresAt, RedirectType redirectType) {
+        boolean isCustom = customCode != null && !customCode.isBlank();
+        int shard = isCustom ? shardRouter.shardFor(customCode) : shardRouter.randomShard();
+
+        try (ShardScope ignored = shardRouter.bindShard(shard)) {
+            String code = isCustom ? customCode : generateUniqueCode(shard);
+
+            if (isCodeTaken(code)) {
+                throw new CodeAlreadyExistsException(code);
+            }
+
+            ShortUrlEntity entity = ShortUrlEntity.builder()
+                    .code(code)
+                    .originalUrl(originalUrl)
+                    .userId(userId)
+                    .maxClicks(maxClicks)
+                    .expiresAt(expiresAt)
+                    .redirectType(redirectType != null ? redirectType : RedirectType.FOUND)
+                    .build();
+
+            return repository.save(entity);
+        }
+    }
+
+    /**
+     * Busca uma URL pelo código.
+     * Retorna apenas URLs ativas (usado para redirecionamento).
+     * 
+     * @param code Código da URL encurtada
+     * @return Entidade encontrada
+     * @throws UrlNotFoundException se não encontrar ou estiver inativa
+     */
+    @Transactional(readOnly = true)
+    public ShortUrlEntity findByCode(String code) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            ShortUrlEntity entity = repository.findByCodeAndIsActiveTrue(code)
+                    .orElseThrow(() -> new UrlNotFoundException(code));
+
+            if (entity.getExpiresAt() != null && OffsetDateTime.now().isAfter(entity.getExpiresAt())) {
+                entity.setIsActive(false);
+                repository.save(entity);
+                throw new UrlExpiredException(code);
+            }
+
+            return entity;
+        }
+    }
+
+    /**
+     * Caminho completo do redirecionamento: resolve o destino e conta o
+     * clique. Código inexistente, expirado ou com os cliques esgotados volta
+     * como {@link RedirectResolution}, sem exceção.
+     *
+     * @param code Código da URL encurtada
+     * @return O {@link RedirectTarget}, ou NotFound, Expired ou Exhausted
+     * @throws ServiceUnavailableException se o banco estiver fora e não houver valor conhecido
+     */
+    public RedirectResolution redirect(String code) {
+        RedirectResolution resolution = resolveRedirect(code);
+        if (resolution instanceof RedirectTarget target && !incrementClickCount(code, target.maxClicks() != null)) {
+            return RedirectResolution.EXHAUSTED;
+        }
+        return resolution;
+    }
+
+    /**
+     * Resolve o destino de um redirecionamento, passando pelo cache em memória.
+     * Em cache miss consulta o {@link RedirectRepository} (sem entidade JPA).
+     * Com o banco indisponível, devolve o último destino conhecido (stale).
+     *
+     * @param code Código da URL encurtada
+     * @return O {@link RedirectTarget}, {@link RedirectResolution#NOT_FOUND} se não
+     *         encontrar ou estiver inativa, ou {@link RedirectResolution#EXPIRED}
+     *         se a data limite já passou
+     * @throws ServiceUnavailableException se o banco estiver fora e não houver valor conhecido
+     */
+    public RedirectResolution resolveRedirect(String code) {
+        RedirectResolvedEvent event = RedirectResolvedEvent.start();
+        long start = System.nanoTime();
+        RedirectOutcome outcome = RedirectOutcome.ERROR;
+        try {
+            // Cache hit fresco e dentro da validade: nenhum lambda, Optional ou data alocados
+            RedirectTarget target = redirectCache.getIfPresent(code);
+            if (target != null && !target.isExpiredAt(System.currentTimeMillis())) {
+                outcome = RedirectOutcome.HIT;
+                return target;
+            }
+
+            RedirectResolution resolution = resolveUncached(code);
+            outcome = switch (resolution) {
+                case RedirectTarget found -> found.stale() ? RedirectOutcome.STALE : RedirectOutcome.MISS;
+                case RedirectResolution.NotFound notFound -> RedirectOutcome.NOT_FOUND;
+                case RedirectResolution.Expired expired -> RedirectOutcome.EXPIRED;
+                case RedirectResolution.Exhausted exhausted -> RedirectOutcome.EXPIRED;
+            };
+            return resolution;
+        } finally {
+            metrics.recordRedirect(outcome, System.nanoTime() - start);
+            if (event != null) {
+                event.finish(code, outcome);
+            }
+        }
+    }
+
+    /**
+     * Cache miss (ou entrada expirada): carrega do banco, com fallback stale.
+     */
+    private RedirectResolution resolveUncached(String code) {
+        RedirectResolution resolution;
+        try {
+            resolution = redirectCache.get(code, guardedLoadTarget);
+        } catch (RuntimeException ex) {
+            resolution = staleFallback(code, ex);
+        }
+
+        if (resolution instanceof RedirectTarget target && target.isExpiredAt(System.currentTimeMillis())) {
+            // Expirou enquanto estava em cache: confere no banco, que desativa e devolve Expired
+            redirectCache.invalidate(code);
+            if (target.stale()) {
+                return RedirectResolution.EXPIRED;
+            }
+            resolution = loadThroughCircuitBreaker(code);
+        }
+
+        return resolution;
+    }
+
+    private RedirectResolution loadThroughCircuitBreaker(String code) {
+        return circuitBreaker.execute(loadTarget, code);
+    }
+
+    /**
+     * Banco indisponível: serve o último destino conhecido, marcado como stale.
+     * URLs com limite de cliques ficam de fora — sem o banco o limite não pode
+     * ser garantido.
+     */
+    private RedirectTarget staleFallback(String code, RuntimeException failure) {
+        if (!(failure instanceof ServiceUnavailableException) && !CircuitBreaker.isFailure(failure)) {
+            throw failure;
+        }
+
+        return redirectCache.getStale(code)
+                .filter(target -> target.maxClicks() == null)
+                .map(RedirectTarget::asStale)
+                .orElseThrow(() -> failure instanceof ServiceUnavailableException unavailable
+                        ? unavailable
+                        : new ServiceUnavailableException("Banco de dados indisponível. Tente novamente."));
+    }
+
+    /**
+     * Mesmas regras do {@link #findByCode(String)}, sobre o repositório do
+     * caminho de redirecionamento — com resultados em vez de exceções.
+     */
+    private RedirectResolution loadRedirectTarget(String code) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            RedirectTarget target = redirectRepository.findActiveByCode(code).orElse(null);
+            if (target == null) {
+                return RedirectResolution.NOT_FOUND;
+            }
+
+            if (target.isExpiredAt(System.currentTimeMillis())) {
+                redirectRepository.deactivate(code);
+                return RedirectResolution.EXPIRED;
+            }
+
+            return target;
+        }
+    }
+
+    /**
+     * Busca uma URL pelo código e valida ownership.
+     * Usado para operações de gerenciamento (editar, deletar, visualizar detalhes).
+     * URLs arquivadas continuam visíveis ao dono (somente leitura, inativas).
+     *
+     * @param code   Código da URL encurtada
+     * @param userId ID do usuário autenticado
+     * @return Entidade encontrada
+     * @throws UrlNotFoundException  se não encontrar
+     * @throws UrlAccessDeniedException se a URL não pertencer ao usuário
+     */
+    @Transactional(readOnly = true)
+    public ShortUrlEntity findExistingByCode(String code, Long userId) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            ShortUrlEntity entity = repository.findByCode(code)
+                    .or(() -> archiveRepository.findByCode(code).map(ShortUrlArchiveEntity::toShortUrl))
+                    .orElseThrow(() -> new UrlNotFoundException(code));
+
+            validateOwnership(entity, userId);
+            return entity;
+        }
+    }
+
+    /**
+     * Lista todas as URLs do usuário autenticado.
+     * Com sharding, consulta todos os shards em paralelo e combina o resultado.
+     *
+     * @param userId ID do usuário autenticado
+     * @return Lista de URLs do usuário
+     */
+    @Transactional(readOnly = true)
+    public List<ShortUrlEntity> findAllByUser(Long userId) {
+        return shardRouter.fanOut(shard -> repository.findByUserId(userId), CREATION_ORDER);
+    }
+
+    /**
+     * Incrementa o contador de cliques e atualiza lastClickAt.
+     * Com o banco indisponível o clique é guardado para reenvio.
+     * 
+     * @param code Código da URL
+     * @return false se o limite de cliques foi atingido (ou a URL deixou de
+     *         estar ativa) — o clique não foi contado
+     */
+    public boolean incrementClickCount(String code) {
+        return incrementClickCount(code, false);
+    }
+
+    /**
+     * Como {@link #incrementClickCount(String)}; com clickLimited, o clique
+     * não gravado não vai para o spool. Um hit fresco no cache não passa pelo
+     * filtro do stale, e sem o banco o limite não pode ser garantido: o
+     * redirecionamento falha como no stale, em vez de passar do limite no
+     * reenvio.
+     *
+     * @throws ServiceUnavailableException se clickLimited e o banco estiver fora
+     */
+    private boolean incrementClickCount(String code, boolean clickLimited) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            int updatedRows;
+            ClickWriteEvent event = ClickWriteEvent.start();
+            long start = System.nanoTime();
+            try {
+                updatedRows = circuitBreaker.execute(incrementClicks, code);
+                metrics.recordClickWrite(System.nanoTime() - start);
+                if (event != null) {
+                    event.finish(code, false);
+                }
+            } catch (RuntimeException ex) {
+                if (ex instanceof ServiceUnavailableException || CircuitBreaker.isFailure(ex)) {
+                    metrics.recordClickWriteFailure();
+                    if (event != null) {
+                        event.finish(code, true);
+                    }
+                    if (clickLimited) {
+                        throw ex instanceof ServiceUnavailableException unavailable
+                                ? unavailable
+                                : new ServiceUnavailableException("Banco de dados indisponível. Tente novamente.");
+                    }
+                    clickSpool.add(code);
+                    return true;
+                }
+                throw ex;
+            }
+
+            if (updatedRows == 0) {
+                redirectCache.invalidate(code);
+                // Se 0 linhas foram afetadas, ou não existe ativo, ou atingiu o limite de
+                // cliques
+                // na transação concorrente um milissegundo antes.
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private Integer incrementClickRow(String code) {
+        return redirectRepository.incrementClickCount(code);
+    }
+
+    /**
+     * Deleta uma URL pelo código, validando ownership.
+     *
+     * @param code   Código da URL
+     * @param userId ID do usuário autenticado
+     * @throws UrlNotFoundException  se não encontrar
+     * @throws UrlAccessDeniedException se a URL não pertencer ao usuário
+     */
+    @Transactional
+    public void deleteByCode(String code, Long userId) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            ShortUrlEntity entity = findExistingByCode(code, userId);
+            if (archiveRepository.deleteByCode(code) == 0) {
+                repository.delete(entity);
+            }
+            redirectCache.invalidate(code);
+        }
+    }
+
+    /**
+     * Atualiza uma URL existente, validando ownership.
+     *
+     * @param code        Código da URL
+     * @param originalUrl Nova URL original (opcional)
+     * @param expiresAt   Nova data de expiração (opcional)
+     * @param customCode  Novo código personalizado (opcional)
+     * @param redirectType Novo tipo de redirecionamento (opcional, mantém o atual se null)
+     * @param userId      ID do usuário autenticado
+     * @return Entidade atualizada
+     */
+    @Transactional
+    public ShortUrlEntity updateUrl(String code, String originalUrl, OffsetDateTime expiresAt, String customCode,
+            Long maxClicks, RedirectType redirectType, Long userId) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            ShortUrlEntity entity = findExistingForUpdate(code, userId);
+            redirectCache.invalidate(code);
+
+            Integer targetShard = null;
+            if (customCode != null && !customCode.isBlank() && !customCode.equals(entity.getCode())) {
+                int newShard = shardRouter.shardFor(customCode);
+                if (newShard != shardRouter.shardFor(code)) {
+                    // O novo código pertence a outro shard: a linha será movida
+                    targetShard = newShard;
+                } else if (isCodeTaken(customCode)) {
+                    throw new CodeAlreadyExistsException(customCode);
+                }
+                entity.setCode(customCode);
+            }
+
+            if (originalUrl != null && !originalUrl.isBlank()) {
+                entity.setOriginalUrl(originalUrl);
+            }
+
+            entity.setExpiresAt(expiresAt); // Pode setar null para remover limite
+            entity.setMaxClicks(maxClicks); // Pode setar null para remover limite
+
+            if (redirectType != null) {
+                entity.setRedirectType(redirectType);
+            }
+
+            // Reactivar automaticamente se os limites foram expandidos e estava inativa
+            boolean isTemporalValid = entity.getExpiresAt() == null
+                    || OffsetDateTime.now().isBefore(entity.getExpiresAt());
+            boolean isClicksValid = entity.getMaxClicks() == null || entity.getClickCount() < entity.getMaxClicks();
+
+            if (!entity.getIsActive() && isTemporalValid && isClicksValid) {
+                entity.setIsActive(true);
+            }
+
+            if (targetShard != null) {
+                return moveToShard(entity, targetShard);
+            }
+            return repository.save(entity);
+        }
+    }
+
+    /**
+     * Alterna o estado ativo/inativo de uma URL, validando ownership.
+     *
+     * @param code   Código da URL
+     * @param userId ID do usuário autenticado
+     * @return Entidade com estado atualizado
+     */
+    @Transactional
+    public ShortUrlEntity toggleActive(String code, Long userId) {
+        try (ShardScope ignored = shardRouter.bind(code)) {
+            ShortUrlEntity entity = findExistingForUpdate(code, userId);
+
+            entity.setIsActive(!entity.getIsActive());
+            redirectCache.invalidate(code);
+            return repository.save(entity);
+        }
+    }
+
+    /**
+     * Move a URL (já com o novo código) para outro shard.
+     *
+     * Ordem: (1) grava no destino, em transação própria já confirmada;
+     * (2) confere a cópia no destino; (3) só então remove da origem, na
+     * transação atual. Uma falha entre (1) e (3) deixa a linha nos dois
+     * shards — o código antigo segue resolvendo na origem e o novo no
+     * destino, cada um no shard dono do seu código — e repetir a mesma
+     * atualização converge: a cópia que sobrou no destino é reaproveitada
+     * (insert-if-absent) em vez de acusar código em uso.
+     */
+    private ShortUrlEntity moveToShard(ShortUrlEntity entity, int targetShard) {
+        ShortUrlEntity saved = shardRouter.runOn(targetShard, () -> copyToShard(entity));
+
+        boolean copied = shardRouter.runOn(targetShard, () -> repository.findByCode(entity.getCode())
+                .filter(target -> isCopyOf(target, entity))
+                .isPresent());
+        if (!copied) {
+            throw new IllegalStateException("Cópia da URL " + entity.getCode() + " não encontrada no shard "
+                    + targetShard + "; a origem foi mantida");
+        }
+
+        repository.delete(entity);
+        return saved;
+    }
+
+    /**
+     * Grava a URL no shard atual, se ainda não estiver lá. Uma linha com o
+     * mesmo código que seja cópia desta URL (tentativa anterior que não
+     * chegou a remover a origem) é atualizada; de outra URL, é conflito.
+     */
+    private ShortUrlEntity copyToShard(ShortUrlEntity entity) {
+        Optional<ShortUrlEntity> existing = repository.findByCode(entity.getCode());
+        if (existing.isPresent()) {
+            ShortUrlEntity leftover = existing.get();
+            if (!isCopyOf(leftover, entity)) {
+                throw new CodeAlreadyExistsException(entity.getCode());
+            }
+            return repository.save(entity.toBuilder().id(leftover.getId()).build());
+        }
+        if (archiveRepository.existsByCode(entity.getCode())) {
+            throw new CodeAlreadyExistsException(entity.getCode());
+        }
+        return repository.save(entity.toBuilder().id(null).build());
+    }
+
+    // A cópia leva o mesmo dono e o mesmo created_at da linha de origem
+    private static boolean isCopyOf(ShortUrlEntity candidate, ShortUrlEntity entity) {
+        return Objects.equals(candidate.getUserId(), entity.getUserId())
+                && candidate.getCreatedAt() != null && entity.getCreatedAt() != null
+                && candidate.getCreatedAt().isEqual(entity.getCreatedAt());
+    }
+
+    /**
+     * Como {@link #findExistingByCode}, mas traz de volta para short_urls uma
+     * URL arquivada antes de alterá-la (o arquivo é somente leitura).
+     * Se continuar inativa, o arquivamento a move de novo depois da retenção.
+     */
+    private ShortUrlEntity findExistingForUpdate(String code, Long userId) {
+        Optional<ShortUrlEntity> hot = repository.findByCode(code);
+        if (hot.isPresent()) {
+            validateOwnership(hot.get(), userId);
+            return hot.get();
+        }
+
+        ShortUrlEntity archived = archiveRepository.findByCode(code)
+                .map(ShortUrlArchiveEntity::toShortUrl)
+                .orElseThrow(() -> new UrlNotFoundException(code));
+        validateOwnership(archived, userId);
+
+        archiveRepository.restoreByCode(code);
+        return repository.findByCode(code).orElseThrow(() -> new UrlNotFoundException(code));
+    }
+
+    /**
+     * Códigos arquivados continuam reservados — podem ser restaurados.
+     */
+    private boolean isCodeTaken(String code) {
+        return repository.existsByCode(code) || archiveRepository.existsByCode(code);
+    }
+
+    /**
+     * Valida que a URL pertence ao usuário autenticado.
+     * URLs sem dono (criadas antes da auth) não podem ser gerenciadas.
+     */
+    private void validateOwnership(ShortUrlEntity entity, Long userId) {
+        if (entity.getUserId() == null || !entity.getUserId().equals(userId)) {
+            throw new UrlAccessDeniedException(entity.getCode());
+        }
+    }
+
+    /**
+     * Gera um código único Base62 de 7 caracteres que pertença ao shard
+     * informado — assim todas as verificações de colisão caem no mesmo banco.
+     */
+    private String generateUniqueCode(int shard) {
+        CodeGeneratedEvent event = CodeGeneratedEvent.start();
+        String code;
+        int attempts = 0;
+        do {
+            code = generateBase62Code();
+            attempts++;
+        } while (shardRouter.shardFor(code) != shard || isCodeTaken(code));
+        metrics.recordCodeGenerationAttempts(attempts);
+        if (event != null) {
+            event.finish(attempts, shard);
+        }
+        return code;
+    }
+
+    /**
+     * Gera uma string aleatória em Base62.
+     */
+    private String generateBase62Code() {
+        StringBuilder sb = new StringBuilder(CODE_LENGTH);
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            int index = random.nextInt(BASE62.length());
+            sb.append(BASE62.charAt(index));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,13 @@
+package com.flylink.infrastructure.cache;
+
+import java.time.Duration;
+
+/**
+ * Publicado quando o aquecimento do cache de redirecionamento termina.
+ *
+ * @param entries  Códigos carregados
+ * @param duration Tempo total do aquecimento
+ * @param timedOut true se parou no timeout antes de carregar tudo
+ */
+public record CacheWarmupCompletedEvent(int entries, Duration duration, boolean timedOut) {
+}
@@ -0,0 +1,177 @@
+package com.flylink.infrastructure.cache;
+
+import com.flylink.config.CacheProperties;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.infrastructure.cache.invalidation.CacheInvalidationBus;
+import com.flylink.infrastructure.cache.invalidation.InvalidationListener;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache em memória dos destinos de redirecionamento (código → {@link RedirectTarget}).
+ *
+ * Invalidações locais também são publicadas no {@link CacheInvalidationBus}
+ * para que os demais nós descartem a mesma entrada.
+ *
+ * Cache misses simultâneos do mesmo código são agrupados ({@link SingleFlight}):
+ * apenas uma consulta vai ao banco.
+ *
+ * Entradas ficam frescas por ttl-ms; depois disso são recarregadas, mas
+ * continuam disponíveis como "último valor conhecido" ({@link #getStale})
+ * até stale-ttl-ms, para servir redirecionamentos com o banco fora.
+ * Entradas invalidadas são removidas de vez.
+ */
+@Component
+public class RedirectCache implements InvalidationListener, MeterBinder {
+
+    private final Cache<String, Entry> cache;
+    private final long freshNanos;
+    private final CacheInvalidationBus invalidationBus;
+    private final SingleFlight<String, RedirectResolution> loads;
+
+    // Incrementado a cada invalidação; detecta invalidações durante uma carga
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public RedirectCache(CacheProperties cacheProperties, CacheInvalidationBus invalidationBus) {
+        CacheProperties.Redirect props = cacheProperties.getRedirect();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(props.getMaxSize())
+                .expireAfterWrite(Duration.ofMillis(Math.max(props.getTtlMs(), props.getStaleTtlMs())))
+                .build();
+        this.freshNanos = Duration.ofMillis(props.getTtlMs()).toNanos();
+        this.invalidationBus = invalidationBus;
+        this.loads = new SingleFlight<>(props.getLoadTimeoutMs());
+        invalidationBus.subscribe(this);
+    }
+
+    /**
+     * Retorna o destino em cache ou carrega com o loader informado.
+     * Só destinos encontrados são guardados; NotFound, Expired e Exhausted
+     * chegam a todos que aguardavam a mesma carga sem ir para o cache.
+     * Exceções do loader também são propagadas e nada é guardado.
+     *
+     * @throws com.flylink.domain.exception.ServiceUnavailableException se a
+     *                                                                   carga de outra thread não terminar a tempo
+     */
+    public RedirectResolution get(String code, Function<String, RedirectResolution> loader) {
+        RedirectTarget cached = getIfPresent(code);
+        if (cached != null) {
+            return cached;
+        }
+
+        return loads.load(code, c -> {
+            long epoch = invalidations.get();
+            RedirectResolution loaded = loader.apply(c);
+            if (!(loaded instanceof RedirectTarget target)) {
+                return loaded;
+            }
+            put(target);
+            if (invalidations.get() != epoch) {
+                // Invalidação concorrente: o valor lido pode ser anterior a ela
+                cache.invalidate(c);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * Retorna o destino apenas se a entrada ainda estiver fresca.
+     */
+    public RedirectTarget getIfPresent(String code) {
+        Entry entry = cache.getIfPresent(code);
+        return entry != null && entry.isFresh(System.nanoTime(), freshNanos) ? entry.target() : null;
+    }
+
+    /**
+     * Último destino conhecido do código, fresco ou não (sem ir ao banco).
+     */
+    public Optional<RedirectTarget> getStale(String code) {
+        return Optional.ofNullable(cache.getIfPresent(code)).map(Entry::target);
+    }
+
+    public void put(RedirectTarget target) {
+        cache.put(target.code(), new Entry(target, System.nanoTime()));
+    }
+
+    /**
+     * Guarda apenas se o código ainda não estiver em cache — usado pelo
+     * aquecimento para não sobrescrever o que o tráfego já carregou.
+     */
+    public void putIfAbsent(RedirectTarget target) {
+        cache.asMap().putIfAbsent(target.code(), new Entry(target, System.nanoTime()));
+    }
+
+    /**
+     * Descarta o código neste nó e publica para os demais.
+     *
+     * Dentro de uma transação a publicação (e uma segunda remoção local) só
+     * acontece após o commit, evitando que outro nó recarregue o valor antigo
+     * antes de a alteração ficar visível.
+     */
+    public void invalidate(String code) {
+        invalidations.incrementAndGet();
+        cache.invalidate(code);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidations.incrementAndGet();
+                    cache.invalidate(code);
+                    invalidationBus.publish(code);
+                }
+            });
+        } else {
+            invalidationBus.publish(code);
+        }
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void onInvalidate(Collection<String> codes) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(codes);
+    }
+
+    @Override
+    public void onResync() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("flylink.redirect.lookup.deduplicated", loads, SingleFlight::deduplicatedCount)
+                .description("Cache misses served by a lookup already in flight for the same code")
+                .register(registry);
+        Gauge.builder("flylink.redirect.lookup.in.flight", loads, SingleFlight::inFlightCount)
+                .description("Codes with a database lookup in progress")
+                .register(registry);
+        Gauge.builder("flylink.redirect.cache.size", cache, Cache::estimatedSize)
+                .register(registry);
+    }
+
+    private record Entry(RedirectTarget target, long loadedAtNanos) {
+
+        boolean isFresh(long now, long freshNanos) {
+            return now - loadedAtNanos < freshNanos;
+        }
+    }
+}
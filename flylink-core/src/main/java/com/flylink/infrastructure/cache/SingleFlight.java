@@ -0,0 +1,83 @@
+package com.flylink.infrastructure.cache;
+
+import com.flylink.domain.exception.ServiceUnavailableException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Agrupa cargas concorrentes da mesma chave: a primeira thread executa o
+ * loader e as demais aguardam o mesmo resultado (valor ou exceção).
+ *
+ * Quem espera desiste após o timeout com {@link ServiceUnavailableException},
+ * em vez de ir ao banco também. Quem carrega não tem timeout próprio — fica
+ * limitado pelos timeouts do pool e do driver.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder deduplicated = new LongAdder();
+    private final long timeoutMs;
+
+    public SingleFlight(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public V load(K key, Function<K, V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            deduplicated.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.apply(key);
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Cargas evitadas desde o início: chamadas que reaproveitaram uma carga em andamento.
+     */
+    public long deduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Chaves com carga em andamento neste momento.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ServiceUnavailableException("Tempo esgotado aguardando a consulta da URL. Tente novamente.");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Consulta da URL interrompida. Tente novamente.");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+/**
+ * Barramento que propaga invalidações de cache entre os nós da aplicação.
+ *
+ * Quem altera uma URL publica o código; todos os nós inscritos (inclusive
+ * os remotos) recebem o código e descartam a entrada local.
+ */
+public interface CacheInvalidationBus {
+
+    /**
+     * Agenda a invalidação de um código em todos os nós.
+     * As publicações são agrupadas e deduplicadas antes do envio.
+     */
+    void publish(String code);
+
+    /**
+     * Registra um ouvinte para invalidações recebidas.
+     */
+    void subscribe(InvalidationListener listener);
+}
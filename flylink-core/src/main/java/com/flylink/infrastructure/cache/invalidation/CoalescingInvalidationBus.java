@@ -0,0 +1,162 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Base dos barramentos: agrupa publicações numa janela curta, deduplica
+ * códigos repetidos e envia um único lote por janela.
+ *
+ * Também controla a sequência por remetente — se um nó receber a mensagem
+ * N+2 sem ter visto a N+1, assume perda e força um resync completo.
+ */
+@Slf4j
+public abstract class CoalescingInvalidationBus implements CacheInvalidationBus, SmartLifecycle {
+
+    private final long flushIntervalMs;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final List<InvalidationListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, Long> lastSequenceByNode = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+
+    protected CoalescingInvalidationBus(long flushIntervalMs) {
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    /**
+     * Envia o lote ao transporte. Chamado apenas pela thread de flush.
+     */
+    protected abstract void send(InvalidationMessage message) throws Exception;
+
+    @Override
+    public void publish(String code) {
+        if (code != null) {
+            pending.add(code);
+        }
+    }
+
+    @Override
+    public void subscribe(InvalidationListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Drena os códigos pendentes e envia como uma mensagem.
+     * Em caso de falha os códigos voltam para a fila da próxima janela.
+     */
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> batch = new ArrayList<>();
+        Iterator<String> it = pending.iterator();
+        while (it.hasNext()) {
+            batch.add(it.next());
+            it.remove();
+        }
+
+        for (List<String> codes : InvalidationMessage.partition(batch, maxPayloadChars())) {
+            InvalidationMessage message = new InvalidationMessage(nodeId, sequence.incrementAndGet(), codes);
+            try {
+                send(message);
+            } catch (Exception ex) {
+                // A sequência já avançou: os outros nós verão a lacuna e farão resync
+                log.warn("Falha ao publicar {} invalidações, tentando na próxima janela: {}", codes.size(),
+                        ex.getMessage());
+                pending.addAll(codes);
+            }
+        }
+    }
+
+    /**
+     * Tamanho máximo (em caracteres) da lista de códigos de uma mensagem.
+     */
+    protected int maxPayloadChars() {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Entrega uma mensagem recebida aos ouvintes locais.
+     * Mensagens do próprio nó são ignoradas (a invalidação local já aconteceu).
+     */
+    protected void receive(InvalidationMessage message) {
+        if (nodeId.equals(message.nodeId())) {
+            return;
+        }
+
+        Long previous = lastSequenceByNode.put(message.nodeId(), message.sequence());
+        if (previous != null && message.sequence() != previous + 1) {
+            log.warn("Lacuna de invalidações do nó {} ({} → {}), fazendo resync",
+                    message.nodeId(), previous, message.sequence());
+            resync();
+            return;
+        }
+
+        deliver(message.codes());
+    }
+
+    protected void deliver(Collection<String> codes) {
+        for (InvalidationListener listener : listeners) {
+            listener.onInvalidate(codes);
+        }
+    }
+
+    /**
+     * Descarta todos os caches locais e zera o controle de sequência.
+     */
+    protected void resync() {
+        lastSequenceByNode.clear();
+        for (InvalidationListener listener : listeners) {
+            listener.onResync();
+        }
+    }
+
+    protected String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-invalidation-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            flush();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,34 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Barramento dentro da própria JVM — para testes e instalações de nó único.
+ *
+ * Vários barramentos podem ser conectados entre si com {@link #connect} para
+ * simular nós distintos num mesmo processo.
+ */
+public class InMemoryCacheInvalidationBus extends CoalescingInvalidationBus {
+
+    private final List<InMemoryCacheInvalidationBus> peers = new CopyOnWriteArrayList<>();
+
+    public InMemoryCacheInvalidationBus(long flushIntervalMs) {
+        super(flushIntervalMs);
+    }
+
+    /**
+     * Liga dois barramentos nos dois sentidos.
+     */
+    public void connect(InMemoryCacheInvalidationBus other) {
+        peers.add(other);
+        other.peers.add(this);
+    }
+
+    @Override
+    protected void send(InvalidationMessage message) {
+        for (InMemoryCacheInvalidationBus peer : peers) {
+            peer.receive(message);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import java.util.Collection;
+
+/**
+ * Recebe as invalidações entregues pelo {@link CacheInvalidationBus}.
+ */
+public interface InvalidationListener {
+
+    /**
+     * Descarta as entradas dos códigos informados.
+     */
+    void onInvalidate(Collection<String> codes);
+
+    /**
+     * Descarta tudo — chamado quando o nó pode ter perdido mensagens
+     * (reconexão ou lacuna na sequência de um remetente).
+     */
+    void onResync();
+}
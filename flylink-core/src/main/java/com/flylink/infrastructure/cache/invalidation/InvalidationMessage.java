@@ -0,0 +1,71 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mensagem trafegada no barramento: {@code nodeId|sequence|code1,code2,...}.
+ *
+ * O separador é seguro porque códigos só aceitam [a-zA-Z0-9_-].
+ * A sequência é por remetente e permite detectar mensagens perdidas.
+ *
+ * @param nodeId   Identificador do nó que publicou
+ * @param sequence Número sequencial da mensagem no nó remetente
+ * @param codes    Códigos invalidados
+ */
+public record InvalidationMessage(String nodeId, long sequence, List<String> codes) {
+
+    private static final char FIELD_SEPARATOR = '|';
+    private static final String CODE_SEPARATOR = ",";
+
+    public String encode() {
+        return nodeId + FIELD_SEPARATOR + sequence + FIELD_SEPARATOR + String.join(CODE_SEPARATOR, codes);
+    }
+
+    /**
+     * Decodifica o payload recebido.
+     *
+     * @throws IllegalArgumentException se o payload estiver malformado
+     */
+    public static InvalidationMessage decode(String payload) {
+        int first = payload.indexOf(FIELD_SEPARATOR);
+        int second = first < 0 ? -1 : payload.indexOf(FIELD_SEPARATOR, first + 1);
+        if (first <= 0 || second < 0) {
+            throw new IllegalArgumentException("Payload de invalidação malformado: " + payload);
+        }
+
+        String nodeId = payload.substring(0, first);
+        long sequence = Long.parseLong(payload.substring(first + 1, second));
+        String body = payload.substring(second + 1);
+        List<String> codes = body.isEmpty() ? List.of() : Arrays.asList(body.split(CODE_SEPARATOR));
+
+        return new InvalidationMessage(nodeId, sequence, codes);
+    }
+
+    /**
+     * Divide os códigos em lotes cujo payload codificado não ultrapassa o limite
+     * (o NOTIFY do Postgres aceita no máximo 8000 bytes).
+     */
+    public static List<List<String>> partition(List<String> codes, int maxPayloadChars) {
+        List<List<String>> batches = new ArrayList<>();
+        List<String> current = new ArrayList<>();
+        int size = 0;
+
+        for (String code : codes) {
+            int added = code.length() + CODE_SEPARATOR.length();
+            if (!current.isEmpty() && size + added > maxPayloadChars) {
+                batches.add(current);
+                current = new ArrayList<>();
+                size = 0;
+            }
+            current.add(code);
+            size += added;
+        }
+
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,178 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Barramento sobre LISTEN/NOTIFY do Postgres.
+ *
+ * - Publicação: {@code pg_notify} pelo pool normal, um lote por janela.
+ * - Escuta: conexão dedicada (fora do Hikari) bloqueada em
+ * {@code getNotifications(timeout)} — sem polling em short_urls.
+ * - Reconexão: backoff exponencial; ao voltar, faz resync completo porque
+ * qualquer NOTIFY emitido enquanto o nó estava desconectado se perdeu.
+ */
+@Slf4j
+public class PostgresCacheInvalidationBus extends CoalescingInvalidationBus {
+
+    /**
+     * Nomes de canal aceitos. O LISTEN não aceita parâmetro, então o canal é
+     * concatenado no SQL: só identificadores simples (sem aspas) passam.
+     */
+    public static final String CHANNEL_PATTERN = "[a-z_][a-z0-9_]*";
+
+    // NAMEDATALEN - 1: nomes maiores são truncados pelo Postgres
+    private static final int MAX_CHANNEL_LENGTH = 63;
+
+    // Limite do NOTIFY é 8000 bytes; sobra margem para nodeId e sequência
+    private static final int MAX_PAYLOAD_CHARS = 7_800;
+
+    private final JdbcConnectionDetails connectionDetails;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final int listenTimeoutMs;
+    private final long reconnectBackoffMs;
+    private final long maxReconnectBackoffMs;
+
+    private volatile Thread listenerThread;
+    private volatile Connection listenConnection;
+
+    public PostgresCacheInvalidationBus(
+            JdbcConnectionDetails connectionDetails,
+            JdbcTemplate jdbcTemplate,
+            String channel,
+            long flushIntervalMs,
+            long listenTimeoutMs,
+            long reconnectBackoffMs,
+            long maxReconnectBackoffMs) {
+        super(flushIntervalMs);
+        if (channel == null || channel.length() > MAX_CHANNEL_LENGTH || !channel.matches(CHANNEL_PATTERN)) {
+            throw new IllegalArgumentException("Canal de invalidação inválido (esperado " + CHANNEL_PATTERN
+                    + ", até " + MAX_CHANNEL_LENGTH + " caracteres): " + channel);
+        }
+        this.connectionDetails = connectionDetails;
+        this.jdbcTemplate = jdbcTemplate;
+        this.channel = channel;
+        this.listenTimeoutMs = (int) listenTimeoutMs;
+        this.reconnectBackoffMs = reconnectBackoffMs;
+        this.maxReconnectBackoffMs = maxReconnectBackoffMs;
+    }
+
+    @Override
+    protected void send(InvalidationMessage message) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, channel, message.encode());
+    }
+
+    @Override
+    protected int maxPayloadChars() {
+        return MAX_PAYLOAD_CHARS;
+    }
+
+    @Override
+    public void start() {
+        super.start();
+        listenerThread = Thread.ofPlatform()
+                .name("cache-invalidation-listener")
+                .daemon(true)
+                .start(this::listenLoop);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        Thread thread = listenerThread;
+        listenerThread = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+        closeQuietly();
+    }
+
+    private void listenLoop() {
+        long backoff = reconnectBackoffMs;
+        boolean reconnecting = false;
+
+        while (listenerThread != null) {
+            try {
+                PGConnection pg = connect();
+                if (reconnecting) {
+                    log.info("Escuta de invalidações restabelecida, fazendo resync do cache");
+                    resync();
+                }
+                backoff = reconnectBackoffMs;
+                reconnecting = true;
+
+                while (listenerThread != null) {
+                    PGNotification[] notifications = pg.getNotifications(listenTimeoutMs);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (listenerThread == null) {
+                    return;
+                }
+                log.warn("Conexão de escuta de invalidações perdida: {}. Reconectando em {} ms",
+                        ex.getMessage(), backoff);
+                closeQuietly();
+                if (!sleep(backoff)) {
+                    return;
+                }
+                backoff = Math.min(backoff * 2, maxReconnectBackoffMs);
+            }
+        }
+    }
+
+    private PGConnection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                connectionDetails.getJdbcUrl(),
+                connectionDetails.getUsername(),
+                connectionDetails.getPassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + channel);
+        }
+        listenConnection = connection;
+        return connection.unwrap(PGConnection.class);
+    }
+
+    private void handle(String payload) {
+        try {
+            receive(InvalidationMessage.decode(payload));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Mensagem de invalidação ignorada: {}", ex.getMessage());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void closeQuietly() {
+        Connection connection = listenConnection;
+        listenConnection = null;
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // Conexão já estava quebrada
+            }
+        }
+    }
+}
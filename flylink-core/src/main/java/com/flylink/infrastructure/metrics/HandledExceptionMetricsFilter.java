@@ -0,0 +1,48 @@
+package com.flylink.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import java.io.IOException;
+
+/**
+ * Conta as exceções tratadas pelos @RestControllerAdvice, por tipo e status.
+ *
+ * Quando um handler escreve a resposta, o DispatcherServlet deixa a
+ * exceção no atributo {@link DispatcherServlet#EXCEPTION_ATTRIBUTE}; ler
+ * daqui cobre todos os handlers sem instrumentar cada um. As tags são o
+ * nome simples da classe e o status — conjuntos fechados.
+ */
+public class HandledExceptionMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry registry;
+
+    public HandledExceptionMetricsFilter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE) instanceof Throwable ex) {
+                Counter.builder("flylink.http.exceptions")
+                        .description("Exceptions handled by the REST exception handlers")
+                        .tag("exception", ex.getClass().getSimpleName())
+                        .tag("status", Integer.toString(response.getStatus()))
+                        .register(registry)
+                        .increment();
+            }
+        }
+    }
+}
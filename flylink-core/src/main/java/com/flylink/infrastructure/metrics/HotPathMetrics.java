@@ -0,0 +1,91 @@
+package com.flylink.infrastructure.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Métricas dos caminhos quentes (redirecionamento, clique, criação e JWT).
+ *
+ * Todos os medidores são registrados no construtor com tags de valores
+ * fixos: registrar um valor é só um incremento, sem busca no registry, e a
+ * cardinalidade não depende do tráfego (nenhuma tag por código ou usuário).
+ */
+@Component
+public class HotPathMetrics {
+
+    private final Map<RedirectOutcome, Timer> redirects = new EnumMap<>(RedirectOutcome.class);
+    private final Timer clickWrites;
+    private final Counter clickWriteFailures;
+    private final DistributionSummary codeGenerationAttempts;
+    private final Timer jwtValid;
+    private final Timer jwtInvalid;
+    private final Timer jwtRevoked;
+
+    public HotPathMetrics(MeterRegistry registry) {
+        for (RedirectOutcome outcome : RedirectOutcome.values()) {
+            redirects.put(outcome, latency("flylink.redirect", "Redirect resolution latency")
+                    .tag("outcome", outcome.tag())
+                    .register(registry));
+        }
+        clickWrites = latency("flylink.click.write", "Click counter write latency").register(registry);
+        clickWriteFailures = Counter.builder("flylink.click.write.failures")
+                .description("Click writes that failed and were spooled for replay")
+                .register(registry);
+        codeGenerationAttempts = DistributionSummary.builder("flylink.url.code.attempts")
+                .description("Random codes drawn until a free one was found, per create")
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+        jwtValid = jwtTimer(registry, "valid");
+        jwtInvalid = jwtTimer(registry, "invalid");
+        jwtRevoked = jwtTimer(registry, "revoked");
+    }
+
+    public void recordRedirect(RedirectOutcome outcome, long nanos) {
+        redirects.get(outcome).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordClickWrite(long nanos) {
+        clickWrites.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordClickWriteFailure() {
+        clickWriteFailures.increment();
+    }
+
+    public void recordCodeGenerationAttempts(int attempts) {
+        codeGenerationAttempts.record(attempts);
+    }
+
+    /**
+     * @param valid   assinatura e expiração ok
+     * @param revoked token válido, mas na lista de revogação
+     */
+    public void recordJwtValidation(long nanos, boolean valid, boolean revoked) {
+        Timer timer = !valid ? jwtInvalid : revoked ? jwtRevoked : jwtValid;
+        timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    // Histograma agregável no Prometheus (histogram_quantile), com buckets só
+    // entre 50µs e 5s para limitar as séries exportadas
+    private static Timer.Builder latency(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(50_000))
+                .maximumExpectedValue(Duration.ofSeconds(5));
+    }
+
+    private static Timer jwtTimer(MeterRegistry registry, String result) {
+        return latency("flylink.jwt.validation", "Access token signature, expiry and revocation check")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,25 @@
+package com.flylink.infrastructure.metrics;
+
+/**
+ * Resultado de um redirecionamento, usado como tag das métricas — um
+ * conjunto fechado de valores, nunca o código da URL.
+ */
+public enum RedirectOutcome {
+
+    HIT("hit"),
+    MISS("miss"),
+    STALE("stale"),
+    NOT_FOUND("not_found"),
+    EXPIRED("expired"),
+    ERROR("error");
+
+    private final String tag;
+
+    RedirectOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
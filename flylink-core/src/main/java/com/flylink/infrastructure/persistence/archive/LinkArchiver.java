@@ -0,0 +1,155 @@
+package com.flylink.infrastructure.persistence.archive;
+
+import com.flylink.config.ArchivalProperties;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter.ShardScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Job que move links inativos há mais que a retenção para short_urls_archive.
+ *
+ * - Elegível: desativado (toggle, maxClicks ou expiração já detectada) ou com
+ * expiresAt vencido há mais de retention-days e, nos dois casos, sem
+ * edição nem clique nesse período — um link ainda ativo só sai da tabela
+ * se também está parado desde antes da retenção.
+ * - Cada lote é um DELETE ... RETURNING + INSERT numa transação curta.
+ * - Apenas um nó executa por vez: advisory lock de sessão no shard 0.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.archival", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class LinkArchiver {
+
+    // Chave arbitrária e fixa do advisory lock do arquivamento
+    private static final long LOCK_KEY = 0x666c796c696e6bL;
+
+    private static final String ARCHIVE_BATCH_SQL = """
+            WITH moved AS (
+                DELETE FROM short_urls WHERE id IN (
+                    SELECT id FROM short_urls
+                    WHERE GREATEST(COALESCE(updated_at, created_at), COALESCE(last_click_at, created_at)) < ?
+                      AND (is_active = false OR expires_at < ?)
+                    ORDER BY id
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED)
+                RETURNING *)
+            INSERT INTO short_urls_archive (id, code, original_url, user_id, click_count, created_at, updated_at,
+                                            expires_at, last_click_at, is_active, max_clicks, redirect_type,
+                                            archived_at)
+            SELECT id, code, original_url, user_id, click_count, created_at, updated_at,
+                   expires_at, last_click_at, false, max_clicks, redirect_type, CURRENT_TIMESTAMP
+            FROM moved
+            RETURNING code""";
+
+    private final ArchivalProperties properties;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final RedirectCache redirectCache;
+
+    public LinkArchiver(
+            ArchivalProperties properties,
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter,
+            RedirectCache redirectCache) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardRouter = shardRouter;
+        this.redirectCache = redirectCache;
+    }
+
+    // Mesma chave de ArchivalProperties.intervalMs, validada (@Positive) no startup
+    @Scheduled(initialDelayString = "${app.archival.interval-ms:3600000}", fixedDelayString = "${app.archival.interval-ms:3600000}")
+    public void run() {
+        // Conexão própria (fora de transação) só para segurar o lock de sessão
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!tryLock(lockConnection)) {
+                log.debug("Arquivamento em execução em outro nó, pulando");
+                return;
+            }
+            try {
+                long archived = archiveAll(OffsetDateTime.now().minusDays(properties.getRetentionDays()));
+                if (archived > 0) {
+                    log.info("Arquivamento concluído: {} links movidos para short_urls_archive", archived);
+                }
+            } finally {
+                unlock(lockConnection);
+            }
+        } catch (SQLException ex) {
+            log.warn("Falha ao coordenar o arquivamento: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Arquiva todos os shards, lote a lote.
+     *
+     * @return Total de links arquivados
+     */
+    public long archiveAll(OffsetDateTime cutoff) {
+        long total = 0;
+        for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+            total += archiveShard(shard, cutoff);
+        }
+        return total;
+    }
+
+    private long archiveShard(int shard, OffsetDateTime cutoff) {
+        long total = 0;
+        int batchSize = properties.getBatchSize();
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<String> codes;
+            try (ShardScope ignored = shardRouter.bindShard(shard)) {
+                codes = transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                        ARCHIVE_BATCH_SQL, String.class, cutoff, cutoff, batchSize));
+            }
+
+            if (codes == null || codes.isEmpty()) {
+                break;
+            }
+            codes.forEach(redirectCache::invalidate);
+            total += codes.size();
+
+            if (codes.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    private boolean tryLock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_try_advisory_lock(?)")) {
+            ps.setLong(1, LOCK_KEY);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT pg_advisory_unlock(?)")) {
+            ps.setLong(1, LOCK_KEY);
+            ps.execute();
+        }
+    }
+}
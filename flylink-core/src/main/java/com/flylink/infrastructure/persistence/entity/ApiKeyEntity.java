@@ -0,0 +1,53 @@
+package com.flylink.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * JPA entity for a long-lived API key used by machine clients.
+ *
+ * The raw key is never stored: only its public prefix (lookup id, shown in
+ * listings) and the SHA-256 digest of the whole key.
+ */
+@Entity
+@Table(name = "api_keys", indexes = {
+        @Index(name = "idx_api_keys_prefix", columnList = "prefix", unique = true),
+        @Index(name = "idx_api_keys_user_id", columnList = "user_id")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiKeyEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, unique = true, length = 16)
+    private String prefix;
+
+    // SHA-256 of the full key, hex-encoded
+    @Column(name = "key_hash", nullable = false, length = 64)
+    private String keyHash;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    @Column(name = "revoked_at")
+    private OffsetDateTime revokedAt;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.flylink.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * JPA entity for a rotating refresh token.
+ *
+ * Only the SHA-256 of the token is stored. Every refresh consumes the row
+ * (consumedAt and revokedAt) and issues a new one in the same family;
+ * presenting an already consumed token revokes the whole family (reuse
+ * detection). Logout only sets revokedAt, so a logged-out token is just
+ * rejected.
+ */
+@Entity
+@Table(name = "refresh_tokens", indexes = {
+        @Index(name = "idx_refresh_tokens_hash", columnList = "token_hash", unique = true),
+        @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+        @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshTokenEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // SHA-256 of the raw token, hex-encoded
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Shared by every token descended from the same login
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(name = "created_at")
+    @Builder.Default
+    private OffsetDateTime createdAt = OffsetDateTime.now();
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    // Set by logout, family revocation and consumption: the token can no longer be used
+    @Column(name = "revoked_at")
+    private OffsetDateTime revokedAt;
+
+    // Set only when a refresh exchanged this token for the next one
+    @Column(name = "consumed_at")
+    private OffsetDateTime consumedAt;
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isConsumed() {
+        return consumedAt != null;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(OffsetDateTime.now());
+    }
+}
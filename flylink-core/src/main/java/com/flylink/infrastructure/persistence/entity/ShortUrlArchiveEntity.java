@@ -0,0 +1,85 @@
+package com.flylink.infrastructure.persistence.entity;
+
+import com.flylink.domain.model.RedirectType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+/**
+ * JPA entity for links moved out of short_urls by the archiver.
+ *
+ * Mirrors ShortUrlEntity column by column (ids are preserved) so a link
+ * can be restored to the hot table without losing its history.
+ */
+@Entity
+@Table(name = "short_urls_archive", indexes = {
+        @Index(name = "idx_short_urls_archive_code", columnList = "code", unique = true),
+        @Index(name = "idx_short_urls_archive_user_id", columnList = "user_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShortUrlArchiveEntity {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 50)
+    private String code;
+
+    @Column(name = "original_url", nullable = false, columnDefinition = "TEXT")
+    private String originalUrl;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "click_count")
+    private Long clickCount;
+
+    @Column(name = "created_at")
+    private OffsetDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    @Column(name = "expires_at")
+    private OffsetDateTime expiresAt;
+
+    @Column(name = "last_click_at")
+    private OffsetDateTime lastClickAt;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "max_clicks")
+    private Long maxClicks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "redirect_type", length = 20)
+    private RedirectType redirectType;
+
+    @Column(name = "archived_at", nullable = false)
+    private OffsetDateTime archivedAt;
+
+    /**
+     * Visão somente leitura como ShortUrlEntity (para as consultas do dono).
+     */
+    public ShortUrlEntity toShortUrl() {
+        return ShortUrlEntity.builder()
+                .id(id)
+                .code(code)
+                .originalUrl(originalUrl)
+                .userId(userId)
+                .clickCount(clickCount)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .expiresAt(expiresAt)
+                .lastClickAt(lastClickAt)
+                .isActive(false)
+                .maxClicks(maxClicks)
+                .redirectType(redirectType)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.flylink.infrastructure.persistence.entity;
 
+import com.flylink.domain.model.RedirectType;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,11 +14,12 @@ import java.time.OffsetDateTime;
  */
 @Entity
 @Table(name = "short_urls", indexes = {
-        @Index(name = "idx_short_urls_code", columnList = "code", unique = true)
+        @Index(name = "idx_short_urls_code", columnList = "code", unique = true),
+        @Index(name = "idx_short_urls_user_id", columnList = "user_id")
 })
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ShortUrlEntity {
@@ -62,6 +64,12 @@ public class ShortUrlEntity {
     @Column(name = "max_clicks")
     private Long maxClicks;
 
+    // HTTP status used by the redirect (null in rows created before the column existed → FOUND)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "redirect_type", length = 20)
+    @Builder.Default
+    private RedirectType redirectType = RedirectType.FOUND;
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = OffsetDateTime.now();
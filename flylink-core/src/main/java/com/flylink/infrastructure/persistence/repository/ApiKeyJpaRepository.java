@@ -0,0 +1,21 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.infrastructure.persistence.entity.ApiKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repositório Spring Data JPA para ApiKeyEntity.
+ */
+@Repository
+public interface ApiKeyJpaRepository extends JpaRepository<ApiKeyEntity, Long> {
+
+    Optional<ApiKeyEntity> findByPrefix(String prefix);
+
+    Optional<ApiKeyEntity> findByIdAndUserId(Long id, Long userId);
+
+    List<ApiKeyEntity> findAllByUserIdOrderByCreatedAtDesc(Long userId);
+}
@@ -0,0 +1,72 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.domain.model.RedirectTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Implementação JDBC do {@link RedirectRepository}.
+ *
+ * Evita hidratação de entidade, persistence context e dirty checking.
+ * Os SQLs são constantes — o driver do Postgres reaproveita o prepared
+ * statement do lado do servidor (cache por conexão, chaveado pelo texto).
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.redirect", name = "repository", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcRedirectRepository implements RedirectRepository {
+
+    private static final String FIND_ACTIVE_SQL = "SELECT " + RedirectTargetMapper.COLUMNS
+            + " FROM short_urls WHERE code = ? AND is_active = true";
+
+    // Mesma semântica do incrementClickCountSafely (JPQL): no SET todas as colunas têm o valor antigo
+    private static final String INCREMENT_CLICK_SQL = "UPDATE short_urls SET "
+            + "click_count = click_count + 1, "
+            + "last_click_at = CURRENT_TIMESTAMP, "
+            + "is_active = CASE WHEN (max_clicks IS NOT NULL AND click_count + 1 >= max_clicks) THEN false ELSE is_active END "
+            + "WHERE code = ? AND is_active = true";
+
+    private static final String ADD_CLICKS_SQL = "UPDATE short_urls SET "
+            + "click_count = click_count + ?, "
+            + "last_click_at = CURRENT_TIMESTAMP, "
+            + "is_active = CASE WHEN (max_clicks IS NOT NULL AND click_count + ? >= max_clicks) THEN false ELSE is_active END "
+            + "WHERE code = ? AND is_active = true";
+
+    private static final String DEACTIVATE_SQL = "UPDATE short_urls SET is_active = false, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE code = ?";
+
+    private static final ResultSetExtractor<RedirectTarget> SINGLE_TARGET = rs -> rs.next()
+            ? RedirectTargetMapper.map(rs)
+            : null;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<RedirectTarget> findActiveByCode(String code) {
+        return Optional.ofNullable(jdbcTemplate.query(FIND_ACTIVE_SQL, ps -> ps.setString(1, code), SINGLE_TARGET));
+    }
+
+    @Override
+    public int incrementClickCount(String code) {
+        return jdbcTemplate.update(INCREMENT_CLICK_SQL, ps -> ps.setString(1, code));
+    }
+
+    @Override
+    public int addClicks(String code, long clicks) {
+        return jdbcTemplate.update(ADD_CLICKS_SQL, ps -> {
+            ps.setLong(1, clicks);
+            ps.setLong(2, clicks);
+            ps.setString(3, code);
+        });
+    }
+
+    @Override
+    public void deactivate(String code) {
+        jdbcTemplate.update(DEACTIVATE_SQL, ps -> ps.setString(1, code));
+    }
+}
@@ -0,0 +1,45 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.domain.model.RedirectTarget;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementação JPA do {@link RedirectRepository}, sobre o ShortUrlJpaRepository.
+ * Mantida como referência e alternativa (app.redirect.repository=jpa).
+ */
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.redirect", name = "repository", havingValue = "jpa")
+public class JpaRedirectRepository implements RedirectRepository {
+
+    private final ShortUrlJpaRepository repository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RedirectTarget> findActiveByCode(String code) {
+        return repository.findByCodeAndIsActiveTrue(code).map(RedirectTarget::from);
+    }
+
+    @Override
+    @Transactional
+    public int incrementClickCount(String code) {
+        return repository.incrementClickCountSafely(code);
+    }
+
+    @Override
+    @Transactional
+    public int addClicks(String code, long clicks) {
+        return repository.addClicks(code, clicks);
+    }
+
+    @Override
+    @Transactional
+    public void deactivate(String code) {
+        repository.deactivateByCode(code);
+    }
+}
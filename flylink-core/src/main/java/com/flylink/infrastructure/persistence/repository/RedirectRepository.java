@@ -0,0 +1,40 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.domain.model.RedirectTarget;
+
+import java.util.Optional;
+
+/**
+ * Acesso a dados do caminho quente: resolução do redirecionamento e clique.
+ *
+ * Implementações selecionadas por app.redirect.repository:
+ * - jdbc (padrão): SQL fixo via JdbcTemplate, sem Hibernate
+ * - jpa: consultas do ShortUrlJpaRepository
+ */
+public interface RedirectRepository {
+
+    /**
+     * Busca o destino de uma URL ativa.
+     */
+    Optional<RedirectTarget> findActiveByCode(String code);
+
+    /**
+     * Incrementa o contador de cliques e desativa ao atingir maxClicks.
+     *
+     * @return linhas afetadas (0 se inativa ou já no limite)
+     */
+    int incrementClickCount(String code);
+
+    /**
+     * Soma vários cliques de uma vez (reenvio de cliques guardados), com a
+     * mesma regra de desativação por maxClicks.
+     *
+     * @return linhas afetadas
+     */
+    int addClicks(String code, long clicks);
+
+    /**
+     * Marca a URL como inativa (expiração detectada no redirecionamento).
+     */
+    void deactivate(String code);
+}
@@ -0,0 +1,33 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+/**
+ * Leitura de {@link RedirectTarget} direto do ResultSet, para as consultas
+ * JDBC do caminho de redirecionamento.
+ */
+public final class RedirectTargetMapper {
+
+    /**
+     * Colunas esperadas por {@link #map(ResultSet)}, nesta ordem.
+     */
+    public static final String COLUMNS = "code, original_url, expires_at, max_clicks, redirect_type";
+
+    private RedirectTargetMapper() {
+    }
+
+    public static RedirectTarget map(ResultSet rs) throws SQLException {
+        String redirectType = rs.getString(5);
+        return new RedirectTarget(
+                rs.getString(1),
+                rs.getString(2),
+                rs.getObject(3, OffsetDateTime.class),
+                rs.getObject(4, Long.class),
+                redirectType == null ? null : RedirectType.valueOf(redirectType));
+    }
+}
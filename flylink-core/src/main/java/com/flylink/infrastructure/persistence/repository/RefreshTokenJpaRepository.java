@@ -0,0 +1,44 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.infrastructure.persistence.entity.RefreshTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório Spring Data JPA para RefreshTokenEntity.
+ */
+@Repository
+public interface RefreshTokenJpaRepository extends JpaRepository<RefreshTokenEntity, Long> {
+
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    /**
+     * Consome o token só se ainda não foi usado — duas renovações
+     * concorrentes com o mesmo token não geram dois pares.
+     *
+     * @return 1 se este chamador consumiu o token, 0 caso contrário
+     */
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.consumedAt = :now, t.revokedAt = :now "
+            + "WHERE t.id = :id AND t.revokedAt IS NULL")
+    int consume(Long id, OffsetDateTime now);
+
+    /**
+     * Relê do banco se o token foi consumido — para decidir, quando o
+     * {@link #consume} perde a corrida, entre reuso e logout concorrente.
+     */
+    boolean existsByIdAndConsumedAtIsNotNull(Long id);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity t SET t.revokedAt = :now WHERE t.familyId = :familyId AND t.revokedAt IS NULL")
+    int revokeFamily(String familyId, OffsetDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.expiresAt < :now")
+    int deleteExpired(OffsetDateTime now);
+}
@@ -0,0 +1,29 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.infrastructure.persistence.entity.RevokedTokenEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Repositório Spring Data JPA para RevokedTokenEntity.
+ */
+@Repository
+public interface RevokedTokenJpaRepository extends JpaRepository<RevokedTokenEntity, Long> {
+
+    boolean existsByJti(String jti);
+
+    /**
+     * Revogações ainda relevantes (token não expirado) registradas depois de
+     * {@code since} — usado na sincronização incremental entre nós.
+     */
+    List<RevokedTokenEntity> findAllByRevokedAtAfterAndExpiresAtAfter(OffsetDateTime since, OffsetDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedTokenEntity t WHERE t.expiresAt < :now")
+    int deleteExpired(OffsetDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.infrastructure.persistence.entity.ShortUrlArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Spring Data JPA repository for ShortUrlArchiveEntity.
+ */
+@Repository
+public interface ShortUrlArchiveJpaRepository extends JpaRepository<ShortUrlArchiveEntity, Long> {
+
+    Optional<ShortUrlArchiveEntity> findByCode(String code);
+
+    boolean existsByCode(String code);
+
+    /**
+     * Move a linha de volta para short_urls preservando o id.
+     *
+     * @return 1 se a URL estava arquivada, 0 caso contrário
+     */
+    @Modifying
+    @Query(value = "WITH restored AS (DELETE FROM short_urls_archive WHERE code = :code RETURNING *) " +
+            "INSERT INTO short_urls (id, code, original_url, user_id, click_count, created_at, updated_at, " +
+            "expires_at, last_click_at, is_active, max_clicks, redirect_type) " +
+            "SELECT id, code, original_url, user_id, click_count, created_at, CURRENT_TIMESTAMP, " +
+            "expires_at, last_click_at, is_active, max_clicks, redirect_type FROM restored", nativeQuery = true)
+    int restoreByCode(String code);
+
+    @Modifying
+    @Query("DELETE FROM ShortUrlArchiveEntity a WHERE a.code = :code")
+    int deleteByCode(String code);
+}
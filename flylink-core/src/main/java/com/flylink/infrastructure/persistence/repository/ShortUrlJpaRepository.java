@@ -31,4 +31,17 @@ public interface ShortUrlJpaRepository extends JpaRepository<ShortUrlEntity, Lon
             +
             "WHERE u.code = :code AND u.isActive = true")
     int incrementClickCountSafely(String code);
+
+    @Modifying
+    @Query("UPDATE ShortUrlEntity u SET " +
+            "u.clickCount = u.clickCount + :clicks, " +
+            "u.lastClickAt = CURRENT_TIMESTAMP, " +
+            "u.isActive = CASE WHEN (u.maxClicks IS NOT NULL AND u.clickCount + :clicks >= u.maxClicks) THEN false ELSE u.isActive END "
+            +
+            "WHERE u.code = :code AND u.isActive = true")
+    int addClicks(String code, long clicks);
+
+    @Modifying
+    @Query("UPDATE ShortUrlEntity u SET u.isActive = false, u.updatedAt = CURRENT_TIMESTAMP WHERE u.code = :code")
+    int deactivateByCode(String code);
 }
@@ -0,0 +1,178 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import com.flylink.config.ShardingConfig;
+import com.flylink.config.ShardingProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resharding offline: move as linhas de short_urls (e do arquivo) da topologia atual
+ * (app.sharding.shards) para a de destino (app.sharding.reshard.target-shards).
+ *
+ * Uso, com o tráfego parado:
+ * java -jar app.jar --spring.main.web-application-type=none --app.sharding.reshard.enabled=true
+ *
+ * Lê cada shard de origem em lotes por keyset (id), copia as linhas cujo
+ * shard de destino é outro banco com INSERT ... ON CONFLICT DO NOTHING, relê
+ * o destino e só apaga da origem as linhas cuja cópia está lá com o mesmo id
+ * (os ids são únicos entre shards). Um código que já pertence a outra URL no
+ * destino fica na origem e é reportado no log, para resolução manual. É
+ * idempotente: se for interrompido, basta rodar de novo. Ao terminar, troque
+ * app.sharding.shards pela lista de destino.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sharding.reshard", name = "enabled", havingValue = "true")
+public class ReshardingTool implements ApplicationRunner {
+
+    private final ShardingProperties shardingProperties;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<ShardingProperties.Shard> sources = shardingProperties.getShards();
+        List<ShardingProperties.Shard> targets = shardingProperties.getReshard().getTargetShards();
+        if (sources.isEmpty() || targets.isEmpty()) {
+            throw new IllegalStateException("Resharding exige app.sharding.shards e app.sharding.reshard.target-shards");
+        }
+
+        Map<String, HikariDataSource> pools = new HashMap<>();
+        try {
+            List<JdbcTemplate> targetJdbc = new ArrayList<>();
+            for (int i = 0; i < targets.size(); i++) {
+                HikariDataSource dataSource = pool(pools, targets.get(i), "reshard-target-" + i);
+                ShardSchema.apply(dataSource, i);
+                targetJdbc.add(new JdbcTemplate(dataSource));
+            }
+
+            long moved = 0;
+            for (int i = 0; i < sources.size(); i++) {
+                ShardingProperties.Shard source = sources.get(i);
+                JdbcTemplate sourceJdbc = new JdbcTemplate(pool(pools, source, "reshard-source-" + i));
+                moved += drain("short_urls", ShardSchema.COLUMNS, i, source, sourceJdbc, targets, targetJdbc);
+                moved += drain("short_urls_archive", ShardSchema.ARCHIVE_COLUMNS, i, source, sourceJdbc, targets,
+                        targetJdbc);
+            }
+            log.info("Resharding concluído: {} linhas movidas para {} shards", moved, targets.size());
+        } finally {
+            pools.values().forEach(HikariDataSource::close);
+        }
+
+        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+    }
+
+    private long drain(
+            String table,
+            String columns,
+            int sourceIndex,
+            ShardingProperties.Shard source,
+            JdbcTemplate sourceJdbc,
+            List<ShardingProperties.Shard> targets,
+            List<JdbcTemplate> targetJdbc) {
+        int batchSize = shardingProperties.getReshard().getBatchSize();
+        long lastId = 0;
+        long moved = 0;
+
+        int columnCount = columns.split(",").length;
+        String placeholders = String.join(", ", Collections.nCopies(columnCount, "?"));
+
+        while (true) {
+            List<Object[]> rows = sourceJdbc.query(
+                    "SELECT " + columns + " FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> toRow(rs, columnCount), lastId, batchSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+
+            Map<Integer, List<Object[]>> byTarget = new HashMap<>();
+            for (Object[] row : rows) {
+                int target = ShardHashing.shardFor((String) row[1], targets.size());
+                if (!sameDatabase(source, targets.get(target))) {
+                    byTarget.computeIfAbsent(target, k -> new ArrayList<>()).add(row);
+                }
+            }
+
+            List<Object[]> movedIds = new ArrayList<>();
+            byTarget.forEach((target, batch) -> {
+                JdbcTemplate jdbc = targetJdbc.get(target);
+                jdbc.batchUpdate(
+                        "INSERT INTO " + table + " (" + columns + ") "
+                                + "VALUES (" + placeholders + ") ON CONFLICT (code) DO NOTHING",
+                        batch);
+                Map<String, Long> copies = targetIds(jdbc, table, batch);
+                for (Object[] row : batch) {
+                    if (isCopied(row, copies)) {
+                        movedIds.add(new Object[] { row[0] });
+                    } else {
+                        log.warn("Shard {} ({}): código {} já pertence a outra linha no shard de destino {}; "
+                                + "linha id {} mantida na origem", sourceIndex, table, row[1], target, row[0]);
+                    }
+                }
+            });
+
+            if (!movedIds.isEmpty()) {
+                sourceJdbc.batchUpdate("DELETE FROM " + table + " WHERE id = ?", movedIds);
+                moved += movedIds.size();
+            }
+            log.info("Shard {} ({}): até id {} — {} linhas movidas", sourceIndex, table, lastId, moved);
+        }
+        return moved;
+    }
+
+    /**
+     * Ids das linhas do destino com os códigos do lote, lidos depois do INSERT.
+     */
+    private static Map<String, Long> targetIds(JdbcTemplate jdbc, String table, List<Object[]> batch) {
+        Object[] codes = batch.stream().map(row -> row[1]).toArray();
+        Map<String, Long> ids = new HashMap<>();
+        jdbc.query("SELECT code, id FROM " + table + " WHERE code = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("varchar", codes)),
+                rs -> {
+                    ids.put(rs.getString(1), rs.getLong(2));
+                });
+        return ids;
+    }
+
+    /**
+     * A linha só pode sair da origem se o destino guarda o código com o mesmo
+     * id: uma cópia deste ou de um resharding anterior, nunca outra URL.
+     */
+    static boolean isCopied(Object[] row, Map<String, Long> targetIds) {
+        return row[0].equals(targetIds.get((String) row[1]));
+    }
+
+    private static Object[] toRow(ResultSet rs, int columnCount) throws SQLException {
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = rs.getObject(i + 1);
+        }
+        return row;
+    }
+
+    private static boolean sameDatabase(ShardingProperties.Shard a, ShardingProperties.Shard b) {
+        return a.getUrl().equals(b.getUrl());
+    }
+
+    private static HikariDataSource pool(Map<String, HikariDataSource> pools, ShardingProperties.Shard shard,
+            String name) {
+        return pools.computeIfAbsent(shard.getUrl(), url -> ShardingConfig.createShardDataSource(shard, name));
+    }
+}
@@ -0,0 +1,26 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+/**
+ * Shard associado à thread atual.
+ * Lido pelo {@link ShardRoutingDataSource} no momento em que a conexão física
+ * é obtida; sem valor definido, as operações vão para o shard 0.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    static void set(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Hash estável de códigos para shards.
+ *
+ * FNV-1a (64 bits) sobre os bytes UTF-8 do código, seguido de Jump Consistent
+ * Hash (Lamping & Veach). O resultado depende apenas do código e do número de
+ * shards — nunca de String.hashCode() ou da JVM — e, ao crescer de N para N+1
+ * shards, só ~1/(N+1) dos códigos mudam de lugar.
+ */
+public final class ShardHashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ShardHashing() {
+    }
+
+    public static int shardFor(String code, int shardCount) {
+        if (shardCount <= 1) {
+            return 0;
+        }
+        return jumpConsistentHash(fnv1a64(code), shardCount);
+    }
+
+    static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    static int jumpConsistentHash(long key, int buckets) {
+        long b = -1;
+        long j = 0;
+        while (j < buckets) {
+            b = j;
+            key = key * 2862933555777941757L + 1;
+            j = (long) ((b + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) b;
+    }
+}
@@ -0,0 +1,145 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Ponto único de roteamento de short_urls entre shards.
+ *
+ * Com um único shard (sharding desabilitado) todas as operações degeneram
+ * para chamadas diretas, sem threads nem transações extras.
+ */
+public class ShardRouter implements AutoCloseable {
+
+    private final int shardCount;
+    private final TransactionTemplate requiresNewTransaction;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardRouter(int shardCount, TransactionTemplate requiresNewTransaction, ExecutorService fanOutExecutor) {
+        this.shardCount = shardCount;
+        this.requiresNewTransaction = requiresNewTransaction;
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    /**
+     * Roteador de shard único — o comportamento sem sharding.
+     */
+    public static ShardRouter single() {
+        return new ShardRouter(1, null, null);
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    /**
+     * Shard dono do código. Vale igualmente para códigos gerados e customizados.
+     */
+    public int shardFor(String code) {
+        return ShardHashing.shardFor(code, shardCount);
+    }
+
+    /**
+     * Shard escolhido para um código ainda não gerado.
+     */
+    public int randomShard() {
+        return isSharded() ? ThreadLocalRandom.current().nextInt(shardCount) : 0;
+    }
+
+    /**
+     * Direciona as próximas operações da thread para o shard do código.
+     * Deve ser chamado antes do primeiro comando SQL da transação.
+     */
+    public ShardScope bind(String code) {
+        return bindShard(shardFor(code));
+    }
+
+    public ShardScope bindShard(int shard) {
+        if (!isSharded()) {
+            return ShardScope.NOOP;
+        }
+        Integer previous = ShardContext.current();
+        ShardContext.set(shard);
+        return () -> ShardContext.set(previous);
+    }
+
+    /**
+     * Executa o trabalho numa transação própria no shard informado, suspendendo
+     * a transação atual (que pode estar presa a outro shard).
+     */
+    public <T> T runOn(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        try (ShardScope ignored = bindShard(shard)) {
+            return requiresNewTransaction.execute(status -> work.get());
+        }
+    }
+
+    /**
+     * Executa a consulta em todos os shards em paralelo e junta os resultados.
+     *
+     * @param perShard Consulta executada dentro de cada shard
+     * @param order    Ordenação aplicada ao resultado combinado
+     */
+    public <T> List<T> fanOut(IntFunction<List<T>> perShard, Comparator<? super T> order) {
+        if (!isSharded()) {
+            return perShard.apply(0);
+        }
+
+        List<CompletableFuture<List<T>>> futures = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> runOn(target, () -> perShard.apply(target)),
+                    fanOutExecutor));
+        }
+
+        List<T> merged = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<T>> future : futures) {
+                merged.addAll(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+
+        merged.sort(order);
+        return merged;
+    }
+
+    @Override
+    public void close() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Escopo de roteamento; restaura o shard anterior ao fechar.
+     */
+    @FunctionalInterface
+    public interface ShardScope extends AutoCloseable {
+
+        ShardScope NOOP = () -> {
+        };
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,21 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * DataSource que escolhe o shard pela {@link ShardContext} da thread.
+ *
+ * Deve ser envolvido por um LazyConnectionDataSourceProxy: assim a conexão
+ * física só é obtida no primeiro comando SQL, depois que o serviço já
+ * definiu o shard — mesmo dentro de um método @Transactional.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final int DEFAULT_SHARD = 0;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shard = ShardContext.current();
+        return shard != null ? shard : DEFAULT_SHARD;
+    }
+}
@@ -0,0 +1,83 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Esquema de short_urls (e short_urls_archive) nos shards além do 0.
+ *
+ * O shard 0 continua sob o ddl-auto do Hibernate (ele também guarda users);
+ * os demais recebem este DDL, que espelha o ShortUrlEntity e deve evoluir
+ * junto com ele. Cada shard gera ids numa faixa própria para que os ids
+ * continuem únicos entre shards (e sobrevivam a um resharding).
+ */
+@Slf4j
+public final class ShardSchema {
+
+    // 10^15 ids por shard
+    private static final long ID_RANGE_PER_SHARD = 1_000_000_000_000_000L;
+
+    /**
+     * Colunas copiadas pelo resharding, na ordem usada nos INSERTs.
+     */
+    public static final String COLUMNS = "id, code, original_url, user_id, click_count, created_at, updated_at, "
+            + "expires_at, last_click_at, is_active, max_clicks, redirect_type";
+
+    /**
+     * Colunas de short_urls_archive copiadas pelo resharding.
+     */
+    public static final String ARCHIVE_COLUMNS = COLUMNS + ", archived_at";
+
+    private ShardSchema() {
+    }
+
+    public static void apply(DataSource dataSource, int shard) {
+        if (shard == 0) {
+            return;
+        }
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS short_urls (
+                    id BIGINT GENERATED BY DEFAULT AS IDENTITY (START WITH %d) PRIMARY KEY,
+                    code VARCHAR(50) NOT NULL,
+                    original_url TEXT NOT NULL,
+                    user_id BIGINT,
+                    click_count BIGINT,
+                    created_at TIMESTAMP(6) WITH TIME ZONE,
+                    updated_at TIMESTAMP(6) WITH TIME ZONE,
+                    expires_at TIMESTAMP(6) WITH TIME ZONE,
+                    last_click_at TIMESTAMP(6) WITH TIME ZONE,
+                    is_active BOOLEAN,
+                    max_clicks BIGINT,
+                    redirect_type VARCHAR(20)
+                )""".formatted(shard * ID_RANGE_PER_SHARD + 1));
+        jdbc.execute("ALTER TABLE short_urls ADD COLUMN IF NOT EXISTS redirect_type VARCHAR(20)");
+        jdbc.execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_short_urls_code ON short_urls (code)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_short_urls_user_id ON short_urls (user_id)");
+
+        jdbc.execute("""
+                CREATE TABLE IF NOT EXISTS short_urls_archive (
+                    id BIGINT PRIMARY KEY,
+                    code VARCHAR(50) NOT NULL,
+                    original_url TEXT NOT NULL,
+                    user_id BIGINT,
+                    click_count BIGINT,
+                    created_at TIMESTAMP(6) WITH TIME ZONE,
+                    updated_at TIMESTAMP(6) WITH TIME ZONE,
+                    expires_at TIMESTAMP(6) WITH TIME ZONE,
+                    last_click_at TIMESTAMP(6) WITH TIME ZONE,
+                    is_active BOOLEAN,
+                    max_clicks BIGINT,
+                    redirect_type VARCHAR(20),
+                    archived_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+                )""");
+        jdbc.execute("ALTER TABLE short_urls_archive ADD COLUMN IF NOT EXISTS redirect_type VARCHAR(20)");
+        jdbc.execute("CREATE UNIQUE INDEX IF NOT EXISTS idx_short_urls_archive_code ON short_urls_archive (code)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_short_urls_archive_user_id ON short_urls_archive (user_id)");
+
+        log.info("Esquema de short_urls verificado no shard {}", shard);
+    }
+}
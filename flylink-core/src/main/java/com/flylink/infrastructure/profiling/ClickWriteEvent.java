@@ -0,0 +1,47 @@
+package com.flylink.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR da escrita do contador de cliques de um redirecionamento.
+ */
+@Name("com.flylink.ClickWrite")
+@Label("Click Write")
+@Category("Flylink")
+@Description("Click counter update, or hand-off to the click spool when the database is down")
+@StackTrace(false)
+public class ClickWriteEvent extends Event {
+
+    @Label("Code")
+    private String code;
+
+    @Label("Spooled")
+    @Description("Database unavailable; the click was kept for replay")
+    private boolean spooled;
+
+    /**
+     * @return o evento já iniciado, ou null se não há gravação JFR em andamento
+     */
+    public static ClickWriteEvent start() {
+        if (!JfrRecordingState.isRecording()) {
+            return null;
+        }
+        ClickWriteEvent event = new ClickWriteEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String code, boolean spooled) {
+        end();
+        if (shouldCommit()) {
+            this.code = code;
+            this.spooled = spooled;
+            commit();
+        }
+    }
+}
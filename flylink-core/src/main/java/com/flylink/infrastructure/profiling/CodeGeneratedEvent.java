@@ -0,0 +1,47 @@
+package com.flylink.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR da geração de um código aleatório livre, incluindo as
+ * consultas de colisão no banco.
+ */
+@Name("com.flylink.CodeGenerated")
+@Label("Code Generated")
+@Category("Flylink")
+@Description("Random short code drawn until one was free on the target shard")
+@StackTrace(false)
+public class CodeGeneratedEvent extends Event {
+
+    @Label("Attempts")
+    private int attempts;
+
+    @Label("Shard")
+    private int shard;
+
+    /**
+     * @return o evento já iniciado, ou null se não há gravação JFR em andamento
+     */
+    public static CodeGeneratedEvent start() {
+        if (!JfrRecordingState.isRecording()) {
+            return null;
+        }
+        CodeGeneratedEvent event = new CodeGeneratedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(int attempts, int shard) {
+        end();
+        if (shouldCommit()) {
+            this.attempts = attempts;
+            this.shard = shard;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.flylink.infrastructure.profiling;
+
+import com.flylink.config.ProfilingProperties;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Gravação JFR sob demanda, com duração limitada.
+ *
+ * POST /actuator/flightrecording inicia uma gravação (durationSeconds
+ * opcional, limitado ao teto configurado); ao terminar, o JFR grava o
+ * arquivo .jfr no diretório configurado e fecha a gravação. Só uma
+ * gravação por vez: um novo POST com outra em andamento devolve a atual.
+ * DELETE encerra antes do prazo (o arquivo é gravado do mesmo jeito).
+ */
+@Slf4j
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "flylink-on-demand";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")
+            .withZone(ZoneOffset.UTC);
+
+    private final ProfilingProperties properties;
+
+    private Recording current;
+
+    public FlightRecordingEndpoint(ProfilingProperties properties) {
+        this.properties = properties;
+    }
+
+    @ReadOperation
+    public synchronized RecordingInfo status() {
+        return current != null ? describe(current) : null;
+    }
+
+    @WriteOperation
+    public synchronized RecordingInfo start(@Nullable Integer durationSeconds) {
+        if (current != null && current.getState() == RecordingState.RUNNING) {
+            return describe(current);
+        }
+
+        int seconds = Math.min(
+                durationSeconds != null && durationSeconds > 0 ? durationSeconds : properties.getDefaultDurationSeconds(),
+                properties.getMaxDurationSeconds());
+        Path file = Path.of(properties.getRecordingDir())
+                .resolve("flylink-" + FILE_TIMESTAMP.format(Instant.now()) + ".jfr")
+                .toAbsolutePath();
+
+        Recording recording;
+        try {
+            Files.createDirectories(file.getParent());
+            recording = new Recording(Configuration.getConfiguration(properties.getSettings()));
+            recording.setDestination(file);
+        } catch (IOException | ParseException ex) {
+            throw new IllegalStateException("Falha ao preparar a gravação JFR em " + file, ex);
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setDuration(Duration.ofSeconds(seconds));
+        recording.start();
+        current = recording;
+
+        log.info("Gravação JFR iniciada por {}s: {}", seconds, file);
+        return describe(recording);
+    }
+
+    @DeleteOperation
+    public synchronized RecordingInfo stop() {
+        if (current == null) {
+            return null;
+        }
+        if (current.getState() == RecordingState.RUNNING) {
+            // Com destino definido, stop() grava o arquivo e fecha a gravação
+            current.stop();
+            log.info("Gravação JFR encerrada antes do prazo: {}", current.getDestination());
+        }
+        return describe(current);
+    }
+
+    private static RecordingInfo describe(Recording recording) {
+        return new RecordingInfo(
+                recording.getName(),
+                recording.getState().name(),
+                String.valueOf(recording.getDestination()),
+                recording.getDuration() != null ? recording.getDuration().toSeconds() : 0,
+                recording.getStartTime());
+    }
+
+    /**
+     * Estado de uma gravação; o arquivo só existe depois que ela termina.
+     */
+    public record RecordingInfo(String name, String state, String file, long durationSeconds, Instant startedAt) {
+    }
+}
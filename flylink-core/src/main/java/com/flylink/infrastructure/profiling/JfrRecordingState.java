@@ -0,0 +1,46 @@
+package com.flylink.infrastructure.profiling;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Indica se há alguma gravação JFR em andamento, atualizado pelo próprio
+ * JFR a cada mudança de estado.
+ *
+ * Sem gravação, os pontos instrumentados nem criam o evento: o JIT não
+ * elimina de forma confiável a instância de um evento desabilitado, e no
+ * redirecionamento isso eram 40 B por evento.
+ */
+public final class JfrRecordingState {
+
+    private static volatile boolean recording;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                refresh();
+            }
+
+            @Override
+            public void recordingStateChanged(Recording changed) {
+                refresh();
+            }
+        });
+        refresh();
+    }
+
+    private JfrRecordingState() {
+    }
+
+    public static boolean isRecording() {
+        return recording;
+    }
+
+    private static void refresh() {
+        recording = FlightRecorder.isInitialized() && FlightRecorder.getFlightRecorder().getRecordings().stream()
+                .anyMatch(r -> r.getState() == RecordingState.RUNNING);
+    }
+}
@@ -0,0 +1,55 @@
+package com.flylink.infrastructure.profiling;
+
+import com.flylink.infrastructure.metrics.RedirectOutcome;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR de uma resolução de redirecionamento (cache ou banco).
+ *
+ * Sem gravação em andamento, {@link #start()} devolve null e nada é
+ * alocado; com gravação, os campos só são preenchidos quando o evento
+ * passa pelo filtro do JFR (habilitado e acima do threshold).
+ */
+@Name("com.flylink.RedirectResolved")
+@Label("Redirect Resolved")
+@Category("Flylink")
+@Description("Short code resolved to its destination, from the cache or the database")
+@StackTrace(false)
+public class RedirectResolvedEvent extends Event {
+
+    @Label("Code")
+    private String code;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    @Label("Outcome")
+    private String outcome;
+
+    /**
+     * @return o evento já iniciado, ou null se não há gravação JFR em andamento
+     */
+    public static RedirectResolvedEvent start() {
+        if (!JfrRecordingState.isRecording()) {
+            return null;
+        }
+        RedirectResolvedEvent event = new RedirectResolvedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(String code, RedirectOutcome outcome) {
+        end();
+        if (shouldCommit()) {
+            this.code = code;
+            this.cacheHit = outcome == RedirectOutcome.HIT;
+            this.outcome = outcome.tag();
+            commit();
+        }
+    }
+}
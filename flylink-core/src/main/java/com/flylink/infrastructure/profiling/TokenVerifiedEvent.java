@@ -0,0 +1,42 @@
+package com.flylink.infrastructure.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR da verificação de assinatura e expiração de um access token.
+ */
+@Name("com.flylink.TokenVerified")
+@Label("Token Verified")
+@Category("Flylink")
+@Description("Access token signature and expiry check")
+@StackTrace(false)
+public class TokenVerifiedEvent extends Event {
+
+    @Label("Valid")
+    private boolean valid;
+
+    /**
+     * @return o evento já iniciado, ou null se não há gravação JFR em andamento
+     */
+    public static TokenVerifiedEvent start() {
+        if (!JfrRecordingState.isRecording()) {
+            return null;
+        }
+        TokenVerifiedEvent event = new TokenVerifiedEvent();
+        event.begin();
+        return event;
+    }
+
+    public void finish(boolean valid) {
+        end();
+        if (shouldCommit()) {
+            this.valid = valid;
+            commit();
+        }
+    }
+}
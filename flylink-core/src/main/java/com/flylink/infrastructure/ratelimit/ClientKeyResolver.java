@@ -0,0 +1,24 @@
+package com.flylink.infrastructure.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Chave do cliente no {@link RateLimiter}: userId (Long) ou IP (String).
+ *
+ * O padrão é o IP; o flylink-api registra um bean que usa o principal
+ * autenticado pelo Spring Security. Não deve alocar: roda em toda
+ * requisição com política.
+ *
+ * O IP é o getRemoteAddr: atrás de um load balancer, o Tomcat o troca pelo
+ * cliente do X-Forwarded-For (server.forward-headers-strategy=native), mas
+ * só se a conexão vier de um proxy em server.tomcat.remoteip.internal-proxies
+ * (TRUSTED_PROXIES). Sem isso, todos os clientes dividem o balde do IP do
+ * balanceador; com proxies demais na lista, o cliente escolhe a própria chave.
+ */
+@FunctionalInterface
+public interface ClientKeyResolver {
+
+    ClientKeyResolver REMOTE_ADDRESS = HttpServletRequest::getRemoteAddr;
+
+    Object clientKey(HttpServletRequest request);
+}
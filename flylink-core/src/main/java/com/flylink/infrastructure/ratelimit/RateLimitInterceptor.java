@@ -0,0 +1,76 @@
+package com.flylink.infrastructure.ratelimit;
+
+import com.flylink.domain.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aplica o {@link RateLimiter} e escreve os headers RateLimit-*
+ * (draft-ietf-httpapi-ratelimit-headers).
+ *
+ * Roda depois do Spring Security: a chave do cliente vem do
+ * {@link ClientKeyResolver} — userId para usuários autenticados no
+ * flylink-api, IP nos demais casos.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+    static final String POLICY_HEADER = "RateLimit-Policy";
+
+    // Valores comuns dos headers já prontos, para não alocar por requisição
+    private static final String[] SMALL_NUMBERS = new String[1024];
+
+    static {
+        for (int i = 0; i < SMALL_NUMBERS.length; i++) {
+            SMALL_NUMBERS[i] = String.valueOf(i);
+        }
+    }
+
+    private final RateLimiter rateLimiter;
+    private final ClientKeyResolver clientKeyResolver;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter) {
+        this(rateLimiter, ClientKeyResolver.REMOTE_ADDRESS);
+    }
+
+    public RateLimitInterceptor(RateLimiter rateLimiter, ClientKeyResolver clientKeyResolver) {
+        this.rateLimiter = rateLimiter;
+        this.clientKeyResolver = clientKeyResolver;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RateLimitPolicy policy = rateLimiter.match(request);
+        if (policy == null) {
+            return true;
+        }
+
+        long result = rateLimiter.tryConsume(policy, clientKeyResolver.clientKey(request));
+
+        response.setHeader(LIMIT_HEADER, policy.limitHeader());
+        response.setHeader(POLICY_HEADER, policy.policyHeader());
+        if (result < 0) {
+            long retryAfter = toSecondsCeil(-result);
+            response.setHeader(REMAINING_HEADER, "0");
+            response.setHeader(RESET_HEADER, toHeaderValue(retryAfter));
+            throw new RateLimitExceededException(retryAfter);
+        }
+
+        response.setHeader(REMAINING_HEADER, toHeaderValue(policy.remaining(result)));
+        response.setHeader(RESET_HEADER, toHeaderValue(toSecondsCeil(result)));
+        return true;
+    }
+
+    private static String toHeaderValue(long value) {
+        return value < SMALL_NUMBERS.length ? SMALL_NUMBERS[(int) value] : String.valueOf(value);
+    }
+
+    private static long toSecondsCeil(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
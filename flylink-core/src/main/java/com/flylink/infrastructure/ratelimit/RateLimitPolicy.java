@@ -0,0 +1,76 @@
+package com.flylink.infrastructure.ratelimit;
+
+import com.flylink.config.RateLimitProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Política de uma rota já compilada: padrão de caminho, parâmetros do balde
+ * em nanos, valores fixos dos headers e os baldes dos clientes.
+ */
+public final class RateLimitPolicy {
+
+    private final String name;
+    private final String method;
+    private final PathPattern pattern;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final String limitHeader;
+    private final String policyHeader;
+
+    // Chave: userId (Long) ou IP (String)
+    final ConcurrentHashMap<Object, TokenBucket> buckets = new ConcurrentHashMap<>();
+    final LongAdder rejected = new LongAdder();
+    final LongAdder untracked = new LongAdder();
+
+    RateLimitPolicy(RateLimitProperties.Policy config) {
+        this.name = config.getName();
+        this.method = config.getMethod() == null || config.getMethod().isBlank()
+                ? null
+                : config.getMethod().toUpperCase(Locale.ROOT);
+        this.pattern = PathPatternParser.defaultInstance.parse(config.getPattern());
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.getRefillPerSecond());
+        this.burstNanos = intervalNanos * config.getCapacity();
+        this.limitHeader = String.valueOf(config.getCapacity());
+        long windowSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(burstNanos));
+        this.policyHeader = config.getCapacity() + ";w=" + windowSeconds;
+    }
+
+    boolean matches(HttpServletRequest request, PathContainer path) {
+        return (method == null || method.equals(request.getMethod())) && pattern.matches(path);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    long intervalNanos() {
+        return intervalNanos;
+    }
+
+    long burstNanos() {
+        return burstNanos;
+    }
+
+    /**
+     * Tokens que restam depois de uma requisição aceita com a dívida informada.
+     */
+    long remaining(long debtNanos) {
+        return (burstNanos - debtNanos) / intervalNanos;
+    }
+
+    String limitHeader() {
+        return limitHeader;
+    }
+
+    String policyHeader() {
+        return policyHeader;
+    }
+}
@@ -0,0 +1,126 @@
+package com.flylink.infrastructure.ratelimit;
+
+import com.flylink.config.RateLimitProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Rate limiting em memória por cliente, com uma política por rota.
+ *
+ * Cada política mantém um {@link TokenBucket} por cliente num
+ * ConcurrentHashMap: o caminho quente é um get sem lock e um CAS.
+ * Baldes cheios e ociosos são removidos periodicamente; com o mapa no
+ * limite de chaves, clientes novos passam sem limite (fail-open) em vez de
+ * crescer a memória.
+ */
+public class RateLimiter implements MeterBinder {
+
+    private final RateLimitPolicy[] policies;
+    private final int maxKeys;
+    private final long idleNanos;
+    private final LongSupplier clock;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.policies = properties.getPolicies().stream()
+                .map(RateLimitPolicy::new)
+                .toArray(RateLimitPolicy[]::new);
+        this.maxKeys = properties.getMaxKeys();
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictionMs());
+        this.clock = clock;
+    }
+
+    /**
+     * Primeira política que casa com a requisição, ou null.
+     */
+    public RateLimitPolicy match(HttpServletRequest request) {
+        if (policies.length == 0) {
+            return null;
+        }
+        PathContainer path = ServletRequestPathUtils.hasParsedRequestPath(request)
+                ? ServletRequestPathUtils.getParsedRequestPath(request).pathWithinApplication()
+                : ServletRequestPathUtils.parseAndCache(request).pathWithinApplication();
+        for (RateLimitPolicy policy : policies) {
+            if (policy.matches(request, path)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Consome um token do cliente na política.
+     *
+     * @param clientKey userId (Long) ou IP (String)
+     * @return mesmo contrato de {@link TokenBucket#tryConsume}
+     */
+    public long tryConsume(RateLimitPolicy policy, Object clientKey) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = policy.buckets.get(clientKey);
+        if (bucket == null) {
+            if (policy.buckets.size() >= maxKeys) {
+                policy.untracked.increment();
+                return 0;
+            }
+            bucket = policy.buckets.computeIfAbsent(clientKey, k -> new TokenBucket(now));
+        }
+
+        long result = bucket.tryConsume(now, policy.intervalNanos(), policy.burstNanos());
+        if (result < 0) {
+            policy.rejected.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Remove baldes cheios há mais de idle-eviction-ms. Um consumo
+     * concorrente com a remoção pode se perder — no pior caso o cliente
+     * ganha um token.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.idle-eviction-ms:60000}")
+    public void evictIdle() {
+        long idleSince = clock.getAsLong() - idleNanos;
+        for (RateLimitPolicy policy : policies) {
+            for (Map.Entry<Object, TokenBucket> entry : policy.buckets.entrySet()) {
+                if (entry.getValue().isIdleSince(idleSince)) {
+                    policy.buckets.remove(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    public List<RateLimitPolicy> policies() {
+        return List.of(policies);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (RateLimitPolicy policy : policies) {
+            FunctionCounter.builder("flylink.ratelimit.rejected", policy, p -> p.rejected.sum())
+                    .tag("policy", policy.name())
+                    .description("Requests rejected with 429")
+                    .register(registry);
+            FunctionCounter.builder("flylink.ratelimit.untracked", policy, p -> p.untracked.sum())
+                    .tag("policy", policy.name())
+                    .description("Requests let through because the key table was full")
+                    .register(registry);
+            Gauge.builder("flylink.ratelimit.keys", policy, p -> p.buckets.size())
+                    .tag("policy", policy.name())
+                    .register(registry);
+        }
+    }
+}
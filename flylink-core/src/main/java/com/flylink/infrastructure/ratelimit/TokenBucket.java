@@ -0,0 +1,49 @@
+package com.flylink.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Balde de tokens com reabastecimento preguiçoso, sem lock.
+ *
+ * Em vez de guardar (tokens, último reabastecimento), guarda um único
+ * instante: quando o balde estará cheio de novo (formulação GCRA). Consumir
+ * um token empurra esse instante em um intervalo de reabastecimento; o
+ * balde está vazio quando ele passa de agora + capacidade × intervalo.
+ * Uma atualização é um único CAS.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(long nowNanos) {
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @return >= 0 se aceito: nanos até o balde voltar a encher;
+     *         < 0 se recusado: -(nanos até haver um token)
+     */
+    long tryConsume(long nowNanos, long intervalNanos, long burstNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long debt = next - nowNanos;
+            if (debt > burstNanos) {
+                return -(debt - burstNanos);
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return debt;
+            }
+        }
+    }
+
+    /**
+     * true se o balde está cheio desde antes de idleSince — descartá-lo não
+     * muda nada para o cliente (um balde novo também começa cheio).
+     */
+    boolean isIdleSince(long idleSinceNanos) {
+        return fullAtNanos.get() - idleSinceNanos < 0;
+    }
+}
@@ -0,0 +1,135 @@
+package com.flylink.infrastructure.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limite de requisições simultâneas ajustado pela latência medida
+ * (algoritmo de gradiente, no estilo do Gradient2 da Netflix).
+ *
+ * - Latência de longo prazo (média móvel) vs. a da amostra atual: se a atual
+ * sobe, o gradiente cai abaixo de 1 e o limite encolhe; se está estável, o
+ * limite cresce devagar (+ fila de sqrt(limite)).
+ * - Erros do servidor reduzem o limite multiplicativamente (AIMD).
+ * - Sem demanda (menos da metade do limite em uso) o limite não cresce.
+ *
+ * A atualização pula amostras quando outra thread já está atualizando, para
+ * não serializar as requisições.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_WINDOW = 600;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile int limit;
+    private double estimatedLimit;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Reserva uma vaga.
+     *
+     * @return false se o limite atual já está ocupado
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera a vaga e alimenta o ajuste do limite com a latência medida.
+     *
+     * @param rttNanos Duração da requisição
+     * @param failed   true se terminou com erro do servidor
+     */
+    public void release(long rttNanos, boolean failed) {
+        int inFlightAtEnd = inFlight.getAndDecrement();
+        if (!updateLock.tryLock()) {
+            return;
+        }
+        try {
+            update(rttNanos, inFlightAtEnd, failed);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Registra uma rejeição feita fora do limitador (ex.: descarte por prioridade).
+     */
+    public void recordRejection() {
+        rejected.increment();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /**
+     * Fração do limite em uso (pode passar de 1 logo após o limite encolher).
+     */
+    public double utilization() {
+        return (double) inFlight.get() / limit;
+    }
+
+    private void update(long rttNanos, int inFlightAtEnd, boolean failed) {
+        if (failed) {
+            setLimit(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+
+        double shortRtt = Math.max(1, rttNanos);
+        longRttNanos = longRttNanos == 0 ? shortRtt : longRttNanos + (shortRtt - longRttNanos) / LONG_RTT_WINDOW;
+
+        // Latência de base subiu demais (ex.: depois de um pico): deixa a média voltar mais rápido
+        if (longRttNanos / shortRtt > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlightAtEnd < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRttNanos / shortRtt));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setLimit(estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private void setLimit(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,191 @@
+package com.flylink.infrastructure.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Circuit breaker por falhas consecutivas.
+ *
+ * - CLOSED: chamadas passam; N falhas seguidas (ou chamadas lentas) abrem o circuito.
+ * - OPEN: chamadas falham na hora com {@link CircuitOpenException}.
+ * - HALF_OPEN: passado o tempo aberto, uma única chamada de teste decide
+ * entre fechar e reabrir.
+ *
+ * Só contam como falha erros de infraestrutura ({@link #isFailure}); exceções
+ * de negócio significam que o banco respondeu.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAtNanos;
+
+    public CircuitBreaker(String name, int failureThreshold, Duration slowCall, Duration openDuration) {
+        this(name, failureThreshold, slowCall, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration slowCall, Duration openDuration,
+            LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = slowCall.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Erros que indicam banco indisponível ou lento (e não erro de negócio).
+     */
+    public static boolean isFailure(Throwable ex) {
+        return ex instanceof TransientDataAccessException
+                || ex instanceof RecoverableDataAccessException
+                || ex instanceof DataAccessResourceFailureException
+                || ex instanceof NonTransientDataAccessResourceException
+                || ex instanceof CannotCreateTransactionException
+                || ex instanceof TransactionTimedOutException;
+    }
+
+    /**
+     * Executa a chamada protegida pelo circuito.
+     *
+     * @throws CircuitOpenException se o circuito estiver aberto
+     */
+    public <T> T execute(Supplier<T> call) {
+        boolean probe = acquire();
+        long start = nanoClock.getAsLong();
+        try {
+            T result = call.get();
+            onResult(nanoClock.getAsLong() - start > slowCallNanos, probe);
+            return result;
+        } catch (Throwable ex) {
+            onResult(ex, start, probe);
+            throw ex;
+        }
+    }
+
+    /**
+     * Como {@link #execute(Supplier)}, para chamadas com um argumento: com a
+     * função guardada num campo, nada é alocado por chamada (o Supplier
+     * capturaria o argumento a cada vez).
+     *
+     * @throws CircuitOpenException se o circuito estiver aberto
+     */
+    public <A, T> T execute(Function<A, T> call, A argument) {
+        boolean probe = acquire();
+        long start = nanoClock.getAsLong();
+        try {
+            T result = call.apply(argument);
+            onResult(nanoClock.getAsLong() - start > slowCallNanos, probe);
+            return result;
+        } catch (Throwable ex) {
+            onResult(ex, start, probe);
+            throw ex;
+        }
+    }
+
+    /**
+     * Indica se uma chamada agora seria aceita (fechado, ou aberto há tempo
+     * suficiente para um teste), sem consumir a vaga de teste.
+     */
+    public boolean permitsCalls() {
+        return switch (state.get()) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - openedAtNanos >= openNanos;
+            case HALF_OPEN -> false;
+        };
+    }
+
+    public State state() {
+        return state.get();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    private boolean acquire() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return false;
+        }
+        if (current == State.OPEN
+                && nanoClock.getAsLong() - openedAtNanos >= openNanos
+                && probeInFlight.compareAndSet(false, true)) {
+            state.set(State.HALF_OPEN);
+            log.info("Circuit breaker '{}' half-open: testando com uma chamada", name);
+            return true;
+        }
+        throw new CircuitOpenException(name, retryAfterSeconds());
+    }
+
+    /**
+     * Registra o resultado de uma chamada que lançou. Qualquer Throwable passa
+     * por aqui: sem isso, um Error (OOM, StackOverflow) na chamada de teste
+     * deixaria o circuito em HALF_OPEN com a vaga de teste ocupada para sempre.
+     * Errors contam como falha; exceções só se forem de infraestrutura.
+     */
+    private void onResult(Throwable ex, long start, boolean probe) {
+        boolean failed = !(ex instanceof RuntimeException) || isFailure(ex)
+                || nanoClock.getAsLong() - start > slowCallNanos;
+        onResult(failed, probe);
+    }
+
+    private void onResult(boolean failed, boolean probe) {
+        if (probe) {
+            if (failed) {
+                open();
+            } else {
+                consecutiveFailures.set(0);
+                state.set(State.CLOSED);
+                log.info("Circuit breaker '{}' fechado", name);
+            }
+            probeInFlight.set(false);
+            return;
+        }
+
+        if (!failed) {
+            consecutiveFailures.set(0);
+        } else if (consecutiveFailures.incrementAndGet() >= failureThreshold
+                && state.compareAndSet(State.CLOSED, State.OPEN)) {
+            openedAtNanos = nanoClock.getAsLong();
+            log.warn("Circuit breaker '{}' aberto após {} falhas seguidas", name, failureThreshold);
+        }
+    }
+
+    private void open() {
+        openedAtNanos = nanoClock.getAsLong();
+        state.set(State.OPEN);
+        log.warn("Circuit breaker '{}' reaberto: chamada de teste falhou", name);
+    }
+
+    private long retryAfterSeconds() {
+        long remaining = openNanos - (nanoClock.getAsLong() - openedAtNanos);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+}
@@ -0,0 +1,26 @@
+package com.flylink.infrastructure.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Falha na hora (503) as rotas de gerenciamento enquanto o circuito do
+ * banco está aberto, em vez de prender threads esperando o pool.
+ */
+public class CircuitBreakerInterceptor implements HandlerInterceptor {
+
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakerInterceptor(CircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!circuitBreaker.permitsCalls()) {
+            throw new CircuitOpenException(circuitBreaker.name(), 1);
+        }
+        return true;
+    }
+}
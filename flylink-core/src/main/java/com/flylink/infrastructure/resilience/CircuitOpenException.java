@@ -0,0 +1,14 @@
+package com.flylink.infrastructure.resilience;
+
+import com.flylink.domain.exception.ServiceUnavailableException;
+
+/**
+ * Lançada sem executar a chamada quando o circuito está aberto.
+ */
+public class CircuitOpenException extends ServiceUnavailableException {
+
+    public CircuitOpenException(String name, long retryAfterSeconds) {
+        super("Serviço temporariamente indisponível (" + name + "). Tente novamente em instantes.",
+                retryAfterSeconds);
+    }
+}
@@ -0,0 +1,117 @@
+package com.flylink.infrastructure.resilience;
+
+import com.flylink.config.ResilienceProperties;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter.ShardScope;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cliques que não puderam ser gravados (banco indisponível), agregados por
+ * código em memória e reenviados quando o circuito volta a aceitar chamadas.
+ *
+ * Fica só na memória do nó: um restart com o banco fora perde o que estiver
+ * guardado. O limite de códigos distintos protege o heap.
+ */
+@Slf4j
+@Component
+public class ClickSpool implements MeterBinder {
+
+    private final ConcurrentHashMap<String, Long> pending = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final int maxCodes;
+    private final CircuitBreaker circuitBreaker;
+    private final RedirectRepository redirectRepository;
+    private final ShardRouter shardRouter;
+
+    public ClickSpool(
+            ResilienceProperties properties,
+            CircuitBreaker circuitBreaker,
+            RedirectRepository redirectRepository,
+            ShardRouter shardRouter) {
+        this.maxCodes = properties.getClickSpool().getMaxCodes();
+        this.circuitBreaker = circuitBreaker;
+        this.redirectRepository = redirectRepository;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * Guarda um clique para reenvio.
+     *
+     * @return false se o spool estava cheio e o clique foi descartado
+     */
+    public boolean add(String code) {
+        if (pending.size() >= maxCodes && !pending.containsKey(code)) {
+            dropped.increment();
+            return false;
+        }
+        pending.merge(code, 1L, Long::sum);
+        return true;
+    }
+
+    public int pendingCodes() {
+        return pending.size();
+    }
+
+    /**
+     * Reenvia os cliques guardados. Para na primeira falha e devolve ao spool
+     * o que não foi gravado.
+     */
+    @Scheduled(fixedDelayString = "${app.resilience.click-spool.replay-interval-ms:5000}")
+    public void replay() {
+        if (pending.isEmpty() || !circuitBreaker.permitsCalls()) {
+            return;
+        }
+
+        int replayed = 0;
+        for (String code : pending.keySet()) {
+            Long clicks = pending.remove(code);
+            if (clicks == null) {
+                continue;
+            }
+            try {
+                circuitBreaker.execute(() -> {
+                    try (ShardScope ignored = shardRouter.bind(code)) {
+                        return redirectRepository.addClicks(code, clicks);
+                    }
+                });
+                replayed++;
+            } catch (RuntimeException ex) {
+                pending.merge(code, clicks, Long::sum);
+                log.warn("Reenvio de cliques interrompido após {} códigos: {}", replayed, ex.getMessage());
+                return;
+            }
+        }
+        log.info("Cliques guardados reenviados para {} códigos", replayed);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        replay();
+        if (!pending.isEmpty()) {
+            long lost = pending.values().stream().mapToLong(Long::longValue).sum();
+            log.warn("Encerrando com {} cliques não gravados em {} códigos", lost, pending.size());
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("flylink.clicks.spooled.codes", pending, Map::size)
+                .description("Codes with clicks waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("flylink.clicks.spool.dropped", dropped, LongAdder::sum)
+                .description("Clicks dropped because the spool was full")
+                .register(registry);
+    }
+}
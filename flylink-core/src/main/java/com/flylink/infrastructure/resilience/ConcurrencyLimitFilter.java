@@ -0,0 +1,108 @@
+package com.flylink.infrastructure.resilience;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.flylink.web.dto.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Descarta requisições acima do limite de concorrência da classe de rota,
+ * antes de ocuparem uma conexão do banco ou o BCrypt.
+ *
+ * Gerenciamento e auth também são descartados quando o orçamento de
+ * redirect passa de shed-below-redirect-utilization — assim o redirect é
+ * sempre o último a sofrer.
+ *
+ * Registrado pelo {@link com.flylink.config.ResilienceConfig}, antes do
+ * Spring Security.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final ObjectMapper MAPPER = createMapper();
+
+    private final Map<RouteClass, AdaptiveConcurrencyLimiter> limiters;
+    private final double shedBelowRedirectUtilization;
+    private final String retryAfter;
+
+    public ConcurrencyLimitFilter(
+            Map<RouteClass, AdaptiveConcurrencyLimiter> limiters,
+            double shedBelowRedirectUtilization,
+            int retryAfterSeconds) {
+        this.limiters = limiters;
+        this.shedBelowRedirectUtilization = shedBelowRedirectUtilization;
+        this.retryAfter = String.valueOf(retryAfterSeconds);
+    }
+
+    public AdaptiveConcurrencyLimiter limiter(RouteClass routeClass) {
+        return limiters.get(routeClass);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RouteClass routeClass = RouteClass.of(request);
+        AdaptiveConcurrencyLimiter limiter = routeClass != null ? limiters.get(routeClass) : null;
+        if (limiter == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (routeClass != RouteClass.REDIRECT && redirectUnderPressure()) {
+            limiter.recordRejection();
+            reject(request, response);
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            reject(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    private boolean redirectUnderPressure() {
+        AdaptiveConcurrencyLimiter redirect = limiters.get(RouteClass.REDIRECT);
+        return redirect != null && redirect.utilization() >= shedBelowRedirectUtilization;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message("Servidor sobrecarregado. Tente novamente em instantes.")
+                .path(request.getRequestURI())
+                .build();
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        MAPPER.writeValue(response.getOutputStream(), error);
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+}
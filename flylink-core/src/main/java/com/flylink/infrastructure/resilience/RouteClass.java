@@ -0,0 +1,56 @@
+package com.flylink.infrastructure.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Set;
+
+/**
+ * Classes de rota com orçamentos de carga próprios.
+ * A ordem de declaração é a prioridade: REDIRECT é a última a ser descartada.
+ */
+public enum RouteClass {
+
+    REDIRECT,
+    MANAGEMENT,
+    AUTH;
+
+    // Rotas de um segmento que não são códigos de URL
+    private static final Set<String> NON_REDIRECT_PATHS = Set.of("/health", "/docs");
+
+    /**
+     * Classifica a requisição; null para rotas fora do controle de carga
+     * (health, documentação, actuator).
+     */
+    public static RouteClass of(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        if (path.startsWith("/api/v1/auth/")) {
+            return AUTH;
+        }
+        if (path.startsWith("/api/v1/")) {
+            return MANAGEMENT;
+        }
+        if ("GET".equals(request.getMethod()) && isCodePath(path) && !NON_REDIRECT_PATHS.contains(path)) {
+            return REDIRECT;
+        }
+        return null;
+    }
+
+    /**
+     * Mesmo formato aceito pelo RedirectController: /{code:[a-zA-Z0-9_-]+}.
+     */
+    private static boolean isCodePath(String path) {
+        int length = path.length();
+        if (length < 2 || path.charAt(0) != '/') {
+            return false;
+        }
+        for (int i = 1; i < length; i++) {
+            char c = path.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_';
+            if (!valid) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
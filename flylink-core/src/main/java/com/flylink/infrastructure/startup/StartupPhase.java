@@ -0,0 +1,33 @@
+package com.flylink.infrastructure.startup;
+
+/**
+ * Marcos da inicialização, na ordem em que acontecem. Usado como tag das
+ * métricas e no log de inicialização.
+ */
+public enum StartupPhase {
+
+    // SpringApplication.run chamado: JVM, classpath e main já carregados
+    STARTING("starting"),
+    // application.yml, perfis e variáveis de ambiente resolvidos
+    ENVIRONMENT_PREPARED("environment"),
+    // Definições de beans carregadas (ou geradas pelo AOT), antes do refresh
+    CONTEXT_PREPARED("context"),
+    // Singletons criados e Tomcat aceitando conexões
+    WEB_SERVER("web_server"),
+    // Contexto atualizado; runners ainda não executados
+    STARTED("started"),
+    // Pronto para tráfego (o aquecimento do cache segue em paralelo)
+    READY("ready"),
+    // Primeiro redirecionamento servido por este processo
+    FIRST_REDIRECT("first_redirect");
+
+    private final String tag;
+
+    StartupPhase(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
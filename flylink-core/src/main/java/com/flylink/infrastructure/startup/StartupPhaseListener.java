@@ -0,0 +1,41 @@
+package com.flylink.infrastructure.startup;
+
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+
+/**
+ * Marca as fases da inicialização no {@link StartupTimeline}. Registrado em
+ * META-INF/spring.factories para receber os eventos anteriores ao contexto
+ * (starting, environment), que um bean não vê. Roda antes dos demais
+ * listeners, para o StartupInfoLogger já encontrar a fase ready marcada.
+ */
+public class StartupPhaseListener implements ApplicationListener<ApplicationEvent>, Ordered {
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        StartupPhase phase = switch (event) {
+            case ApplicationStartingEvent starting -> StartupPhase.STARTING;
+            case ApplicationEnvironmentPreparedEvent environment -> StartupPhase.ENVIRONMENT_PREPARED;
+            case ApplicationPreparedEvent prepared -> StartupPhase.CONTEXT_PREPARED;
+            case WebServerInitializedEvent webServer -> StartupPhase.WEB_SERVER;
+            case ApplicationStartedEvent started -> StartupPhase.STARTED;
+            case ApplicationReadyEvent ready -> StartupPhase.READY;
+            default -> null;
+        };
+        if (phase != null) {
+            StartupTimeline.mark(phase);
+        }
+    }
+}
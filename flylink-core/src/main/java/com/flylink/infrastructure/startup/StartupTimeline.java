@@ -0,0 +1,68 @@
+package com.flylink.infrastructure.startup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Instante de cada {@link StartupPhase}, em milissegundos desde o início da
+ * JVM (inclui o carregamento de classes, onde AppCDS e AOT fazem diferença).
+ *
+ * Estático porque as primeiras fases acontecem antes de existir contexto
+ * Spring, e porque o redirecionamento marca o primeiro atendimento sem
+ * depender de um bean: depois disso, o custo por requisição é a leitura de
+ * um volatile.
+ */
+@Slf4j
+public final class StartupTimeline {
+
+    private static final long NOT_REACHED = -1;
+
+    private static final AtomicLongArray reachedAtMs = initial();
+
+    private static volatile boolean firstRedirectServed;
+
+    private StartupTimeline() {
+    }
+
+    public static void mark(StartupPhase phase) {
+        reachedAtMs.set(phase.ordinal(), uptimeMs());
+    }
+
+    /**
+     * Chamado a cada redirecionamento servido; só o primeiro registra.
+     */
+    public static void redirectServed() {
+        if (!firstRedirectServed) {
+            markFirstRedirect();
+        }
+    }
+
+    /**
+     * Milissegundos desde o início da JVM até a fase, ou -1 se ainda não aconteceu.
+     */
+    public static long reachedAtMs(StartupPhase phase) {
+        return reachedAtMs.get(phase.ordinal());
+    }
+
+    private static synchronized void markFirstRedirect() {
+        if (!firstRedirectServed) {
+            mark(StartupPhase.FIRST_REDIRECT);
+            firstRedirectServed = true;
+            log.info("First redirect served {} ms after JVM start", reachedAtMs(StartupPhase.FIRST_REDIRECT));
+        }
+    }
+
+    private static long uptimeMs() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
+    }
+
+    private static AtomicLongArray initial() {
+        AtomicLongArray array = new AtomicLongArray(StartupPhase.values().length);
+        for (int i = 0; i < array.length(); i++) {
+            array.set(i, NOT_REACHED);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,30 @@
+package com.flylink.infrastructure.timing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * Soma na fase db o tempo das chamadas a repositórios (JPA e JDBC).
+ * Aplicado via advisor só quando o Server-Timing está ligado.
+ */
+public class RepositoryTimingInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        ServerTimingRecorder recorder = ServerTiming.current();
+        if (recorder == null) {
+            return invocation.proceed();
+        }
+
+        boolean outermost = recorder.enterRepository();
+        long start = outermost ? System.nanoTime() : 0L;
+        try {
+            return invocation.proceed();
+        } finally {
+            recorder.exitRepository();
+            if (outermost) {
+                recorder.add(TimingPhase.DB, System.nanoTime() - start);
+            }
+        }
+    }
+}
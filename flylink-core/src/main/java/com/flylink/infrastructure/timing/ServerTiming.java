@@ -0,0 +1,61 @@
+package com.flylink.infrastructure.timing;
+
+/**
+ * Ponto de entrada estático das medições por fase (Server-Timing).
+ *
+ * Os pontos instrumentados (filtros de autenticação, repositórios) chamam
+ * {@link #start()} e {@link #stop(TimingPhase, long)} sem saber se a
+ * medição está ligada. Desligada (padrão), {@code start()} é só a leitura
+ * de um boolean e devolve 0, e {@code stop} com 0 retorna na hora: nada é
+ * alocado, nem a entrada do ThreadLocal.
+ */
+public final class ServerTiming {
+
+    private static final ThreadLocal<ServerTimingRecorder> CURRENT = new ThreadLocal<>();
+
+    private static volatile boolean enabled;
+
+    private ServerTiming() {
+    }
+
+    /**
+     * @return instante de início, ou 0 se não há medição nesta requisição
+     */
+    public static long start() {
+        if (!enabled || CURRENT.get() == null) {
+            return 0L;
+        }
+        return System.nanoTime();
+    }
+
+    public static void stop(TimingPhase phase, long start) {
+        if (start == 0L) {
+            return;
+        }
+        ServerTimingRecorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.add(phase, System.nanoTime() - start);
+        }
+    }
+
+    static void enable() {
+        enabled = true;
+    }
+
+    // Só para testes: o estado é estático e não pode vazar para a próxima classe de teste
+    static void disable() {
+        enabled = false;
+    }
+
+    static ServerTimingRecorder current() {
+        return enabled ? CURRENT.get() : null;
+    }
+
+    static void bind(ServerTimingRecorder recorder) {
+        CURRENT.set(recorder);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+}
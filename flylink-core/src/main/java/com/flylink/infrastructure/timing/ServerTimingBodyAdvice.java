@@ -0,0 +1,35 @@
+package com.flylink.infrastructure.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Chamado logo antes do conversor escrever o corpo: é onde termina a fase
+ * app e começa a serialização.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "app.server-timing", name = "enabled", havingValue = "true")
+public class ServerTimingBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        ServerTimingRecorder recorder = ServerTiming.current();
+        if (recorder != null) {
+            recorder.bodyWriteStarted(System.nanoTime());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,60 @@
+package com.flylink.infrastructure.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Abre o registro de tempos da requisição e, no fim, escreve o header
+ * Server-Timing e (amostrado) uma linha de log estruturada.
+ *
+ * O corpo fica em buffer até o fim da requisição: o header precisa sair
+ * antes do corpo, mas a serialização só termina depois de escrevê-lo. O
+ * custo do buffer só existe com a medição ligada — desligada, este filtro
+ * nem é registrado.
+ */
+@Slf4j
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private final double logSampleRate;
+
+    public ServerTimingFilter(double logSampleRate) {
+        this.logSampleRate = logSampleRate;
+        ServerTiming.enable();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        ServerTimingRecorder recorder = new ServerTimingRecorder(System.nanoTime());
+        ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+        ServerTiming.bind(recorder);
+        try {
+            filterChain.doFilter(request, buffered);
+        } finally {
+            ServerTiming.unbind();
+            long now = System.nanoTime();
+            buffered.setHeader(HEADER, recorder.headerValue(now));
+            buffered.copyBodyToResponse();
+
+            if (logSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < logSampleRate) {
+                // Padrão da rota (/{code}), não o caminho: o log não guarda códigos nem ids
+                Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                log.info("server_timing method={} route={} status={} {}", request.getMethod(),
+                        route != null ? route : "unmatched", buffered.getStatus(), recorder.logFields(now));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.flylink.infrastructure.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marca o início e o fim do handler; o meio (início da serialização) vem
+ * do {@link ServerTimingBodyAdvice}.
+ */
+public class ServerTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ServerTimingRecorder recorder = ServerTiming.current();
+        if (recorder != null) {
+            recorder.handlerStarted(System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        ServerTimingRecorder recorder = ServerTiming.current();
+        if (recorder != null) {
+            recorder.handlerCompleted(System.nanoTime());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.flylink.infrastructure.timing;
+
+/**
+ * Tempos de uma requisição, acumulados por fase. Vive numa única thread
+ * (a da requisição), então não precisa de sincronização.
+ */
+final class ServerTimingRecorder {
+
+    private static final TimingPhase[] PHASES = TimingPhase.values();
+
+    private final long startedAt;
+    private final long[] nanos = new long[PHASES.length];
+
+    private long handlerStartedAt;
+    private long bodyStartedAt;
+    private int repositoryDepth;
+
+    ServerTimingRecorder(long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    void add(TimingPhase phase, long elapsedNanos) {
+        nanos[phase.ordinal()] += elapsedNanos;
+    }
+
+    long get(TimingPhase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    void handlerStarted(long now) {
+        handlerStartedAt = now;
+    }
+
+    void bodyWriteStarted(long now) {
+        if (handlerStartedAt != 0L && bodyStartedAt == 0L) {
+            bodyStartedAt = now;
+        }
+    }
+
+    /**
+     * Fecha as fases do handler: app vai do preHandle até o início da
+     * serialização (ou até o fim, sem corpo); ser, do início da escrita do
+     * corpo até o afterCompletion.
+     */
+    void handlerCompleted(long now) {
+        if (handlerStartedAt == 0L) {
+            return;
+        }
+        if (bodyStartedAt != 0L) {
+            add(TimingPhase.APP, bodyStartedAt - handlerStartedAt);
+            add(TimingPhase.SERIALIZATION, now - bodyStartedAt);
+        } else {
+            add(TimingPhase.APP, now - handlerStartedAt);
+        }
+        handlerStartedAt = 0L;
+        bodyStartedAt = 0L;
+    }
+
+    /**
+     * Repositórios que delegam para outros repositórios contam uma vez só.
+     *
+     * @return true se esta é a chamada mais externa
+     */
+    boolean enterRepository() {
+        return repositoryDepth++ == 0;
+    }
+
+    void exitRepository() {
+        repositoryDepth--;
+    }
+
+    /**
+     * Valor do header Server-Timing (fases zeradas ficam de fora).
+     */
+    String headerValue(long now) {
+        StringBuilder header = new StringBuilder(128);
+        for (TimingPhase phase : PHASES) {
+            long value = nanos[phase.ordinal()];
+            if (value > 0L) {
+                header.append(phase.metricName()).append(";dur=");
+                appendMillis(header, value);
+                header.append(";desc=\"").append(phase.description()).append("\", ");
+            }
+        }
+        header.append("total;dur=");
+        appendMillis(header, now - startedAt);
+        return header.toString();
+    }
+
+    /**
+     * Campos chave=valor (em ms) para a linha de log amostrada.
+     */
+    String logFields(long now) {
+        StringBuilder fields = new StringBuilder(96);
+        fields.append("total_ms=");
+        appendMillis(fields, now - startedAt);
+        for (TimingPhase phase : PHASES) {
+            fields.append(' ').append(phase.metricName()).append("_ms=");
+            appendMillis(fields, nanos[phase.ordinal()]);
+        }
+        return fields.toString();
+    }
+
+    // Milissegundos com 3 casas (precisão de µs), sem String.format
+    private static void appendMillis(StringBuilder target, long nanos) {
+        long micros = Math.max(0L, nanos) / 1_000;
+        target.append(micros / 1_000).append('.');
+        long fraction = micros % 1_000;
+        if (fraction < 100) {
+            target.append('0');
+        }
+        if (fraction < 10) {
+            target.append('0');
+        }
+        target.append(fraction);
+    }
+}
@@ -0,0 +1,28 @@
+package com.flylink.infrastructure.timing;
+
+/**
+ * Fases medidas por requisição, na ordem em que aparecem no Server-Timing.
+ */
+public enum TimingPhase {
+
+    AUTH("auth", "JWT or API key verification"),
+    APP("app", "Controller and service, including db"),
+    DB("db", "Repository calls"),
+    SERIALIZATION("ser", "Response body serialization");
+
+    private final String metricName;
+    private final String description;
+
+    TimingPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String metricName() {
+        return metricName;
+    }
+
+    public String description() {
+        return description;
+    }
+}
@@ -0,0 +1,158 @@
+package com.flylink.web.exception;
+
+import com.flylink.domain.exception.ApiKeyNotFoundException;
+import com.flylink.domain.exception.CodeAlreadyExistsException;
+import com.flylink.domain.exception.RateLimitExceededException;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.exception.UrlAccessDeniedException;
+import com.flylink.domain.exception.UrlExpiredException;
+import com.flylink.domain.exception.UrlNotFoundException;
+import com.flylink.web.dto.ErrorResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Handler para exceções do domínio da aplicação.
+ * Trata erros de negócio específicos como URL não encontrada e código
+ * duplicado.
+ */
+@RestControllerAdvice
+@Order(1)
+public class DomainExceptionHandler {
+
+    /**
+     * Trata exceção de URL não encontrada.
+     * Retorna HTTP 404 (Not Found).
+     */
+    @ExceptionHandler(UrlNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleUrlNotFound(
+            UrlNotFoundException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    /**
+     * Trata exceção de código já existente.
+     * Retorna HTTP 409 (Conflict).
+     */
+    @ExceptionHandler(CodeAlreadyExistsException.class)
+    public ResponseEntity<ErrorResponse> handleCodeAlreadyExists(
+            CodeAlreadyExistsException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
+    /**
+     * Trata acesso a URL de outro usuário.
+     * Retorna HTTP 403 (Forbidden).
+     */
+    @ExceptionHandler(UrlAccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleUrlAccessDenied(
+            UrlAccessDeniedException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.FORBIDDEN.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(error);
+    }
+
+    /**
+     * Trata exceção de URL expirada (por tempo ou cliques).
+     * Retorna HTTP 410 (Gone).
+     */
+    @ExceptionHandler(UrlExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleUrlExpired(
+            UrlExpiredException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.GONE.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.GONE).body(error);
+    }
+
+    /**
+     * Trata indisponibilidade temporária (banco lento, proteção de carga).
+     * Retorna HTTP 503 (Service Unavailable) com Retry-After.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailable(
+            ServiceUnavailableException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Trata cota de requisições esgotada.
+     * Retorna HTTP 429 (Too Many Requests) com Retry-After; os headers
+     * RateLimit-* já foram escritos pelo interceptor.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(
+            RateLimitExceededException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    /**
+     * Trata API key inexistente ou de outro usuário.
+     * Retorna HTTP 404 (Not Found).
+     */
+    @ExceptionHandler(ApiKeyNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleApiKeyNotFound(
+            ApiKeyNotFoundException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse error = ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .message(ex.getMessage())
+                .path(request.getRequestURI())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+}
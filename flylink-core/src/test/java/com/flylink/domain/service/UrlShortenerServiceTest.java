@@ -0,0 +1,530 @@
+package com.flylink.domain.service;
+
+import com.flylink.domain.exception.CodeAlreadyExistsException;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.exception.UrlAccessDeniedException;
+import com.flylink.domain.exception.UrlExpiredException;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.metrics.RedirectOutcome;
+import com.flylink.infrastructure.persistence.entity.ShortUrlEntity;
+import com.flylink.infrastructure.persistence.entity.ShortUrlArchiveEntity;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.repository.ShortUrlArchiveJpaRepository;
+import com.flylink.infrastructure.persistence.repository.ShortUrlJpaRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import com.flylink.infrastructure.resilience.ClickSpool;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UrlShortenerServiceTest {
+
+    @Mock
+    private ShortUrlJpaRepository repository;
+
+    @Mock
+    private ShortUrlArchiveJpaRepository archiveRepository;
+
+    @Mock
+    private RedirectRepository redirectRepository;
+
+    @Mock
+    private RedirectCache redirectCache;
+
+    @Spy
+    private ShardRouter shardRouter = ShardRouter.single();
+
+    @Spy
+    private CircuitBreaker circuitBreaker = new CircuitBreaker("test", 5, Duration.ofSeconds(5),
+            Duration.ofMinutes(1));
+
+    @Mock
+    private ClickSpool clickSpool;
+
+    @Mock
+    private HotPathMetrics metrics;
+
+    @InjectMocks
+    private UrlShortenerService urlShortenerService;
+
+    @Test
+    @DisplayName("Deve criar uma URL encurtada com código customizado")
+    void shouldCreateShortUrlWithCustomCode() {
+        // Arrange
+        String originalUrl = "https://example.com";
+        String customCode = "mysite";
+        Long userId = 1L;
+
+        when(repository.existsByCode(customCode)).thenReturn(false);
+        when(repository.save(any(ShortUrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ShortUrlEntity result = urlShortenerService.createShortUrl(originalUrl, customCode, userId, null, null, null);
+
+        // Assert
+        assertEquals(customCode, result.getCode());
+        assertEquals(originalUrl, result.getOriginalUrl());
+        assertEquals(userId, result.getUserId());
+        assertNull(result.getMaxClicks());
+        assertEquals(RedirectType.FOUND, result.getRedirectType());
+        assertNull(result.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("Deve lançar CodeAlreadyExistsException quando o código customizado já existir")
+    void shouldThrowExceptionWhenCustomCodeTaken() {
+        // Arrange
+        String customCode = "taken";
+        when(repository.existsByCode(customCode)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(CodeAlreadyExistsException.class,
+                () -> urlShortenerService.createShortUrl("https://example.com", customCode, 1L, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Deve criar uma URL encurtada com código gerado automaticamente")
+    void shouldCreateShortUrlWithGeneratedCode() {
+        // Arrange
+        String originalUrl = "https://example.com";
+        when(repository.existsByCode(anyString())).thenReturn(false);
+        when(repository.save(any(ShortUrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        ShortUrlEntity result = urlShortenerService.createShortUrl(originalUrl, null, 1L, null, null, null);
+
+        // Assert
+        assertNotNull(result.getCode());
+        assertEquals(7, result.getCode().length());
+        assertEquals(originalUrl, result.getOriginalUrl());
+    }
+
+    @Test
+    @DisplayName("Deve buscar uma URL ativa pelo código")
+    void shouldFindActiveUrlByCode() {
+        // Arrange
+        String code = "1234567";
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .expiresAt(null)
+                .build();
+
+        when(repository.findByCodeAndIsActiveTrue(code)).thenReturn(Optional.of(entity));
+
+        // Act
+        ShortUrlEntity result = urlShortenerService.findByCode(code);
+
+        // Assert
+        assertEquals(code, result.getCode());
+    }
+
+    @Test
+    @DisplayName("Deve lançar UrlExpiredException quando a URL encontrada estiver expirada")
+    void shouldThrowUrlExpiredExceptionWhenUrlExpired() {
+        // Arrange
+        String code = "1234567";
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .expiresAt(OffsetDateTime.now().minusDays(1)) // expired yesterday
+                .isActive(true)
+                .build();
+
+        when(repository.findByCodeAndIsActiveTrue(code)).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThrows(UrlExpiredException.class, () -> urlShortenerService.findByCode(code));
+        verify(repository).save(entity); // Ensures entity was deactivated
+        assertFalse(entity.getIsActive());
+    }
+
+    @Test
+    @DisplayName("Deve lançar UrlAccessDeniedException ao tentar atualizar a URL de outro usuário")
+    void shouldThrowAccessDeniedExceptionWhenUpdatingUnownedUrl() {
+        // Arrange
+        String code = "1234567";
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .userId(2L) // Belong to user 2
+                .build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+
+        // Act & Assert
+        assertThrows(UrlAccessDeniedException.class, () -> urlShortenerService.findExistingByCode(code, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve devolver Exhausted quando falhar ao incrementar cliques (limite atingido)")
+    void shouldReturnExhaustedWhenClickLimitReachedConcurrently() {
+        // Arrange
+        String code = "limit";
+        RedirectTarget cached = new RedirectTarget(code, "https://example.com", null, 10L);
+        when(redirectCache.getIfPresent(code)).thenReturn(cached);
+        // Returns 0 update counts, meaning URL is either inactive, limit reached, or
+        // doesn't exist.
+        when(redirectRepository.incrementClickCount(code)).thenReturn(0);
+
+        // Act & Assert
+        assertSame(RedirectResolution.EXHAUSTED, urlShortenerService.redirect(code));
+        verify(redirectCache).invalidate(code);
+    }
+
+    @Test
+    @DisplayName("Deve incrementar a contagem de cliques com sucesso")
+    void shouldIncrementClickCountSuccessfully() {
+        String code = "1234567";
+        when(redirectRepository.incrementClickCount(code)).thenReturn(1);
+
+        assertTrue(urlShortenerService.incrementClickCount(code));
+    }
+
+    @Test
+    @DisplayName("Deve lançar UrlNotFoundException quando não encontrar a URL pelo código")
+    void shouldThrowUrlNotFoundExceptionWhenCodeNotFound() {
+        String code = "notfound";
+        when(repository.findByCodeAndIsActiveTrue(code)).thenReturn(Optional.empty());
+
+        assertThrows(com.flylink.domain.exception.UrlNotFoundException.class,
+                () -> urlShortenerService.findByCode(code));
+    }
+
+    @Test
+    @DisplayName("Deve retornar a entidade ao buscar uma URL existente pelo código")
+    void shouldReturnEntityWhenFindingExistingByCode() {
+        String code = "1234567";
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .userId(1L)
+                .build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+
+        ShortUrlEntity result = urlShortenerService.findExistingByCode(code, 1L);
+        assertEquals(entity, result);
+    }
+
+    @Test
+    @DisplayName("Deve lançar UrlNotFoundException quando falhar ao buscar uma URL existente pelo código")
+    void shouldThrowUrlNotFoundExceptionWhenFindingExistingByCodeFails() {
+        String code = "notfound";
+        when(repository.findByCode(code)).thenReturn(Optional.empty());
+
+        assertThrows(com.flylink.domain.exception.UrlNotFoundException.class,
+                () -> urlShortenerService.findExistingByCode(code, 1L));
+    }
+
+    @Test
+    @DisplayName("Deve listar todas as URLs de um usuário")
+    void shouldFindAllByUser() {
+        Long userId = 1L;
+        ShortUrlEntity e1 = ShortUrlEntity.builder().code("code1").userId(userId).build();
+        ShortUrlEntity e2 = ShortUrlEntity.builder().code("code2").userId(userId).build();
+        when(repository.findByUserId(userId)).thenReturn(java.util.List.of(e1, e2));
+
+        java.util.List<ShortUrlEntity> result = urlShortenerService.findAllByUser(userId);
+        assertEquals(2, result.size());
+    }
+
+    @Test
+    @DisplayName("Deve deletar uma URL pelo código")
+    void shouldDeleteUrlByCode() {
+        String code = "1234567";
+        Long userId = 1L;
+        ShortUrlEntity entity = ShortUrlEntity.builder().code(code).userId(userId).build();
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+        doNothing().when(repository).delete(entity);
+
+        assertDoesNotThrow(() -> urlShortenerService.deleteByCode(code, userId));
+        verify(repository).delete(entity);
+    }
+
+    @Test
+    @DisplayName("Deve alternar o estado ativo/inativo da URL")
+    void shouldToggleActive() {
+        String code = "1234567";
+        Long userId = 1L;
+        ShortUrlEntity entity = ShortUrlEntity.builder().code(code).userId(userId).isActive(true).build();
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+        when(repository.save(any(ShortUrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ShortUrlEntity result = urlShortenerService.toggleActive(code, userId);
+        assertFalse(result.getIsActive());
+    }
+
+    @Test
+    @DisplayName("Deve atualizar a URL com sucesso")
+    void shouldUpdateUrlSuccessfully() {
+        String code = "1234567";
+        Long userId = 1L;
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .userId(userId)
+                .originalUrl("http://old.com")
+                .isActive(false)
+                .clickCount(0L)
+                .build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+        when(repository.existsByCode("newcode")).thenReturn(false);
+        when(repository.save(any(ShortUrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OffsetDateTime expiresAt = OffsetDateTime.now().plusDays(1);
+        ShortUrlEntity result = urlShortenerService.updateUrl(code, "http://new.com", expiresAt, "newcode", 10L,
+                RedirectType.PERMANENT_REDIRECT, userId);
+
+        assertEquals("newcode", result.getCode());
+        assertEquals("http://new.com", result.getOriginalUrl());
+        assertEquals(expiresAt, result.getExpiresAt());
+        assertEquals(10L, result.getMaxClicks());
+        assertEquals(RedirectType.PERMANENT_REDIRECT, result.getRedirectType());
+        assertTrue(result.getIsActive());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao atualizar um código customizado para um já existente")
+    void shouldThrowExceptionWhenUpdatingToExistingCustomCode() {
+        String code = "1234567";
+        Long userId = 1L;
+        ShortUrlEntity entity = ShortUrlEntity.builder().code(code).userId(userId).build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+        when(repository.existsByCode("existing")).thenReturn(true);
+
+        assertThrows(CodeAlreadyExistsException.class,
+                () -> urlShortenerService.updateUrl(code, null, null, "existing", null, null, userId));
+    }
+
+    @Test
+    @DisplayName("Deve reaproveitar a cópia deixada no shard destino por uma mudança de código interrompida")
+    void shouldReuseLeftoverCopyWhenMovingToAnotherShard() {
+        Long userId = 1L;
+        OffsetDateTime createdAt = OffsetDateTime.now().minusDays(3);
+        ShortUrlEntity entity = ShortUrlEntity.builder().id(10L).code("1234567").userId(userId)
+                .createdAt(createdAt).build();
+        ShortUrlEntity leftover = ShortUrlEntity.builder().id(99L).code("movido").userId(userId)
+                .createdAt(createdAt).build();
+        routeToOtherShard("1234567", "movido");
+
+        when(repository.findByCode("1234567")).thenReturn(Optional.of(entity));
+        when(repository.findByCode("movido")).thenReturn(Optional.of(leftover));
+        when(repository.save(any(ShortUrlEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ShortUrlEntity result = urlShortenerService.updateUrl("1234567", null, null, "movido", null, null, userId);
+
+        assertEquals(99L, result.getId());
+        assertEquals("movido", result.getCode());
+        verify(repository).delete(entity);
+    }
+
+    @Test
+    @DisplayName("Não deve remover a origem quando o código novo pertence a outra URL no shard destino")
+    void shouldKeepSourceWhenTargetCodeBelongsToAnotherUrl() {
+        ShortUrlEntity entity = ShortUrlEntity.builder().id(10L).code("1234567").userId(1L).build();
+        ShortUrlEntity other = ShortUrlEntity.builder().id(99L).code("movido").userId(2L).build();
+        routeToOtherShard("1234567", "movido");
+
+        when(repository.findByCode("1234567")).thenReturn(Optional.of(entity));
+        when(repository.findByCode("movido")).thenReturn(Optional.of(other));
+
+        assertThrows(CodeAlreadyExistsException.class,
+                () -> urlShortenerService.updateUrl("1234567", null, null, "movido", null, null, 1L));
+        verify(repository, never()).delete(any(ShortUrlEntity.class));
+    }
+
+    @Test
+    @DisplayName("Deve resolver o redirecionamento a partir do cache")
+    void shouldResolveRedirectFromCache() {
+        String code = "1234567";
+        RedirectTarget cached = new RedirectTarget(code, "https://example.com", null, null);
+        when(redirectCache.getIfPresent(code)).thenReturn(cached);
+
+        RedirectResolution result = urlShortenerService.resolveRedirect(code);
+
+        assertSame(cached, result);
+        verify(redirectCache, never()).get(anyString(), any());
+        verifyNoInteractions(repository);
+        verify(metrics).recordRedirect(eq(RedirectOutcome.HIT), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache e devolver Expired quando o destino em cache expirou")
+    void shouldInvalidateCacheWhenCachedTargetExpired() {
+        String code = "1234567";
+        OffsetDateTime yesterday = OffsetDateTime.now().minusDays(1);
+        RedirectTarget cached = new RedirectTarget(code, "https://example.com", yesterday, null);
+        ShortUrlEntity entity = ShortUrlEntity.builder()
+                .code(code)
+                .expiresAt(yesterday)
+                .isActive(true)
+                .build();
+
+        when(redirectCache.get(eq(code), any())).thenReturn(cached);
+        when(redirectRepository.findActiveByCode(code)).thenReturn(Optional.of(RedirectTarget.from(entity)));
+
+        assertSame(RedirectResolution.EXPIRED, urlShortenerService.resolveRedirect(code));
+        verify(redirectCache).invalidate(code);
+        verify(redirectRepository).deactivate(code);
+        verify(metrics).recordRedirect(eq(RedirectOutcome.EXPIRED), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve devolver NotFound sem exceção para código inexistente, sem contar clique")
+    void shouldReturnNotFoundForUnknownCode() {
+        String code = "naoexiste";
+        when(redirectCache.get(eq(code), any())).thenAnswer(invocation ->
+                invocation.<Function<String, RedirectResolution>>getArgument(1).apply(code));
+        when(redirectRepository.findActiveByCode(code)).thenReturn(Optional.empty());
+
+        assertSame(RedirectResolution.NOT_FOUND, urlShortenerService.redirect(code));
+        verify(redirectRepository, never()).incrementClickCount(anyString());
+        verify(metrics).recordRedirect(eq(RedirectOutcome.NOT_FOUND), anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve invalidar o cache ao alternar o estado da URL")
+    void shouldInvalidateCacheOnToggle() {
+        String code = "1234567";
+        Long userId = 1L;
+        ShortUrlEntity entity = ShortUrlEntity.builder().code(code).userId(userId).isActive(true).build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.of(entity));
+        when(repository.save(entity)).thenReturn(entity);
+
+        urlShortenerService.toggleActive(code, userId);
+
+        verify(redirectCache).invalidate(code);
+    }
+
+    @Test
+    @DisplayName("Deve retornar URL arquivada para o dono como inativa")
+    void shouldFindArchivedUrlForOwner() {
+        String code = "arquivada";
+        ShortUrlArchiveEntity archived = new ShortUrlArchiveEntity();
+        archived.setId(10L);
+        archived.setCode(code);
+        archived.setUserId(1L);
+
+        when(repository.findByCode(code)).thenReturn(Optional.empty());
+        when(archiveRepository.findByCode(code)).thenReturn(Optional.of(archived));
+
+        ShortUrlEntity result = urlShortenerService.findExistingByCode(code, 1L);
+
+        assertEquals(10L, result.getId());
+        assertFalse(result.getIsActive());
+    }
+
+    @Test
+    @DisplayName("Deve restaurar a URL arquivada ao reativá-la")
+    void shouldRestoreArchivedUrlOnToggle() {
+        String code = "arquivada";
+        ShortUrlArchiveEntity archived = new ShortUrlArchiveEntity();
+        archived.setCode(code);
+        archived.setUserId(1L);
+        ShortUrlEntity restored = ShortUrlEntity.builder().code(code).userId(1L).isActive(false).build();
+
+        when(repository.findByCode(code)).thenReturn(Optional.empty()).thenReturn(Optional.of(restored));
+        when(archiveRepository.findByCode(code)).thenReturn(Optional.of(archived));
+        when(repository.save(restored)).thenReturn(restored);
+
+        ShortUrlEntity result = urlShortenerService.toggleActive(code, 1L);
+
+        verify(archiveRepository).restoreByCode(code);
+        assertTrue(result.getIsActive());
+    }
+
+    @Test
+    @DisplayName("Deve servir o último destino conhecido (stale) com o banco indisponível")
+    void shouldServeStaleTargetWhenDatabaseUnavailable() {
+        String code = "1234567";
+        when(redirectCache.get(eq(code), any())).thenThrow(new DataAccessResourceFailureException("banco fora"));
+        when(redirectCache.getStale(code))
+                .thenReturn(Optional.of(new RedirectTarget(code, "https://example.com", null, null)));
+
+        RedirectTarget result = (RedirectTarget) urlShortenerService.resolveRedirect(code);
+
+        assertTrue(result.stale());
+        assertEquals("https://example.com", result.originalUrl());
+        verify(metrics).recordRedirect(eq(RedirectOutcome.STALE), anyLong());
+    }
+
+    @Test
+    @DisplayName("Não deve servir stale para URLs com limite de cliques")
+    void shouldNotServeStaleForClickLimitedUrl() {
+        String code = "1234567";
+        when(redirectCache.get(eq(code), any())).thenThrow(new DataAccessResourceFailureException("banco fora"));
+        when(redirectCache.getStale(code))
+                .thenReturn(Optional.of(new RedirectTarget(code, "https://example.com", null, 10L)));
+
+        assertThrows(ServiceUnavailableException.class, () -> urlShortenerService.resolveRedirect(code));
+    }
+
+    @Test
+    @DisplayName("Deve guardar o clique para reenvio com o banco indisponível")
+    void shouldSpoolClickWhenDatabaseUnavailable() {
+        String code = "1234567";
+        when(redirectRepository.incrementClickCount(code)).thenThrow(new DataAccessResourceFailureException("banco fora"));
+
+        assertTrue(urlShortenerService.incrementClickCount(code));
+        verify(clickSpool).add(code);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o clique de URL com limite em cache com o banco indisponível")
+    void shouldFailClickLimitedRedirectWhenDatabaseUnavailable() {
+        String code = "onetime";
+        when(redirectCache.getIfPresent(code)).thenReturn(new RedirectTarget(code, "https://example.com", null, 1L));
+        when(redirectRepository.incrementClickCount(code)).thenThrow(new DataAccessResourceFailureException("banco fora"));
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> urlShortenerService.redirect(code));
+
+        assertEquals(1, ex.getRetryAfterSeconds());
+        verify(clickSpool, never()).add(code);
+        verify(metrics).recordClickWriteFailure();
+    }
+
+    @Test
+    @DisplayName("Deve guardar o clique de URL sem limite em cache com o banco indisponível")
+    void shouldSpoolUnlimitedRedirectWhenDatabaseUnavailable() {
+        String code = "1234567";
+        RedirectTarget cached = new RedirectTarget(code, "https://example.com", null, null);
+        when(redirectCache.getIfPresent(code)).thenReturn(cached);
+        when(redirectRepository.incrementClickCount(code)).thenThrow(new DataAccessResourceFailureException("banco fora"));
+
+        assertSame(cached, urlShortenerService.redirect(code));
+        verify(clickSpool).add(code);
+    }
+
+    // Códigos em shards diferentes; runOn executa direto (o repositório mockado atende os dois)
+    private void routeToOtherShard(String sourceCode, String targetCode) {
+        doReturn(0).when(shardRouter).shardFor(sourceCode);
+        doReturn(1).when(shardRouter).shardFor(targetCode);
+        doAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get())
+                .when(shardRouter).runOn(anyInt(), any());
+    }
+}
@@ -0,0 +1,218 @@
+package com.flylink.infrastructure.cache;
+
+import com.flylink.config.CacheProperties;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.cache.invalidation.InvalidationMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedirectCacheTest {
+
+    private InMemoryCacheInvalidationBus busA;
+    private InMemoryCacheInvalidationBus busB;
+    private RedirectCache nodeA;
+    private RedirectCache nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // Dois "nós" no mesmo processo, ligados por barramentos em memória
+        busA = new InMemoryCacheInvalidationBus(50);
+        busB = new InMemoryCacheInvalidationBus(50);
+        busA.connect(busB);
+
+        nodeA = new RedirectCache(new CacheProperties(), busA);
+        nodeB = new RedirectCache(new CacheProperties(), busB);
+    }
+
+    @Test
+    @DisplayName("Deve propagar a invalidação para os outros nós após o flush")
+    void shouldPropagateInvalidationToOtherNodes() {
+        RedirectTarget target = new RedirectTarget("abc1234", "https://example.com", null, null);
+        nodeA.put(target);
+        nodeB.put(target);
+
+        nodeA.invalidate("abc1234");
+
+        assertNull(nodeA.getIfPresent("abc1234"));
+        assertNotNull(nodeB.getIfPresent("abc1234")); // ainda não publicado
+
+        busA.flush();
+
+        assertNull(nodeB.getIfPresent("abc1234"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar invalidações repetidas numa única mensagem")
+    void shouldCoalescePublications() {
+        nodeB.put(new RedirectTarget("a", "https://a.com", null, null));
+        nodeB.put(new RedirectTarget("b", "https://b.com", null, null));
+
+        nodeA.invalidate("a");
+        nodeA.invalidate("a");
+        nodeA.invalidate("b");
+        busA.flush();
+
+        assertNull(nodeB.getIfPresent("a"));
+        assertNull(nodeB.getIfPresent("b"));
+    }
+
+    @Test
+    @DisplayName("Deve fazer resync completo ao detectar lacuna na sequência de um remetente")
+    void shouldResyncOnSequenceGap() {
+        InMemoryCacheInvalidationBus sender = new InMemoryCacheInvalidationBus(50) {
+            @Override
+            protected void send(InvalidationMessage message) {
+                // Simula a perda da mensagem 2
+                if (message.sequence() != 2) {
+                    super.send(message);
+                }
+            }
+        };
+        sender.connect(busB);
+        nodeB.put(new RedirectTarget("keep", "https://keep.com", null, null));
+
+        sender.publish("x");
+        sender.flush();
+        assertNotNull(nodeB.getIfPresent("keep"));
+
+        sender.publish("y");
+        sender.flush(); // perdida
+        sender.publish("z");
+        sender.flush();
+
+        assertNull(nodeB.getIfPresent("keep"));
+    }
+
+    @Test
+    @DisplayName("Deve agrupar cache misses simultâneos do mesmo código numa única carga")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        nodeA.bindTo(registry);
+
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            List<Future<RedirectResolution>> results = new ArrayList<>();
+            results.add(executor.submit(() -> nodeA.get("hot", code -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return new RedirectTarget(code, "https://hot.com", null, null);
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+            for (int i = 1; i < callers; i++) {
+                results.add(executor.submit(() -> nodeA.get("hot", code -> {
+                    loads.incrementAndGet();
+                    return new RedirectTarget(code, "https://outro.com", null, null);
+                })));
+            }
+            // Espera todos entrarem na fila da carga em andamento
+            while (registry.get("flylink.redirect.lookup.deduplicated").functionCounter().count() < callers - 1) {
+                Thread.sleep(5);
+            }
+            releaseLoader.countDown();
+
+            for (Future<RedirectResolution> result : results) {
+                assertEquals("https://hot.com", ((RedirectTarget) result.get(5, TimeUnit.SECONDS)).originalUrl());
+            }
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, registry.get("flylink.redirect.lookup.deduplicated").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Deve desistir com 503 quando a carga em andamento passa do timeout")
+    void shouldTimeOutWaitingForInFlightLoad() throws Exception {
+        SingleFlight<String, String> flight = new SingleFlight<>(50);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Thread leader = Thread.ofPlatform().start(() -> flight.load("k", k -> {
+            loaderStarted.countDown();
+            await(releaseLoader);
+            return "v";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> flight.load("k", k -> "outro"));
+
+        releaseLoader.countDown();
+        leader.join();
+        assertEquals(0, flight.inFlightCount());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar valor carregado durante uma invalidação concorrente")
+    void shouldNotCacheValueLoadedAcrossInvalidation() {
+        nodeA.get("abc", code -> {
+            nodeA.onInvalidate(List.of("abc"));
+            return new RedirectTarget(code, "https://antigo.com", null, null);
+        });
+
+        assertNull(nodeA.getIfPresent("abc"));
+    }
+
+    @Test
+    @DisplayName("Não deve guardar NotFound: a próxima consulta volta ao loader")
+    void shouldNotCacheNotFound() {
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertSame(RedirectResolution.NOT_FOUND, nodeA.get("naoexiste", code -> {
+                loads.incrementAndGet();
+                return RedirectResolution.NOT_FOUND;
+            }));
+        }
+
+        assertEquals(2, loads.get());
+        assertNull(nodeA.getStale("naoexiste").orElse(null));
+    }
+
+    @Test
+    @DisplayName("Deve codificar e decodificar a mensagem de invalidação")
+    void shouldRoundTripInvalidationMessage() {
+        InvalidationMessage message = new InvalidationMessage("node-1", 42, List.of("abc", "meu-link_2"));
+
+        InvalidationMessage decoded = InvalidationMessage.decode(message.encode());
+
+        assertEquals(message, decoded);
+        assertThrows(IllegalArgumentException.class, () -> InvalidationMessage.decode("sem-separador"));
+    }
+
+    @Test
+    @DisplayName("Deve dividir códigos em lotes respeitando o tamanho máximo do payload")
+    void shouldPartitionCodesByPayloadSize() {
+        List<List<String>> batches = InvalidationMessage.partition(List.of("aaaa", "bbbb", "cccc"), 10);
+
+        assertEquals(List.of(List.of("aaaa", "bbbb"), List.of("cccc")), batches);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
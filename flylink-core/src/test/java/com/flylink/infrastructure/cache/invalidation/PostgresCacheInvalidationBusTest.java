@@ -0,0 +1,67 @@
+package com.flylink.infrastructure.cache.invalidation;
+
+import com.flylink.config.CacheProperties;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostgresCacheInvalidationBusTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "flylink_cache_invalidation", "_c", "cache2" })
+    @DisplayName("Deve aceitar canais que são identificadores simples")
+    void shouldAcceptPlainIdentifiers(String channel) {
+        assertDoesNotThrow(() -> newBus(channel));
+        assertTrue(validator.validate(invalidation(channel)).isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "cache; DROP TABLE short_urls", "Cache", "2cache", "cache-invalidation", "\"cache\"" })
+    @DisplayName("Deve recusar no startup canais que não são identificadores simples")
+    void shouldRejectUnsafeChannels(String channel) {
+        assertThrows(IllegalArgumentException.class, () -> newBus(channel));
+        assertFalse(validator.validate(invalidation(channel)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve recusar canais maiores que o limite de identificador do Postgres")
+    void shouldRejectTooLongChannel() {
+        String channel = "c".repeat(64);
+
+        assertThrows(IllegalArgumentException.class, () -> newBus(channel));
+        assertFalse(validator.validate(invalidation(channel)).isEmpty());
+        assertDoesNotThrow(() -> newBus("c".repeat(63)));
+    }
+
+    private static PostgresCacheInvalidationBus newBus(String channel) {
+        return new PostgresCacheInvalidationBus(null, null, channel, 50, 500, 500, 30_000);
+    }
+
+    private static CacheProperties.Invalidation invalidation(String channel) {
+        CacheProperties.Invalidation invalidation = new CacheProperties.Invalidation();
+        invalidation.setChannel(channel);
+        return invalidation;
+    }
+}
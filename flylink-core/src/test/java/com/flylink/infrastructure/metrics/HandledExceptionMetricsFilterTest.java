@@ -0,0 +1,45 @@
+package com.flylink.infrastructure.metrics;
+
+import com.flylink.domain.exception.UrlNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.DispatcherServlet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HandledExceptionMetricsFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HandledExceptionMetricsFilter filter = new HandledExceptionMetricsFilter(registry);
+
+    @Test
+    @DisplayName("Deve contar a exceção tratada pelo handler com tipo e status")
+    void shouldCountHandledException() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/abc1234");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(DispatcherServlet.EXCEPTION_ATTRIBUTE, new UrlNotFoundException("abc1234"));
+            response.setStatus(404);
+        });
+
+        Counter counter = registry.find("flylink.http.exceptions")
+                .tags("exception", "UrlNotFoundException", "status", "404")
+                .counter();
+        assertEquals(1.0, counter.count());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar nada quando a requisição termina sem exceção")
+    void shouldIgnoreSuccessfulRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest("GET", "/abc1234"), new MockHttpServletResponse(),
+                (req, res) -> { });
+
+        assertTrue(registry.find("flylink.http.exceptions").counters().isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+package com.flylink.infrastructure.persistence.archive;
+
+import com.flylink.config.ArchivalProperties;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LinkArchiverTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RedirectCache redirectCache;
+
+    private ArchivalProperties properties;
+    private LinkArchiver linkArchiver;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchivalProperties();
+        properties.setBatchSize(2);
+        linkArchiver = new LinkArchiver(properties, dataSource, jdbcTemplate, transactionManager,
+                ShardRouter.single(), redirectCache);
+    }
+
+    @Test
+    @DisplayName("Deve arquivar em lotes até um lote incompleto e invalidar o cache dos códigos movidos")
+    void shouldArchiveInBatchesUntilPartialBatch() {
+        OffsetDateTime cutoff = OffsetDateTime.now().minusDays(90);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(), any(), any()))
+                .thenReturn(List.of("a", "b"))
+                .thenReturn(List.of("c", "d"))
+                .thenReturn(List.of("e"));
+
+        assertEquals(5, linkArchiver.archiveAll(cutoff));
+
+        // O mesmo corte nos dois lados do predicado (atividade e expiração)
+        verify(jdbcTemplate, times(3)).queryForList(anyString(), eq(String.class), eq(cutoff), eq(cutoff), eq(2));
+        for (String code : List.of("a", "b", "c", "d", "e")) {
+            verify(redirectCache).invalidate(code);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve parar no limite de lotes por execução")
+    void shouldStopAtMaxBatchesPerRun() {
+        properties.setMaxBatchesPerRun(3);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(), any(), any()))
+                .thenReturn(List.of("a", "b"));
+
+        assertEquals(6, linkArchiver.archiveAll(OffsetDateTime.now()));
+        verify(jdbcTemplate, times(3)).queryForList(anyString(), eq(String.class), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar quando outro nó segura o lock")
+    void shouldSkipWhenAnotherNodeHoldsTheLock() throws Exception {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getBoolean(1)).thenReturn(false);
+
+        linkArchiver.run();
+
+        verifyNoInteractions(jdbcTemplate);
+        verify(connection).close();
+    }
+}
@@ -0,0 +1,132 @@
+package com.flylink.infrastructure.persistence.repository;
+
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcRedirectRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private JdbcRedirectRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new JdbcRedirectRepository(jdbcTemplate);
+        // Executa o setter e o extractor reais contra o PreparedStatement/ResultSet simulados
+        lenient().when(jdbcTemplate.query(anyString(), any(PreparedStatementSetter.class),
+                        ArgumentMatchers.<ResultSetExtractor<Object>>any()))
+                .thenAnswer(invocation -> {
+                    invocation.<PreparedStatementSetter>getArgument(1).setValues(statement);
+                    return invocation.<ResultSetExtractor<?>>getArgument(2).extractData(resultSet);
+                });
+    }
+
+    @Test
+    @DisplayName("Deve mapear todas as colunas da linha para o RedirectTarget")
+    void shouldMapRow() throws Exception {
+        OffsetDateTime expiresAt = OffsetDateTime.of(2030, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("abc123");
+        when(resultSet.getString(2)).thenReturn("https://example.com");
+        when(resultSet.getObject(3, OffsetDateTime.class)).thenReturn(expiresAt);
+        when(resultSet.getObject(4, Long.class)).thenReturn(10L);
+        when(resultSet.getString(5)).thenReturn("MOVED_PERMANENTLY");
+
+        Optional<RedirectTarget> result = repository.findActiveByCode("abc123");
+
+        assertTrue(result.isPresent());
+        RedirectTarget target = result.get();
+        assertEquals("abc123", target.code());
+        assertEquals("https://example.com", target.originalUrl());
+        assertEquals(expiresAt, target.expiresAt());
+        assertEquals(10L, target.maxClicks());
+        assertEquals(RedirectType.MOVED_PERMANENTLY, target.redirectType());
+        assertFalse(target.stale());
+        verify(statement).setString(1, "abc123");
+        verify(jdbcTemplate).query(contains("WHERE code = ? AND is_active = true"),
+                any(PreparedStatementSetter.class), ArgumentMatchers.<ResultSetExtractor<Object>>any());
+    }
+
+    @Test
+    @DisplayName("Deve mapear colunas opcionais nulas sem expiração, limite ou tipo")
+    void shouldMapNullableColumns() throws Exception {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getString(1)).thenReturn("abc123");
+        when(resultSet.getString(2)).thenReturn("https://example.com");
+        when(resultSet.getString(5)).thenReturn(null);
+
+        RedirectTarget target = repository.findActiveByCode("abc123").orElseThrow();
+
+        assertNull(target.expiresAt());
+        assertNull(target.maxClicks());
+        assertEquals(RedirectType.FOUND, target.redirectType());
+        assertFalse(target.isExpiredAt(System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Deve considerar expirado o link cujo expires_at já passou")
+    void shouldMapPastExpiry() throws Exception {
+        OffsetDateTime expiresAt = OffsetDateTime.now(ZoneOffset.ofHours(-3)).minusMinutes(1);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(3, OffsetDateTime.class)).thenReturn(expiresAt);
+
+        RedirectTarget target = repository.findActiveByCode("abc123").orElseThrow();
+
+        assertTrue(target.isExpiredAt(System.currentTimeMillis()));
+        assertFalse(target.isExpiredAt(expiresAt.toInstant().toEpochMilli()));
+    }
+
+    @Test
+    @DisplayName("Deve retornar vazio quando não há linha ativa")
+    void shouldReturnEmptyWhenNoRow() throws Exception {
+        when(resultSet.next()).thenReturn(false);
+
+        assertTrue(repository.findActiveByCode("missing").isEmpty());
+        verify(resultSet, never()).getString(anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve somar os cliques guardados com os parâmetros na ordem do SQL")
+    void shouldBindAddClicksParameters() throws Exception {
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            invocation.<PreparedStatementSetter>getArgument(1).setValues(statement);
+            return 1;
+        });
+
+        assertEquals(1, repository.addClicks("abc123", 7));
+
+        verify(statement).setLong(1, 7L);
+        verify(statement).setLong(2, 7L);
+        verify(statement).setString(3, "abc123");
+    }
+}
@@ -0,0 +1,24 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReshardingToolTest {
+
+    @Test
+    @DisplayName("Deve apagar da origem só as linhas cuja cópia está no destino com o mesmo id")
+    void shouldDeleteOnlyCopiedRows() {
+        Object[] copied = { 7L, "abc1234" };
+        Object[] conflicting = { 8L, "meu-projeto" };
+        Object[] missing = { 9L, "sumiu" };
+        Map<String, Long> targetIds = Map.of("abc1234", 7L, "meu-projeto", 1_000_000_000_000_042L);
+
+        assertTrue(ReshardingTool.isCopied(copied, targetIds));
+        assertFalse(ReshardingTool.isCopied(conflicting, targetIds));
+        assertFalse(ReshardingTool.isCopied(missing, targetIds));
+    }
+}
@@ -0,0 +1,75 @@
+package com.flylink.infrastructure.persistence.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardRouterTest {
+
+    @Test
+    @DisplayName("Deve rotear o mesmo código sempre para o mesmo shard")
+    void shouldRouteDeterministically() {
+        // Valores fixos: mudar o hash quebraria o roteamento de dados já gravados
+        assertEquals(ShardHashing.shardFor("meu-projeto", 8), ShardHashing.shardFor("meu-projeto", 8));
+        assertEquals(0xaf63dc4c8601ec8cL, ShardHashing.fnv1a64("a"));
+        assertEquals(0, ShardHashing.shardFor("qualquer", 1));
+    }
+
+    @Test
+    @DisplayName("Deve mover apenas uma fração pequena dos códigos ao adicionar um shard")
+    void shouldMoveFewCodesWhenGrowing() {
+        int total = 10_000;
+        int moved = 0;
+        for (int i = 0; i < total; i++) {
+            String code = "code" + i;
+            int before = ShardHashing.shardFor(code, 4);
+            int after = ShardHashing.shardFor(code, 5);
+            if (before != after) {
+                assertEquals(4, after); // só vai para o shard novo
+                moved++;
+            }
+        }
+        // Esperado ~1/5
+        assertTrue(moved > total * 0.15 && moved < total * 0.25, "movidos: " + moved);
+    }
+
+    @Test
+    @DisplayName("Deve consultar todos os shards e combinar o resultado ordenado")
+    @SuppressWarnings("unchecked")
+    void shouldFanOutAndMerge() {
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> ((TransactionCallback<Object>) inv.getArgument(0)).doInTransaction(null));
+
+        try (ShardRouter router = new ShardRouter(3, tx, Executors.newVirtualThreadPerTaskExecutor())) {
+            List<Integer> result = router.fanOut(
+                    shard -> List.of(shard * 10 + ShardContext.current(), shard),
+                    Comparator.naturalOrder());
+
+            assertEquals(List.of(0, 0, 1, 2, 11, 22), result);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve restaurar o shard anterior ao fechar o escopo")
+    void shouldRestorePreviousShard() {
+        ShardRouter router = new ShardRouter(4, null, null);
+
+        try (ShardRouter.ShardScope outer = router.bindShard(1)) {
+            try (ShardRouter.ShardScope inner = router.bindShard(3)) {
+                assertEquals(3, ShardContext.current());
+            }
+            assertEquals(1, ShardContext.current());
+        }
+        assertNull(ShardContext.current());
+    }
+}
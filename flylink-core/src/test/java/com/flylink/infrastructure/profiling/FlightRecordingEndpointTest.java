@@ -0,0 +1,73 @@
+package com.flylink.infrastructure.profiling;
+
+import com.flylink.config.ProfilingProperties;
+import com.flylink.infrastructure.metrics.RedirectOutcome;
+import com.flylink.infrastructure.profiling.FlightRecordingEndpoint.RecordingInfo;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    Path recordingDir;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        ProfilingProperties properties = new ProfilingProperties();
+        properties.setRecordingDir(recordingDir.toString());
+        properties.setSettings("default");
+        properties.setMaxDurationSeconds(30);
+        endpoint = new FlightRecordingEndpoint(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    @DisplayName("Deve gravar os eventos da aplicação no arquivo .jfr ao encerrar")
+    void shouldDumpApplicationEventsOnStop() throws Exception {
+        RecordingInfo started = endpoint.start(10);
+        assertEquals("RUNNING", started.state());
+
+        RedirectResolvedEvent event = RedirectResolvedEvent.start();
+        assertNotNull(event);
+        event.finish("abc1234", RedirectOutcome.HIT);
+
+        RecordingInfo stopped = endpoint.stop();
+        Path file = Path.of(stopped.file());
+        assertTrue(Files.exists(file));
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals("com.flylink.RedirectResolved"))
+                .toList();
+        assertEquals(1, events.size());
+        assertEquals("abc1234", events.get(0).getString("code"));
+        assertTrue(events.get(0).getBoolean("cacheHit"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar a duração ao teto e manter uma única gravação por vez")
+    void shouldCapDurationAndReuseRunningRecording() {
+        RecordingInfo first = endpoint.start(3600);
+        RecordingInfo second = endpoint.start(5);
+
+        assertEquals(30, first.durationSeconds());
+        assertEquals(first.file(), second.file());
+        assertEquals(30, second.durationSeconds());
+    }
+}
@@ -0,0 +1,135 @@
+package com.flylink.infrastructure.ratelimit;
+
+import com.flylink.config.RateLimitProperties;
+import com.flylink.domain.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+    private RateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setPolicies(List.of(
+                new RateLimitProperties.Policy("redirect", "GET", "/{code}", 3, 1),
+                new RateLimitProperties.Policy("create-url", "POST", "/api/v1/urls", 2, 0.5)));
+        rateLimiter = new RateLimiter(properties, clock::get);
+        interceptor = new RateLimitInterceptor(rateLimiter);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a rajada, recusar o excedente e reabastecer com o tempo")
+    void shouldAllowBurstThenRefill() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(consume("1.1.1.1") >= 0);
+        }
+        assertTrue(consume("1.1.1.1") < 0);
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+
+        assertTrue(consume("1.1.1.1") >= 0);
+        assertTrue(consume("1.1.1.1") < 0);
+    }
+
+    @Test
+    @DisplayName("Deve limitar cada cliente separadamente")
+    void shouldTrackClientsIndependently() {
+        for (int i = 0; i < 3; i++) {
+            consume("1.1.1.1");
+        }
+
+        assertTrue(consume("1.1.1.1") < 0);
+        assertTrue(consume("2.2.2.2") >= 0);
+    }
+
+    @Test
+    @DisplayName("Deve escrever os headers RateLimit-* em requisições aceitas")
+    void shouldWriteRateLimitHeaders() {
+        MockHttpServletResponse response = preHandle(new MockHttpServletRequest("GET", "/abc"));
+
+        assertEquals("3", response.getHeader("RateLimit-Limit"));
+        assertEquals("2", response.getHeader("RateLimit-Remaining"));
+        assertEquals("1", response.getHeader("RateLimit-Reset"));
+        assertEquals("3;w=3", response.getHeader("RateLimit-Policy"));
+    }
+
+    @Test
+    @DisplayName("Deve lançar 429 com o tempo de espera ao esgotar a cota")
+    void shouldThrowWhenQuotaIsExhausted() {
+        preHandle(new MockHttpServletRequest("POST", "/api/v1/urls"));
+        preHandle(new MockHttpServletRequest("POST", "/api/v1/urls"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest("POST", "/api/v1/urls"), response, null));
+
+        assertEquals(2, ex.getRetryAfterSeconds());
+        assertEquals("0", response.getHeader("RateLimit-Remaining"));
+    }
+
+    @Test
+    @DisplayName("Deve limitar pela chave do ClientKeyResolver (userId quando autenticado)")
+    void shouldKeyByResolvedClientKey() {
+        interceptor = new RateLimitInterceptor(rateLimiter, request -> 42L);
+
+        preHandle(requestFrom("1.1.1.1"));
+        preHandle(requestFrom("2.2.2.2"));
+
+        assertThrows(RateLimitExceededException.class, () -> preHandle(requestFrom("3.3.3.3")));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar rotas sem política")
+    void shouldIgnoreUnmatchedRoutes() {
+        MockHttpServletResponse response = preHandle(new MockHttpServletRequest("GET", "/api/v1/urls"));
+
+        assertNull(response.getHeader("RateLimit-Limit"));
+    }
+
+    @Test
+    @DisplayName("Deve remover baldes ociosos e deixar passar acima do limite de chaves")
+    void shouldEvictIdleBucketsAndFailOpenWhenFull() {
+        properties.setMaxKeys(1);
+        rateLimiter = new RateLimiter(properties, clock::get);
+        RateLimitPolicy redirect = rateLimiter.policies().get(0);
+
+        rateLimiter.tryConsume(redirect, "1.1.1.1");
+        assertEquals(0, rateLimiter.tryConsume(redirect, "2.2.2.2"));
+        assertEquals(1, redirect.buckets.size());
+
+        clock.addAndGet(Duration.ofMillis(properties.getIdleEvictionMs()).toNanos() + Duration.ofSeconds(2).toNanos());
+        rateLimiter.evictIdle();
+
+        assertTrue(redirect.buckets.isEmpty());
+    }
+
+    private long consume(String ip) {
+        return rateLimiter.tryConsume(rateLimiter.policies().get(0), ip);
+    }
+
+    private MockHttpServletRequest requestFrom(String ip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/urls");
+        request.setRemoteAddr(ip);
+        return request;
+    }
+
+    private MockHttpServletResponse preHandle(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        return response;
+    }
+}
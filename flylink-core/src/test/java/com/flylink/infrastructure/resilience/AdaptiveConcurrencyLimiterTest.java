@@ -0,0 +1,84 @@
+package com.flylink.infrastructure.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 2, 100, 1.5);
+
+    @Test
+    @DisplayName("Deve rejeitar acima do limite e liberar a vaga ao terminar")
+    void shouldRejectAboveLimit() {
+        for (int i = 0; i < 20; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.rejectedCount());
+
+        limiter.release(Duration.ofMillis(1).toNanos(), false);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("Deve aumentar o limite com latência estável e demanda alta")
+    void shouldGrowWithStableLatency() {
+        for (int i = 0; i < 10; i++) {
+            saturate(Duration.ofMillis(5));
+        }
+
+        assertTrue(limiter.limit() > 20);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite quando a latência sobe")
+    void shouldShrinkWhenLatencyRises() {
+        saturate(Duration.ofMillis(5));
+        int before = limiter.limit();
+
+        for (int i = 0; i < 5; i++) {
+            saturate(Duration.ofMillis(100));
+        }
+
+        assertTrue(limiter.limit() < before);
+        assertTrue(limiter.limit() >= 2);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o limite em erros do servidor")
+    void shouldBackOffOnFailures() {
+        limiter.tryAcquire();
+        limiter.release(Duration.ofMillis(1).toNanos(), true);
+
+        assertEquals(18, limiter.limit());
+    }
+
+    @Test
+    @DisplayName("Não deve aumentar o limite sem demanda")
+    void shouldNotGrowWhenUnderused() {
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.release(Duration.ofMillis(1).toNanos(), false);
+        }
+
+        assertEquals(20, limiter.limit());
+    }
+
+    /**
+     * Ocupa todas as vagas e libera cada uma com a latência informada.
+     */
+    private void saturate(Duration rtt) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rtt.toNanos(), false);
+        }
+    }
+}
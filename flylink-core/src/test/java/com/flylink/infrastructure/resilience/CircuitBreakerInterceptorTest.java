@@ -0,0 +1,82 @@
+package com.flylink.infrastructure.resilience;
+
+import com.flylink.web.exception.DomainExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CircuitBreakerInterceptorTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ManagementController controller = new ManagementController();
+    private CircuitBreaker breaker;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("db", 1, Duration.ofSeconds(1), Duration.ofSeconds(5), clock::get);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new CircuitBreakerInterceptor(breaker))
+                .setControllerAdvice(new DomainExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Deve deixar a requisição passar com o circuito fechado")
+    void shouldPassWhenClosed() throws Exception {
+        mockMvc.perform(get("/api/v1/urls")).andExpect(status().isOk());
+
+        assertEquals(1, controller.calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After sem chamar o controller com o circuito aberto")
+    void shouldRejectWhenOpen() throws Exception {
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(() -> {
+            throw new DataAccessResourceFailureException("banco fora");
+        }));
+
+        mockMvc.perform(get("/api/v1/urls"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.status").value(503));
+
+        assertEquals(0, controller.calls.get());
+    }
+
+    @Test
+    @DisplayName("Deve deixar passar quando o circuito aceitaria a chamada de teste")
+    void shouldPassWhenProbeWouldBeAllowed() throws Exception {
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(() -> {
+            throw new DataAccessResourceFailureException("banco fora");
+        }));
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        mockMvc.perform(get("/api/v1/urls")).andExpect(status().isOk());
+    }
+
+    @RestController
+    static class ManagementController {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @GetMapping("/api/v1/urls")
+        String list() {
+            calls.incrementAndGet();
+            return "[]";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.flylink.infrastructure.resilience;
+
+import com.flylink.domain.exception.UrlNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new CircuitBreaker("db", 3, Duration.ofMillis(100), Duration.ofSeconds(5), clock::get);
+    }
+
+    @Test
+    @DisplayName("Deve abrir após falhas seguidas e falhar na hora enquanto aberto")
+    void shouldOpenAfterConsecutiveFailures() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(this::fail));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.permitsCalls());
+        assertThrows(CircuitOpenException.class, () -> breaker.execute(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Não deve contar exceções de negócio como falha")
+    void shouldIgnoreBusinessExceptions() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(UrlNotFoundException.class, () -> breaker.execute(() -> {
+                throw new UrlNotFoundException("abc");
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Deve contar chamadas lentas como falha")
+    void shouldCountSlowCallsAsFailures() {
+        for (int i = 0; i < 3; i++) {
+            breaker.execute(() -> clock.addAndGet(Duration.ofMillis(200).toNanos()));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Deve fechar quando a chamada de teste (half-open) tem sucesso")
+    void shouldCloseAfterSuccessfulProbe() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertTrue(breaker.permitsCalls());
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    @DisplayName("Deve reabrir quando a chamada de teste falha")
+    void shouldReopenAfterFailedProbe() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(this::fail));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertThrows(CircuitOpenException.class, () -> breaker.execute(() -> "ok"));
+    }
+
+    @Test
+    @DisplayName("Deve reabrir e liberar a vaga de teste quando a chamada de teste lança um Error")
+    void shouldReleaseProbeWhenProbeThrowsError() {
+        openBreaker();
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        assertThrows(StackOverflowError.class, () -> breaker.execute(() -> {
+            throw new StackOverflowError();
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    private void openBreaker() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(DataAccessResourceFailureException.class, () -> breaker.execute(this::fail));
+        }
+    }
+
+    private String fail() {
+        throw new DataAccessResourceFailureException("banco fora");
+    }
+}
@@ -0,0 +1,93 @@
+package com.flylink.infrastructure.resilience;
+
+import com.flylink.config.ResilienceProperties;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ClickSpoolTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final RedirectRepository redirectRepository = mock(RedirectRepository.class);
+    private CircuitBreaker breaker;
+    private ClickSpool spool;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getClickSpool().setMaxCodes(2);
+        breaker = new CircuitBreaker("db", 1, Duration.ofSeconds(1), Duration.ofSeconds(5), clock::get);
+        spool = new ClickSpool(properties, breaker, redirectRepository, ShardRouter.single());
+    }
+
+    @Test
+    @DisplayName("Deve descartar cliques de códigos novos quando o spool está cheio")
+    void shouldDropNewCodesWhenFull() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        spool.bindTo(registry);
+
+        assertTrue(spool.add("a"));
+        assertTrue(spool.add("b"));
+        assertFalse(spool.add("c"));
+        // Código já guardado continua agregando
+        assertTrue(spool.add("a"));
+
+        assertEquals(2, spool.pendingCodes());
+        assertEquals(1.0, registry.get("flylink.clicks.spool.dropped").functionCounter().count());
+        assertEquals(2.0, registry.get("flylink.clicks.spooled.codes").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve reenviar os cliques agregados por código")
+    void shouldReplayAggregatedClicks() {
+        spool.add("a");
+        spool.add("a");
+        spool.add("a");
+        spool.add("b");
+
+        spool.replay();
+
+        verify(redirectRepository).addClicks("a", 3);
+        verify(redirectRepository).addClicks("b", 1);
+        assertEquals(0, spool.pendingCodes());
+    }
+
+    @Test
+    @DisplayName("Deve devolver ao spool os cliques não gravados quando o reenvio falha")
+    void shouldKeepClicksWhenReplayFails() {
+        spool.add("a");
+        spool.add("a");
+        when(redirectRepository.addClicks(anyString(), anyLong()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"))
+                .thenReturn(1);
+
+        spool.replay();
+        assertEquals(1, spool.pendingCodes());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        // Circuito aberto: nem tenta
+        spool.replay();
+        verify(redirectRepository, times(1)).addClicks(anyString(), anyLong());
+
+        // Passado o tempo aberto, a chamada de teste grava tudo o que ficou guardado
+        spool.add("a");
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        spool.replay();
+        verify(redirectRepository).addClicks("a", 2);
+        verify(redirectRepository).addClicks("a", 3);
+        assertEquals(0, spool.pendingCodes());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
@@ -0,0 +1,78 @@
+package com.flylink.infrastructure.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitFilterTest {
+
+    private Map<RouteClass, AdaptiveConcurrencyLimiter> limiters;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        limiters = new EnumMap<>(RouteClass.class);
+        limiters.put(RouteClass.REDIRECT, new AdaptiveConcurrencyLimiter(10, 1, 10, 1.5));
+        limiters.put(RouteClass.MANAGEMENT, new AdaptiveConcurrencyLimiter(2, 1, 2, 1.5));
+        limiters.put(RouteClass.AUTH, new AdaptiveConcurrencyLimiter(2, 1, 2, 1.5));
+        filter = new ConcurrencyLimitFilter(limiters, 0.8, 1);
+    }
+
+    @Test
+    @DisplayName("Deve classificar as rotas por caminho")
+    void shouldClassifyRoutes() {
+        assertEquals(RouteClass.REDIRECT, RouteClass.of(new MockHttpServletRequest("GET", "/abc-123")));
+        assertEquals(RouteClass.MANAGEMENT, RouteClass.of(new MockHttpServletRequest("GET", "/api/v1/urls")));
+        assertEquals(RouteClass.AUTH, RouteClass.of(new MockHttpServletRequest("POST", "/api/v1/auth/login")));
+        assertNull(RouteClass.of(new MockHttpServletRequest("GET", "/health")));
+        assertNull(RouteClass.of(new MockHttpServletRequest("GET", "/actuator/metrics")));
+        assertNull(RouteClass.of(new MockHttpServletRequest("POST", "/abc")));
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o orçamento da rota está cheio")
+    void shouldRejectWhenBudgetIsFull() throws Exception {
+        limiters.get(RouteClass.MANAGEMENT).tryAcquire();
+        limiters.get(RouteClass.MANAGEMENT).tryAcquire();
+
+        MockHttpServletResponse response = doFilter("GET", "/api/v1/urls");
+
+        assertEquals(503, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("\"status\":503"));
+    }
+
+    @Test
+    @DisplayName("Deve descartar gerenciamento antes do redirect sob pressão")
+    void shouldShedManagementBeforeRedirects() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            limiters.get(RouteClass.REDIRECT).tryAcquire();
+        }
+
+        assertEquals(503, doFilter("GET", "/api/v1/urls").getStatus());
+        assertEquals(503, doFilter("POST", "/api/v1/auth/login").getStatus());
+        assertEquals(200, doFilter("GET", "/abc").getStatus());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a vaga após a requisição")
+    void shouldReleaseSlotAfterRequest() throws Exception {
+        assertEquals(200, doFilter("GET", "/abc").getStatus());
+
+        assertEquals(0, limiters.get(RouteClass.REDIRECT).inFlight());
+    }
+
+    private MockHttpServletResponse doFilter(String method, String path) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, path), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,41 @@
+package com.flylink.infrastructure.startup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.support.StaticApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartupTimelineTest {
+
+    private final StartupPhaseListener listener = new StartupPhaseListener();
+
+    @Test
+    @DisplayName("Deve marcar a fase correspondente ao evento da inicialização")
+    void shouldMarkPhaseFromEvent() {
+        listener.onApplicationEvent(new ApplicationStartingEvent(new DefaultBootstrapContext(),
+                new SpringApplication(), new String[0]));
+
+        assertTrue(StartupTimeline.reachedAtMs(StartupPhase.STARTING) >= 0);
+        // Eventos fora da inicialização são ignorados
+        assertDoesNotThrow(() -> listener.onApplicationEvent(
+                new ContextClosedEvent(new StaticApplicationContext())));
+    }
+
+    @Test
+    @DisplayName("Deve registrar só o primeiro redirecionamento do processo")
+    void shouldRecordFirstRedirectOnce() throws InterruptedException {
+        StartupTimeline.redirectServed();
+        long firstAt = StartupTimeline.reachedAtMs(StartupPhase.FIRST_REDIRECT);
+
+        Thread.sleep(5);
+        StartupTimeline.redirectServed();
+
+        assertTrue(firstAt >= 0);
+        assertEquals(firstAt, StartupTimeline.reachedAtMs(StartupPhase.FIRST_REDIRECT));
+    }
+}
@@ -0,0 +1,75 @@
+package com.flylink.infrastructure.timing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter filter = new ServerTimingFilter(1.0);
+    private final ServerTimingInterceptor interceptor = new ServerTimingInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        // O filtro liga a medição para a JVM inteira; desliga para não afetar outros testes
+        ServerTiming.disable();
+        ServerTiming.unbind();
+    }
+
+    @Test
+    @DisplayName("Deve escrever o Server-Timing com as fases medidas antes do corpo")
+    void shouldWriteServerTimingHeader() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/urls");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            long auth = ServerTiming.start();
+            assertNotEquals(0L, auth);
+            ServerTiming.stop(TimingPhase.AUTH, auth);
+
+            interceptor.preHandle(request, response, null);
+            ServerTiming.current().add(TimingPhase.DB, 2_500_000);
+            new ServerTimingBodyAdvice().beforeBodyWrite(null, null, null, null, null, null);
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            interceptor.afterCompletion(request, response, null, null);
+        });
+
+        String header = response.getHeader(ServerTimingFilter.HEADER);
+        assertNotNull(header);
+        assertTrue(header.contains("auth;dur="), header);
+        assertTrue(header.contains("app;dur="), header);
+        assertTrue(header.contains("db;dur=2.500;"), header);
+        assertTrue(header.contains("ser;dur="), header);
+        assertTrue(header.contains("total;dur="), header);
+        assertEquals("[]", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Não deve medir fora de uma requisição com o filtro")
+    void shouldNotMeasureOutsideRequest() {
+        assertEquals(0L, ServerTiming.start());
+        assertNull(ServerTiming.current());
+
+        // stop com 0 é no-op
+        ServerTiming.stop(TimingPhase.DB, 0L);
+    }
+
+    @Test
+    @DisplayName("Deve contar uma vez só repositórios que chamam outros repositórios")
+    void shouldCountNestedRepositoryCallsOnce() {
+        ServerTimingRecorder recorder = new ServerTimingRecorder(System.nanoTime());
+
+        assertTrue(recorder.enterRepository());
+        assertFalse(recorder.enterRepository());
+        recorder.exitRepository();
+        recorder.exitRepository();
+
+        assertTrue(recorder.enterRepository());
+    }
+}
@@ -1,7 +1,8 @@
 package com.flylink.web.exception;
 
 import com.flylink.domain.exception.CodeAlreadyExistsException;
-import com.flylink.domain.exception.EmailAlreadyExistsException;
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.exception.UrlAccessDeniedException;
 import com.flylink.domain.exception.UrlExpiredException;
 import com.flylink.domain.exception.UrlNotFoundException;
 import com.flylink.web.dto.ErrorResponse;
@@ -12,8 +13,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
-import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.validation.BeanPropertyBindingResult;
 import org.springframework.validation.BindingResult;
@@ -32,7 +31,6 @@ import static org.mockito.Mockito.mock;
 
 class ExceptionHandlersTest {
 
-        private final AuthExceptionHandler authHandler = new AuthExceptionHandler();
         private final DatabaseExceptionHandler dbHandler = new DatabaseExceptionHandler();
         private final DomainExceptionHandler domainHandler = new DomainExceptionHandler();
         private final ValidationExceptionHandler validationHandler = new ValidationExceptionHandler();
@@ -48,49 +46,6 @@ class ExceptionHandlersTest {
 
         private final TestGlobalExceptionHandler globalHandler = new TestGlobalExceptionHandler();
 
-        @Test
-        @DisplayName("Deve tratar EmailAlreadyExistsException")
-        void handleEmailAlreadyExists() {
-                MockHttpServletRequest request = new MockHttpServletRequest();
-                request.setRequestURI("/test");
-                EmailAlreadyExistsException ex = new EmailAlreadyExistsException("test@test.com");
-
-                ResponseEntity<ErrorResponse> response = authHandler.handleEmailAlreadyExists(ex, request);
-
-                assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
-                assertNotNull(response.getBody());
-                assertEquals("Já existe um usuário cadastrado com o email: test@test.com",
-                                response.getBody().getMessage());
-        }
-
-        @Test
-        @DisplayName("Deve tratar BadCredentialsException")
-        void handleBadCredentials() {
-                MockHttpServletRequest request = new MockHttpServletRequest();
-                request.setRequestURI("/login");
-                BadCredentialsException ex = new BadCredentialsException("Bad");
-
-                ResponseEntity<ErrorResponse> response = authHandler.handleBadCredentials(ex, request);
-
-                assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
-                assertNotNull(response.getBody());
-                assertEquals("Credenciais inválidas", response.getBody().getMessage());
-        }
-
-        @Test
-        @DisplayName("Deve tratar AccessDeniedException")
-        void handleAccessDenied() {
-                MockHttpServletRequest request = new MockHttpServletRequest();
-                request.setRequestURI("/secure");
-                AccessDeniedException ex = new AccessDeniedException("Denied");
-
-                ResponseEntity<ErrorResponse> response = authHandler.handleAccessDenied(ex, request);
-
-                assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
-                assertNotNull(response.getBody());
-                assertEquals("Acesso negado", response.getBody().getMessage());
-        }
-
         @Test
         @DisplayName("Deve tratar os cenários de DataIntegrityViolationException")
         void handleDataIntegrityViolationBranches() {
@@ -149,6 +104,21 @@ class ExceptionHandlersTest {
                 assertEquals("Já existe uma URL com o código: code123", response.getBody().getMessage());
         }
 
+        @Test
+        @DisplayName("Deve tratar UrlAccessDeniedException")
+        void handleUrlAccessDenied() {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setRequestURI("/api/v1/urls/code123");
+                UrlAccessDeniedException ex = new UrlAccessDeniedException("code123");
+
+                ResponseEntity<ErrorResponse> response = domainHandler.handleUrlAccessDenied(ex, request);
+
+                assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+                assertNotNull(response.getBody());
+                assertEquals("Você não tem permissão para acessar a URL com o código: code123",
+                                response.getBody().getMessage());
+        }
+
         @Test
         @DisplayName("Deve tratar UrlExpiredException")
         void handleUrlExpired() {
@@ -164,6 +134,21 @@ class ExceptionHandlersTest {
                                 response.getBody().getMessage());
         }
 
+        @Test
+        @DisplayName("Deve tratar ServiceUnavailableException com Retry-After")
+        void handleServiceUnavailable() {
+                MockHttpServletRequest request = new MockHttpServletRequest();
+                request.setRequestURI("/code123");
+                ServiceUnavailableException ex = new ServiceUnavailableException("Tente novamente", 3);
+
+                ResponseEntity<ErrorResponse> response = domainHandler.handleServiceUnavailable(ex, request);
+
+                assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+                assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+                assertNotNull(response.getBody());
+                assertEquals("Tente novamente", response.getBody().getMessage());
+        }
+
         @Test
         @DisplayName("Deve tratar UrlNotFoundException")
         void handleUrlNotFound() {
@@ -0,0 +1,20 @@
+package com.flylink.config;
+
+import com.flylink.infrastructure.accesslog.AccessLog;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Log de acesso do redirecionamento. Desligado, o controller recebe um
+ * {@link AccessLog} que não grava nada (sem thread nem buffer).
+ */
+@Configuration
+@EnableConfigurationProperties(AccessLogProperties.class)
+public class AccessLogConfig {
+
+    @Bean
+    public AccessLog accessLog(AccessLogProperties properties) {
+        return properties.isEnabled() ? new AccessLog(properties) : AccessLog.disabled();
+    }
+}
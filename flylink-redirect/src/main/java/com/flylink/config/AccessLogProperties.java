@@ -0,0 +1,50 @@
+package com.flylink.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Propriedades do log de acesso do redirecionamento.
+ * Prefixo: app.access-log
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "app.access-log")
+public class AccessLogProperties {
+
+    private boolean enabled = false;
+
+    // Diretório dos segmentos (access-*.bin.gz)
+    @NotBlank
+    private String dir = "access-log";
+
+    // Registros de 80 bytes no buffer circular (potência de 2); cheio, o registro é descartado
+    @Positive
+    @Max(4_194_304)
+    private int bufferRecords = 65_536;
+
+    // Rotação pelo volume de registros, antes da compressão
+    @Positive
+    private long segmentMaxBytes = 64L * 1024 * 1024;
+
+    // Rotação pela idade do segmento, mesmo com pouco tráfego
+    @Positive
+    private long segmentMaxAgeSeconds = 3600;
+
+    // Segmentos mantidos no diretório; os mais antigos são apagados
+    @Positive
+    private int maxSegments = 168;
+
+    // Intervalo do sync flush: o que o leitor já enxerga de um segmento aberto
+    @Positive
+    private long flushIntervalMs = 1000;
+
+    // Chave do SipHash do IP (via SHA-256); vazia = sorteada por processo (hashes não se comparam entre restarts)
+    private String clientHashKey = "";
+}
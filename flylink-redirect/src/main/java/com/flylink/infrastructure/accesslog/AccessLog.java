@@ -0,0 +1,151 @@
+package com.flylink.infrastructure.accesslog;
+
+import com.flylink.config.AccessLogProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log de acesso do redirecionamento (GET /{code}).
+ *
+ * A thread da requisição só grava um registro binário de tamanho fixo no
+ * {@link AccessLogRingBuffer} — sem texto, sem I/O e sem alocação; a
+ * codificação em segmentos gzip fica com a thread access-log-writer
+ * ({@link AccessLogWriter}). Com o buffer cheio o registro é descartado e
+ * contado em flylink.accesslog.dropped.
+ *
+ * O IP do cliente vira um SipHash-2-4 de 64 bits com chave (pseudônimo):
+ * permite agrupar acessos do mesmo cliente sem guardar o endereço, e sem a
+ * chave não dá para recuperar o IP testando o espaço de endereços. A chave
+ * de 128 bits vem do SHA-256 da chave configurada; sem ela, é sorteada a
+ * cada processo e os hashes não se comparam entre restarts.
+ */
+@Slf4j
+public class AccessLog implements MeterBinder, AutoCloseable {
+
+    private static final AccessLog DISABLED = new AccessLog();
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(10);
+
+    private final AccessLogRingBuffer buffer;
+    private final AccessLogWriter writer;
+    private final Thread writerThread;
+    private final SipHash24 clientHasher;
+
+    private AccessLog() {
+        this.buffer = null;
+        this.writer = null;
+        this.writerThread = null;
+        this.clientHasher = null;
+    }
+
+    public AccessLog(AccessLogProperties properties) {
+        this.buffer = new AccessLogRingBuffer(properties.getBufferRecords());
+        this.writer = new AccessLogWriter(buffer, Path.of(properties.getDir()), properties.getSegmentMaxBytes(),
+                TimeUnit.SECONDS.toNanos(properties.getSegmentMaxAgeSeconds()), properties.getMaxSegments(),
+                TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs()));
+        this.clientHasher = clientHasher(properties.getClientHashKey());
+        this.writerThread = Thread.ofPlatform().name("access-log-writer").daemon().start(writer);
+        log.info("Log de acesso em {} (buffer de {} registros)", Path.of(properties.getDir()).toAbsolutePath(),
+                buffer.capacity());
+    }
+
+    /**
+     * Log desligado: {@link #record} não faz nada.
+     */
+    public static AccessLog disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return buffer != null;
+    }
+
+    /**
+     * Registra uma requisição atendida, sem bloquear nem alocar.
+     *
+     * @param startNanos {@link System#nanoTime()} do início do atendimento
+     * @param remoteAddr IP do cliente (só o hash é gravado)
+     */
+    public void record(String code, int status, long startNanos, String remoteAddr) {
+        if (buffer == null) {
+            return;
+        }
+        long latencyMicros = (System.nanoTime() - startNanos) / 1_000;
+        buffer.offer(System.currentTimeMillis(), clientHash(remoteAddr), latencyMicros, status, code);
+    }
+
+    long buffered() {
+        return buffer == null ? 0 : buffer.size();
+    }
+
+    long clientHash(String remoteAddr) {
+        return remoteAddr == null ? 0 : clientHasher.hash(remoteAddr);
+    }
+
+    /**
+     * Para a thread de escrita depois de gravar o que já estava no buffer e
+     * fechar o segmento atual.
+     */
+    @Override
+    public void close() {
+        if (writerThread == null) {
+            return;
+        }
+        writer.stop();
+        LockSupport.unpark(writerThread);
+        try {
+            if (!writerThread.join(CLOSE_TIMEOUT)) {
+                log.warn("Log de acesso não terminou de gravar em {} s", CLOSE_TIMEOUT.toSeconds());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (buffer == null) {
+            return;
+        }
+        FunctionCounter.builder("flylink.accesslog.records", writer, AccessLogWriter::written)
+                .description("Access log records written to segments")
+                .register(registry);
+        FunctionCounter.builder("flylink.accesslog.dropped", buffer, AccessLogRingBuffer::dropped)
+                .description("Access log records dropped because the ring buffer was full")
+                .register(registry);
+        FunctionCounter.builder("flylink.accesslog.write.failures", writer, AccessLogWriter::failed)
+                .description("Access log records lost to segment write failures")
+                .register(registry);
+        Gauge.builder("flylink.accesslog.buffered", buffer, AccessLogRingBuffer::size)
+                .description("Access log records waiting in the ring buffer")
+                .register(registry);
+    }
+
+    private static SipHash24 clientHasher(String key) {
+        if (key == null || key.isBlank()) {
+            SecureRandom random = new SecureRandom();
+            return new SipHash24(random.nextLong(), random.nextLong());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            ByteBuffer bytes = ByteBuffer.wrap(digest).order(ByteOrder.LITTLE_ENDIAN);
+            return new SipHash24(bytes.getLong(), bytes.getLong());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.flylink.infrastructure.accesslog;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.CLIENT_HASH_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.CODE_LENGTH_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.CODE_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.FLAGS_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.FLAG_CODE_TRUNCATED;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.INT;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.LATENCY_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.LONG;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.MAX_CODE_LENGTH;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.SHORT;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.STATUS_OFFSET;
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.TIMESTAMP_OFFSET;
+
+/**
+ * Registro do log de acesso decodificado (leitura dos segmentos).
+ *
+ * @param clientHash hash com chave do IP do cliente — pseudônimo, nunca o IP
+ */
+public record AccessLogEntry(
+        long timestampMillis,
+        String code,
+        boolean codeTruncated,
+        int status,
+        long latencyMicros,
+        long clientHash) {
+
+    /**
+     * Lê um registro no layout do {@link AccessLogRingBuffer}.
+     */
+    public static AccessLogEntry decode(byte[] record, int offset) {
+        int length = Math.min(record[offset + CODE_LENGTH_OFFSET] & 0xff, MAX_CODE_LENGTH);
+        return new AccessLogEntry(
+                (long) LONG.get(record, offset + TIMESTAMP_OFFSET),
+                new String(record, offset + CODE_OFFSET, length, StandardCharsets.US_ASCII),
+                (record[offset + FLAGS_OFFSET] & FLAG_CODE_TRUNCATED) != 0,
+                (short) SHORT.get(record, offset + STATUS_OFFSET) & 0xffff,
+                Integer.toUnsignedLong((int) INT.get(record, offset + LATENCY_OFFSET)),
+                (long) LONG.get(record, offset + CLIENT_HASH_OFFSET));
+    }
+
+    /**
+     * Uma linha NDJSON (sem a quebra de linha).
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(160)
+                .append("{\"timestamp\":\"").append(Instant.ofEpochMilli(timestampMillis))
+                .append("\",\"code\":\"");
+        appendEscaped(json, code);
+        json.append('"');
+        if (codeTruncated) {
+            json.append(",\"codeTruncated\":true");
+        }
+        return json.append(",\"status\":").append(status)
+                .append(",\"latencyMicros\":").append(latencyMicros)
+                .append(",\"clientHash\":\"").append(String.format("%016x", clientHash))
+                .append("\"}")
+                .toString();
+    }
+
+    // O código chega validado pela rota ([a-zA-Z0-9_-]), mas o leitor não confia no arquivo
+    private static void appendEscaped(StringBuilder json, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20 || c >= 0x7f) {
+                json.append(String.format("\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+    }
+}
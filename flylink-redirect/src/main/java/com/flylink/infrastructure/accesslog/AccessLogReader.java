@@ -0,0 +1,106 @@
+package com.flylink.infrastructure.accesslog;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.RECORD_SIZE;
+
+/**
+ * Converte segmentos do log de acesso em NDJSON (um objeto por linha) na
+ * saída padrão. Aceita arquivos e diretórios (todos os segmentos, em ordem):
+ *
+ * <pre>
+ * java -cp app.jar com.flylink.infrastructure.accesslog.AccessLogReader access-log/ &gt; access.ndjson
+ * </pre>
+ *
+ * (na imagem, a partir do diretório /app; o app.jar extraído traz as
+ * bibliotecas no classpath). Segmentos abertos (.part) ou cortados por um
+ * processo derrubado são lidos até o último registro completo.
+ */
+public final class AccessLogReader {
+
+    private AccessLogReader() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Uso: AccessLogReader <segmento|diretório>...");
+            System.exit(2);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+        Path current = null;
+        try {
+            for (Path segment : segments(args)) {
+                current = segment;
+                convert(segment, out);
+            }
+            out.flush();
+        } catch (IOException ex) {
+            System.err.println("Falha ao ler o log de acesso" + (current != null ? " em " + current : "") + ": "
+                    + ex.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Escreve os registros de um segmento como NDJSON.
+     *
+     * @return registros convertidos
+     */
+    public static long convert(Path segment, Writer out) throws IOException {
+        long count = 0;
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+            readHeader(in);
+            byte[] record = new byte[RECORD_SIZE];
+            while (in.readNBytes(record, 0, RECORD_SIZE) == RECORD_SIZE) {
+                out.write(AccessLogEntry.decode(record, 0).toJson());
+                out.write('\n');
+                count++;
+            }
+        } catch (EOFException ex) {
+            // Segmento sem o fim do gzip: aberto ou de um processo derrubado
+            System.err.println(segment + ": segmento incompleto, " + count + " registros lidos");
+        }
+        return count;
+    }
+
+    private static void readHeader(InputStream in) throws IOException {
+        byte[] header = in.readNBytes(AccessLogSegment.HEADER_SIZE);
+        if (header.length < AccessLogSegment.HEADER_SIZE
+                || (int) AccessLogRingBuffer.INT.get(header, 0) != AccessLogSegment.MAGIC) {
+            throw new IOException("não é um segmento do log de acesso");
+        }
+        short version = (short) AccessLogRingBuffer.SHORT.get(header, 4);
+        short recordSize = (short) AccessLogRingBuffer.SHORT.get(header, 6);
+        if (version != AccessLogSegment.FORMAT_VERSION || recordSize != RECORD_SIZE) {
+            throw new IOException("versão " + version + " (registro de " + recordSize + " bytes) não suportada");
+        }
+    }
+
+    static List<Path> segments(String[] paths) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        for (String path : paths) {
+            Path file = Path.of(path);
+            if (Files.isDirectory(file)) {
+                try (Stream<Path> files = Files.list(file)) {
+                    files.filter(AccessLogSegment::isSegment).sorted().forEach(segments::add);
+                }
+            } else {
+                segments.add(file);
+            }
+        }
+        return segments;
+    }
+}
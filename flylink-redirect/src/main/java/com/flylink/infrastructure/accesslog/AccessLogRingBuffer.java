@@ -0,0 +1,141 @@
+package com.flylink.infrastructure.accesslog;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Buffer circular pré-alocado de registros binários de tamanho fixo
+ * ({@link #RECORD_SIZE} bytes), escritos pelas threads de requisição e lidos
+ * por uma única thread (o {@link AccessLogWriter}).
+ *
+ * Fila limitada com sequência por slot (Vyukov): o produtor reserva o slot
+ * com um CAS na cauda, escreve os campos direto no byte[] e publica a
+ * sequência; nada é alocado por registro. Com o buffer cheio o registro é
+ * descartado e contado — a requisição nunca espera pelo disco.
+ *
+ * Layout (big-endian): timestamp em ms (long), hash do cliente (long),
+ * latência em µs (int), status (short), tamanho do código (byte), flags
+ * (byte) e até {@link #MAX_CODE_LENGTH} bytes ASCII do código.
+ */
+public final class AccessLogRingBuffer {
+
+    public static final int RECORD_SIZE = 80;
+
+    public static final int MAX_CODE_LENGTH = 56;
+
+    // Código maior que MAX_CODE_LENGTH (só varreduras: códigos válidos têm até 50 caracteres)
+    public static final int FLAG_CODE_TRUNCATED = 1;
+
+    static final int TIMESTAMP_OFFSET = 0;
+    static final int CLIENT_HASH_OFFSET = 8;
+    static final int LATENCY_OFFSET = 16;
+    static final int STATUS_OFFSET = 20;
+    static final int CODE_LENGTH_OFFSET = 22;
+    static final int FLAGS_OFFSET = 23;
+    static final int CODE_OFFSET = 24;
+
+    static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    static final VarHandle SHORT = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final byte[] records;
+    private final long[] sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    // Só a thread de escrita avança; lido pelas métricas
+    private final AtomicLong head = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity número de registros, arredondado para a próxima potência de 2
+     */
+    public AccessLogRingBuffer(int capacity) {
+        int slots = capacity <= 2 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+        this.records = new byte[slots * RECORD_SIZE];
+        this.sequences = new long[slots];
+        this.mask = slots - 1;
+        for (int i = 0; i < slots; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Grava um registro, sem alocar nem bloquear.
+     *
+     * @return false se o buffer estava cheio e o registro foi descartado
+     */
+    public boolean offer(long timestampMillis, long clientHash, long latencyMicros, int status, String code) {
+        long position = tail.get();
+        int slot;
+        while (true) {
+            slot = (int) (position & mask);
+            long difference = (long) SEQUENCE.getAcquire(sequences, slot) - position;
+            if (difference == 0) {
+                if (tail.weakCompareAndSetVolatile(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                dropped.increment();
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        int offset = slot * RECORD_SIZE;
+        LONG.set(records, offset + TIMESTAMP_OFFSET, timestampMillis);
+        LONG.set(records, offset + CLIENT_HASH_OFFSET, clientHash);
+        INT.set(records, offset + LATENCY_OFFSET, (int) Math.min(latencyMicros, Integer.MAX_VALUE));
+        SHORT.set(records, offset + STATUS_OFFSET, (short) status);
+        int length = Math.min(code.length(), MAX_CODE_LENGTH);
+        records[offset + CODE_LENGTH_OFFSET] = (byte) length;
+        records[offset + FLAGS_OFFSET] = (byte) (code.length() > MAX_CODE_LENGTH ? FLAG_CODE_TRUNCATED : 0);
+        for (int i = 0; i < length; i++) {
+            char c = code.charAt(i);
+            records[offset + CODE_OFFSET + i] = (byte) (c < 0x80 ? c : '?');
+        }
+
+        SEQUENCE.setRelease(sequences, slot, position + 1);
+        return true;
+    }
+
+    /**
+     * Copia o próximo registro publicado para {@code target}. Só a thread de
+     * escrita chama.
+     *
+     * @return false se não há registro publicado
+     */
+    boolean poll(byte[] target, int targetOffset) {
+        long position = head.get();
+        int slot = (int) (position & mask);
+        if ((long) SEQUENCE.getAcquire(sequences, slot) != position + 1) {
+            return false;
+        }
+
+        System.arraycopy(records, slot * RECORD_SIZE, target, targetOffset, RECORD_SIZE);
+        SEQUENCE.setRelease(sequences, slot, position + mask + 1);
+        head.lazySet(position + 1);
+        return true;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Registros reservados e ainda não lidos pela thread de escrita (aproximado).
+     */
+    public long size() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,39 @@
+package com.flylink.infrastructure.accesslog;
+
+import java.nio.file.Path;
+
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.RECORD_SIZE;
+
+/**
+ * Formato dos segmentos, compartilhado pelo {@link AccessLogWriter} e pelo
+ * {@link AccessLogReader} (que roda fora da aplicação, sem as bibliotecas do
+ * Spring): {@code access-<UTC>-<n>.bin.gz}, com um cabeçalho de 8 bytes —
+ * magic "FLAL", versão e tamanho do registro — antes dos registros.
+ */
+final class AccessLogSegment {
+
+    static final int MAGIC = 0x464C414C;
+    static final short FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 8;
+
+    static final String PREFIX = "access-";
+    static final String SUFFIX = ".bin.gz";
+    // Segmento aberto, ou deixado por um processo derrubado
+    static final String PART_SUFFIX = ".part";
+
+    private AccessLogSegment() {
+    }
+
+    static byte[] header() {
+        byte[] header = new byte[HEADER_SIZE];
+        AccessLogRingBuffer.INT.set(header, 0, MAGIC);
+        AccessLogRingBuffer.SHORT.set(header, 4, FORMAT_VERSION);
+        AccessLogRingBuffer.SHORT.set(header, 6, (short) RECORD_SIZE);
+        return header;
+    }
+
+    static boolean isSegment(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(PREFIX) && (name.endsWith(SUFFIX) || name.endsWith(SUFFIX + PART_SUFFIX));
+    }
+}
@@ -0,0 +1,241 @@
+package com.flylink.infrastructure.accesslog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.RECORD_SIZE;
+
+/**
+ * Thread de escrita do log de acesso: esvazia o {@link AccessLogRingBuffer}
+ * em lotes e grava segmentos gzip rotativos ({@link AccessLogSegment}).
+ *
+ * Enquanto aberto o arquivo termina em {@code .part}; o flush periódico é um
+ * sync flush do deflate, então o {@link AccessLogReader} lê o que já foi
+ * gravado mesmo de um segmento aberto ou deixado por um processo derrubado.
+ *
+ * Rotação por bytes de registros (antes da compressão) ou pela idade do
+ * segmento; ao fechar um segmento, os mais antigos além do limite são
+ * apagados. Falha de disco descarta o lote (contado) e tenta um segmento
+ * novo no próximo — a thread não morre.
+ */
+@Slf4j
+final class AccessLogWriter implements Runnable {
+
+    // Sem registros, a thread dorme; a essa taxa, 20k req/s acumulam ~100 registros por volta
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int BATCH_RECORDS = 512;
+    private static final int DEFLATE_BUFFER_BYTES = 64 * 1024;
+    private static final DateTimeFormatter SEGMENT_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'")
+            .withZone(ZoneOffset.UTC);
+
+    private final AccessLogRingBuffer buffer;
+    private final Path directory;
+    private final long segmentMaxBytes;
+    private final long segmentMaxAgeNanos;
+    private final int maxSegments;
+    private final long flushIntervalNanos;
+
+    private final byte[] batch = new byte[BATCH_RECORDS * RECORD_SIZE];
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private volatile boolean running = true;
+
+    private OutputStream out;
+    private Path segment;
+    private long segmentBytes;
+    private long segmentOpenedAt;
+    private long lastFlushAt;
+    private boolean dirty;
+    private boolean failing;
+    private int sequence;
+
+    AccessLogWriter(AccessLogRingBuffer buffer, Path directory, long segmentMaxBytes, long segmentMaxAgeNanos,
+            int maxSegments, long flushIntervalNanos) {
+        this.buffer = buffer;
+        this.directory = directory;
+        this.segmentMaxBytes = segmentMaxBytes;
+        this.segmentMaxAgeNanos = segmentMaxAgeNanos;
+        this.maxSegments = maxSegments;
+        this.flushIntervalNanos = flushIntervalNanos;
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            int drained = drain();
+            maintain(System.nanoTime());
+            if (drained == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        // Encerramento: o que já foi publicado vai para o disco e o segmento é fechado
+        while (drain() > 0) {
+            // continua até esvaziar
+        }
+        closeSegment();
+    }
+
+    void stop() {
+        running = false;
+    }
+
+    long written() {
+        return written.sum();
+    }
+
+    long failed() {
+        return failed.sum();
+    }
+
+    private int drain() {
+        int count = 0;
+        while (count < BATCH_RECORDS && buffer.poll(batch, count * RECORD_SIZE)) {
+            count++;
+        }
+        if (count > 0) {
+            write(count);
+        }
+        return count;
+    }
+
+    private void write(int count) {
+        try {
+            if (out == null) {
+                openSegment();
+            }
+            out.write(batch, 0, count * RECORD_SIZE);
+            segmentBytes += (long) count * RECORD_SIZE;
+            dirty = true;
+            written.add(count);
+            failing = false;
+            if (segmentBytes >= segmentMaxBytes) {
+                closeSegment();
+            }
+        } catch (IOException ex) {
+            failed.add(count);
+            // Um aviso por sequência de falhas, não um por lote
+            if (!failing) {
+                log.warn("Falha ao gravar o log de acesso em {}: {}", directory, ex.getMessage());
+                failing = true;
+            }
+            abandonSegment();
+        }
+    }
+
+    private void maintain(long now) {
+        if (out == null) {
+            return;
+        }
+        if (now - segmentOpenedAt >= segmentMaxAgeNanos) {
+            closeSegment();
+        } else if (dirty && now - lastFlushAt >= flushIntervalNanos) {
+            try {
+                out.flush();
+                dirty = false;
+                lastFlushAt = now;
+            } catch (IOException ex) {
+                log.warn("Falha ao gravar o log de acesso em {}: {}", directory, ex.getMessage());
+                abandonSegment();
+            }
+        }
+    }
+
+    private void openSegment() throws IOException {
+        Files.createDirectories(directory);
+        String time = SEGMENT_TIME.format(Instant.now());
+        while (true) {
+            Path closed = directory.resolve(String.format("%s%s-%04d%s", AccessLogSegment.PREFIX, time, ++sequence,
+                    AccessLogSegment.SUFFIX));
+            Path part = closed.resolveSibling(closed.getFileName() + AccessLogSegment.PART_SUFFIX);
+            if (Files.exists(closed)) {
+                continue;
+            }
+            try {
+                out = new GZIPOutputStream(Files.newOutputStream(part, StandardOpenOption.CREATE_NEW),
+                        DEFLATE_BUFFER_BYTES, true) {
+                    {
+                        def.setLevel(Deflater.BEST_SPEED);
+                    }
+                };
+                segment = part;
+                break;
+            } catch (FileAlreadyExistsException ex) {
+                // Segmento de um processo anterior no mesmo segundo: tenta o próximo número
+            }
+        }
+
+        out.write(AccessLogSegment.header());
+
+        segmentBytes = 0;
+        segmentOpenedAt = System.nanoTime();
+        lastFlushAt = segmentOpenedAt;
+        dirty = true;
+    }
+
+    private void closeSegment() {
+        if (out == null) {
+            return;
+        }
+        Path part = segment;
+        try {
+            out.close();
+            String name = part.getFileName().toString();
+            String closed = name.substring(0, name.length() - AccessLogSegment.PART_SUFFIX.length());
+            Files.move(part, part.resolveSibling(closed), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            log.warn("Falha ao fechar o segmento do log de acesso {}: {}", part, ex.getMessage());
+        } finally {
+            out = null;
+            segment = null;
+        }
+        deleteOldSegments();
+    }
+
+    private void abandonSegment() {
+        if (out == null) {
+            return;
+        }
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // O segmento fica como .part, legível até o último flush
+        }
+        out = null;
+        segment = null;
+    }
+
+    private void deleteOldSegments() {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.filter(AccessLogSegment::isSegment).sorted().toList();
+        } catch (IOException ex) {
+            log.warn("Falha ao listar os segmentos do log de acesso em {}: {}", directory, ex.getMessage());
+            return;
+        }
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            try {
+                Files.deleteIfExists(segments.get(i));
+            } catch (IOException ex) {
+                log.warn("Falha ao apagar o segmento do log de acesso {}: {}", segments.get(i), ex.getMessage());
+            }
+        }
+    }
+}
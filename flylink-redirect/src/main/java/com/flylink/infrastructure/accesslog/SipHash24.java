@@ -0,0 +1,72 @@
+package com.flylink.infrastructure.accesslog;
+
+/**
+ * SipHash-2-4 (PRF de 64 bits com chave de 128 bits) sobre os chars de uma
+ * String, lidos como UTF-16LE — sem converter para byte[], então não aloca.
+ *
+ * O estado inicial derivado da chave é calculado uma vez no construtor; cada
+ * hash só copia os quatro longs e roda as rodadas. Sem a chave, o hash não
+ * permite recuperar a entrada, nem por força bruta sobre o espaço de IPs.
+ */
+final class SipHash24 {
+
+    private final long v0;
+    private final long v1;
+    private final long v2;
+    private final long v3;
+
+    SipHash24(long k0, long k1) {
+        this.v0 = k0 ^ 0x736f6d6570736575L;
+        this.v1 = k1 ^ 0x646f72616e646f6dL;
+        this.v2 = k0 ^ 0x6c7967656e657261L;
+        this.v3 = k1 ^ 0x7465646279746573L;
+    }
+
+    long hash(String value) {
+        long v0 = this.v0;
+        long v1 = this.v1;
+        long v2 = this.v2;
+        long v3 = this.v3;
+
+        int length = value.length();
+        int end = length & ~3;
+        // Quatro chars (8 bytes) por palavra
+        for (int i = 0; i < end; i += 4) {
+            long m = value.charAt(i)
+                    | (long) value.charAt(i + 1) << 16
+                    | (long) value.charAt(i + 2) << 32
+                    | (long) value.charAt(i + 3) << 48;
+            v3 ^= m;
+            for (int round = 0; round < 2; round++) {
+                v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+                v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+                v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+                v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+            }
+            v0 ^= m;
+        }
+
+        // Última palavra: chars restantes e o tamanho em bytes no byte mais alto
+        long b = (long) (length * 2) << 56;
+        for (int i = end; i < length; i++) {
+            b |= (long) value.charAt(i) << (16 * (i - end));
+        }
+        v3 ^= b;
+        for (int round = 0; round < 2; round++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        v0 ^= b;
+
+        v2 ^= 0xff;
+        for (int round = 0; round < 4; round++) {
+            v0 += v1; v1 = Long.rotateLeft(v1, 13); v1 ^= v0; v0 = Long.rotateLeft(v0, 32);
+            v2 += v3; v3 = Long.rotateLeft(v3, 16); v3 ^= v2;
+            v0 += v3; v3 = Long.rotateLeft(v3, 21); v3 ^= v0;
+            v2 += v1; v1 = Long.rotateLeft(v1, 17); v1 ^= v2; v2 = Long.rotateLeft(v2, 32);
+        }
+        return v0 ^ v1 ^ v2 ^ v3;
+    }
+}
@@ -0,0 +1,131 @@
+package com.flylink.infrastructure.cache;
+
+import com.flylink.config.CacheProperties;
+import com.flylink.infrastructure.persistence.repository.RedirectTargetMapper;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter.ShardScope;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.time.Duration;
+
+/**
+ * Aquecimento do {@link RedirectCache} ao subir o nó.
+ *
+ * Carrega os códigos ativos com clique mais recente (e, no empate, mais
+ * clicados) numa leitura em streaming, em background após o startup.
+ * Até terminar — ou até o timeout — o nó se declara "frio" em /health/ready.
+ */
+@Slf4j
+@Component
+public class CacheWarmer {
+
+    private static final String TOP_TARGETS_SQL = """
+            SELECT %s
+            FROM short_urls
+            WHERE is_active = true AND (expires_at IS NULL OR expires_at > CURRENT_TIMESTAMP)
+            ORDER BY last_click_at DESC NULLS LAST, click_count DESC
+            LIMIT ?""".formatted(RedirectTargetMapper.COLUMNS);
+
+    private final CacheProperties.Warmup properties;
+    private final RedirectCache redirectCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ShardRouter shardRouter;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile boolean completed;
+    private volatile long startedAtNanos;
+
+    public CacheWarmer(
+            CacheProperties cacheProperties,
+            RedirectCache redirectCache,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ShardRouter shardRouter,
+            ApplicationEventPublisher eventPublisher) {
+        this.properties = cacheProperties.getWarmup();
+        this.redirectCache = redirectCache;
+        this.jdbcTemplate = jdbcTemplate;
+        // O driver do Postgres só respeita o fetchSize com autocommit desligado
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.shardRouter = shardRouter;
+        this.eventPublisher = eventPublisher;
+        this.completed = !properties.isEnabled();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (completed) {
+            return;
+        }
+        Thread.ofPlatform().name("cache-warmup").daemon().start(this::warmUp);
+    }
+
+    /**
+     * Pronto quando o aquecimento terminou ou o timeout passou.
+     */
+    public boolean isWarm() {
+        if (completed) {
+            return true;
+        }
+        long startedAt = startedAtNanos;
+        return startedAt != 0 && System.nanoTime() - startedAt > Duration.ofMillis(properties.getTimeoutMs()).toNanos();
+    }
+
+    /**
+     * Executa o aquecimento na thread atual.
+     *
+     * @return Quantidade de códigos carregados
+     */
+    public int warmUp() {
+        startedAtNanos = System.nanoTime();
+        long deadline = startedAtNanos + Duration.ofMillis(properties.getTimeoutMs()).toNanos();
+        int perShard = Math.ceilDiv(properties.getTopN(), shardRouter.shardCount());
+
+        int loaded = 0;
+        boolean timedOut = false;
+        try {
+            for (int shard = 0; shard < shardRouter.shardCount() && !timedOut; shard++) {
+                loaded += loadShard(shard, perShard, deadline);
+                timedOut = System.nanoTime() >= deadline;
+            }
+        } catch (RuntimeException ex) {
+            // Sem aquecimento o nó só fica mais lento no início; não impede a subida
+            log.warn("Falha no aquecimento do cache após {} códigos", loaded, ex);
+        } finally {
+            completed = true;
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAtNanos);
+        eventPublisher.publishEvent(new CacheWarmupCompletedEvent(loaded, duration, timedOut));
+        return loaded;
+    }
+
+    private int loadShard(int shard, int limit, long deadline) {
+        try (ShardScope ignored = shardRouter.bindShard(shard)) {
+            Integer count = readOnlyTransaction.execute(status -> jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(TOP_TARGETS_SQL);
+                ps.setFetchSize(properties.getFetchSize());
+                ps.setInt(1, limit);
+                return ps;
+            }, rs -> {
+                int rows = 0;
+                while (rs.next() && System.nanoTime() < deadline) {
+                    redirectCache.putIfAbsent(RedirectTargetMapper.map(rs));
+                    rows++;
+                }
+                return rows;
+            }));
+            return count == null ? 0 : count;
+        }
+    }
+}
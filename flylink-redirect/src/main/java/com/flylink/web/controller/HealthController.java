@@ -1,11 +1,14 @@
 package com.flylink.web.controller;
 
+import com.flylink.infrastructure.cache.CacheWarmer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -16,9 +19,12 @@ import java.util.Map;
  * Controller de health check para monitoramento.
  */
 @RestController
+@RequiredArgsConstructor
 @Tag(name = "Health", description = "Status da aplicação")
 public class HealthController {
 
+    private final CacheWarmer cacheWarmer;
+
     @Operation(summary = "Verifica status da aplicação", description = "Retorna o status atual do serviço. Não exige autenticação.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Serviço operacional", content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"status\": \"UP\"}")))
@@ -27,4 +33,17 @@ public class HealthController {
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP"));
     }
+
+    @Operation(summary = "Verifica se o nó pode receber tráfego", description = "Retorna COLD enquanto o cache de redirecionamento está sendo aquecido (até o timeout configurado). Não exige autenticação.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Nó pronto", content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"status\": \"READY\"}"))),
+            @ApiResponse(responseCode = "503", description = "Cache ainda frio", content = @Content(mediaType = "application/json", schema = @Schema(example = "{\"status\": \"COLD\"}")))
+    })
+    @GetMapping("/health/ready")
+    public ResponseEntity<Map<String, String>> ready() {
+        if (!cacheWarmer.isWarm()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("status", "COLD"));
+        }
+        return ResponseEntity.ok(Map.of("status", "READY"));
+    }
 }
@@ -0,0 +1,195 @@
+package com.flylink.web.controller;
+
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.service.UrlShortenerService;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.infrastructure.accesslog.AccessLog;
+import com.flylink.infrastructure.startup.StartupTimeline;
+import com.flylink.web.dto.ErrorResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Controller para redirecionamento de URLs encurtadas.
+ * Rota: GET /{code} → Redireciona para a URL original.
+ * 
+ * Regex aceita letras, números, hífens e underscores (sem extensões de
+ * arquivo).
+ *
+ * Caminho mais quente da aplicação: os headers vão direto para a resposta
+ * (sem HttpHeaders, URI ou datas por requisição) e os valores de
+ * Cache-Control comuns são montados uma vez só. O orçamento de alocação é
+ * verificado pelo RedirectAllocationBudgetTest.
+ *
+ * Código inexistente, expirado ou esgotado chega como {@link RedirectResolution}
+ * (sem exceção nem DomainExceptionHandler) e responde com um corpo de erro
+ * pronto — varreduras de códigos aleatórios não custam stack traces.
+ *
+ * Cada resposta (inclusive 404, 410 e 503) vai para o {@link AccessLog}: um
+ * registro binário num buffer pré-alocado, gravado em disco por outra thread.
+ */
+@RestController
+@Hidden
+public class RedirectController {
+
+    // Marca redirecionamentos servidos do último valor conhecido, com o banco fora
+    static final String STALE_HEADER = "X-Flylink-Stale";
+
+    private static final String NO_STORE = CacheControl.noStore().getHeaderValue();
+
+    // Corpos de erro prontos: mesmos campos status/message do ErrorResponse, sem path e timestamp
+    private static final byte[] NOT_FOUND_BODY = errorBody(HttpStatus.NOT_FOUND,
+            "URL não encontrada.");
+    private static final byte[] EXPIRED_BODY = errorBody(HttpStatus.GONE,
+            "A URL expirou e não está mais disponível.");
+    private static final byte[] EXHAUSTED_BODY = errorBody(HttpStatus.GONE,
+            "A URL atingiu o limite de cliques e não está mais disponível.");
+
+    private final UrlShortenerService urlService;
+    private final AccessLog accessLog;
+
+    private final long permanentMaxAgeSeconds;
+    private final long temporaryMaxAgeSeconds;
+
+    // Cache-Control dos links sem expiresAt próximo (o caso comum), prontos
+    private final String permanentCacheControl;
+    private final String temporaryCacheControl;
+
+    public RedirectController(
+            UrlShortenerService urlService,
+            AccessLog accessLog,
+            @Value("${app.redirect.permanent-max-age-seconds:86400}") long permanentMaxAgeSeconds,
+            @Value("${app.redirect.temporary-max-age-seconds:300}") long temporaryMaxAgeSeconds) {
+        this.urlService = urlService;
+        this.accessLog = accessLog;
+        this.permanentMaxAgeSeconds = permanentMaxAgeSeconds;
+        this.temporaryMaxAgeSeconds = temporaryMaxAgeSeconds;
+        this.permanentCacheControl = publicCacheControl(permanentMaxAgeSeconds);
+        this.temporaryCacheControl = publicCacheControl(temporaryMaxAgeSeconds);
+    }
+
+    /**
+     * Redireciona o usuário para a URL original.
+     * Incrementa o contador de cliques e retorna o status configurado na URL
+     * (301, 302, 307 ou 308), com Cache-Control/Expires calculados a partir do
+     * estado do link. Cliques servidos pelo cache de uma CDN não chegam aqui.
+     * 
+     * Regex {code:[a-zA-Z0-9_-]+} aceita códigos com letras, números, hífen e
+     * underscore.
+     * Evita interceptar arquivos .html, .js, .ico etc.
+     * 
+     * @param code Código da URL encurtada
+     */
+    @Operation(summary = "Redirecionamento Original", description = "Faz o redirecionamento (HTTP 301/302/307/308, conforme a URL) para o destino com base no código.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "302", description = "Redirecionamento executado (ou 301/307/308, conforme a URL)"),
+            @ApiResponse(responseCode = "404", description = "Código não encontrado", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "410", description = "Código expirado (limite de tempo ou cliques atingido)", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{code:[a-zA-Z0-9_-]+}")
+    public void redirect(@PathVariable String code, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long start = System.nanoTime();
+        // Busca o destino pelo código (cache em memória, com fallback no banco) e conta o clique
+        RedirectResolution resolution;
+        try {
+            resolution = urlService.redirect(code);
+        } catch (ServiceUnavailableException ex) {
+            // O 503 é respondido pelo DomainExceptionHandler
+            accessLog.record(code, HttpStatus.SERVICE_UNAVAILABLE.value(), start, request.getRemoteAddr());
+            throw ex;
+        }
+        switch (resolution) {
+            case RedirectTarget target -> sendRedirect(response, target);
+            case RedirectResolution.NotFound notFound -> sendError(response, HttpStatus.NOT_FOUND, NOT_FOUND_BODY);
+            case RedirectResolution.Expired expired -> sendError(response, HttpStatus.GONE, EXPIRED_BODY);
+            case RedirectResolution.Exhausted exhausted -> sendError(response, HttpStatus.GONE, EXHAUSTED_BODY);
+        }
+        accessLog.record(code, response.getStatus(), start, request.getRemoteAddr());
+    }
+
+    private void sendRedirect(HttpServletResponse response, RedirectTarget target) {
+        response.setStatus(target.redirectType().statusCode());
+        response.setHeader(HttpHeaders.LOCATION, location(target.originalUrl()));
+        applyCacheHeaders(response, target);
+        StartupTimeline.redirectServed();
+    }
+
+    private static void sendError(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    /**
+     * Cacheável (public) até o teto do tipo de redirecionamento, sem passar do
+     * expiresAt; no-store para URLs com limite de cliques ou prestes a expirar,
+     * e para respostas stale (servidas sem o banco).
+     */
+    private void applyCacheHeaders(HttpServletResponse response, RedirectTarget target) {
+        if (target.stale()) {
+            response.setHeader(STALE_HEADER, "true");
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean permanent = target.redirectType().isPermanent();
+        long maxAgeSeconds = permanent ? permanentMaxAgeSeconds : temporaryMaxAgeSeconds;
+        long cacheable = target.cacheableSeconds(now, maxAgeSeconds);
+
+        if (cacheable > 0) {
+            String cacheControl = cacheable != maxAgeSeconds ? publicCacheControl(cacheable)
+                    : permanent ? permanentCacheControl : temporaryCacheControl;
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            // O container formata a data (o Tomcat guarda o texto do último segundo)
+            response.setDateHeader(HttpHeaders.EXPIRES, now + cacheable * 1_000);
+        } else {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, NO_STORE);
+        }
+    }
+
+    /**
+     * URLs ASCII (quase todas) vão como estão; as demais passam pelo
+     * {@link URI} para sair codificadas, como antes.
+     */
+    private static String location(String url) {
+        for (int i = 0; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c <= ' ' || c >= 0x7f) {
+                return URI.create(url).toASCIIString();
+            }
+        }
+        return url;
+    }
+
+    private static byte[] errorBody(HttpStatus status, String message) {
+        return ("{\"status\":" + status.value() + ",\"message\":\"" + message + "\"}")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Mesmo formato de CacheControl.maxAge(..).cachePublic(), sem os objetos intermediários
+    private static String publicCacheControl(long maxAgeSeconds) {
+        return "max-age=" + maxAgeSeconds + ", public";
+    }
+}
@@ -0,0 +1,69 @@
+package com.flylink.infrastructure.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.flylink.infrastructure.accesslog.AccessLogRingBuffer.RECORD_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogRingBufferTest {
+
+    @Test
+    @DisplayName("Deve devolver os registros na ordem em que foram gravados")
+    void shouldPollRecordsInOrder() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(4);
+        byte[] record = new byte[RECORD_SIZE];
+
+        assertTrue(buffer.offer(1_000L, 42L, 150, 302, "abc1234"));
+        assertTrue(buffer.offer(2_000L, 43L, 90, 404, "naoexiste"));
+
+        assertTrue(buffer.poll(record, 0));
+        assertEquals(new AccessLogEntry(1_000L, "abc1234", false, 302, 150, 42L), AccessLogEntry.decode(record, 0));
+        assertTrue(buffer.poll(record, 0));
+        assertEquals(new AccessLogEntry(2_000L, "naoexiste", false, 404, 90, 43L), AccessLogEntry.decode(record, 0));
+        assertFalse(buffer.poll(record, 0));
+    }
+
+    @Test
+    @DisplayName("Deve descartar e contar registros com o buffer cheio, reaproveitando os slots lidos")
+    void shouldDropWhenFull() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(3);
+        byte[] record = new byte[RECORD_SIZE];
+
+        assertEquals(4, buffer.capacity());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i, 0L, 1, 302, "c" + i));
+        }
+        assertFalse(buffer.offer(4, 0L, 1, 302, "c4"));
+        assertEquals(1, buffer.dropped());
+        assertEquals(4, buffer.size());
+
+        assertTrue(buffer.poll(record, 0));
+        assertTrue(buffer.offer(5, 0L, 1, 302, "c5"));
+        assertEquals(4, buffer.size());
+    }
+
+    @Test
+    @DisplayName("Deve truncar códigos longos e marcar o registro")
+    void shouldTruncateLongCodes() {
+        AccessLogRingBuffer buffer = new AccessLogRingBuffer(2);
+        byte[] record = new byte[RECORD_SIZE];
+        String code = "x".repeat(AccessLogRingBuffer.MAX_CODE_LENGTH + 10);
+
+        buffer.offer(1L, 0L, 1, 404, code);
+        buffer.poll(record, 0);
+        AccessLogEntry entry = AccessLogEntry.decode(record, 0);
+
+        assertEquals(code.substring(0, AccessLogRingBuffer.MAX_CODE_LENGTH), entry.code());
+        assertTrue(entry.codeTruncated());
+    }
+
+    @Test
+    @DisplayName("Deve gerar uma linha NDJSON com timestamp ISO-8601 e hash em hexadecimal")
+    void shouldFormatEntryAsJson() {
+        AccessLogEntry entry = new AccessLogEntry(0L, "a\"b", false, 302, 150, 0xabcL);
+
+        assertEquals("{\"timestamp\":\"1970-01-01T00:00:00Z\",\"code\":\"a\\\"b\",\"status\":302,"
+                + "\"latencyMicros\":150,\"clientHash\":\"0000000000000abc\"}", entry.toJson());
+    }
+}
@@ -0,0 +1,120 @@
+package com.flylink.infrastructure.accesslog;
+
+import com.flylink.config.AccessLogProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccessLogTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Deve gravar os acessos em segmento gzip legível pelo leitor NDJSON")
+    void shouldWriteSegmentReadableAsNdjson() throws IOException {
+        AccessLog accessLog = new AccessLog(properties());
+
+        accessLog.record("abc1234", 302, System.nanoTime(), "203.0.113.7");
+        accessLog.record("naoexiste", 404, System.nanoTime(), "203.0.113.7");
+        accessLog.close();
+
+        List<Path> segments = segments();
+        assertEquals(1, segments.size());
+        assertTrue(segments.get(0).getFileName().toString().endsWith(".bin.gz"));
+
+        StringWriter out = new StringWriter();
+        assertEquals(2, AccessLogReader.convert(segments.get(0), out));
+        String[] lines = out.toString().split("\n");
+        assertTrue(lines[0].contains("\"code\":\"abc1234\",\"status\":302"), lines[0]);
+        assertTrue(lines[1].contains("\"code\":\"naoexiste\",\"status\":404"), lines[1]);
+        assertFalse(out.toString().contains("203.0.113.7"));
+    }
+
+    @Test
+    @DisplayName("Deve rotacionar os segmentos pelo tamanho e apagar os mais antigos")
+    void shouldRotateAndDeleteOldSegments() throws IOException {
+        AccessLogProperties properties = properties();
+        properties.setSegmentMaxBytes(AccessLogRingBuffer.RECORD_SIZE);
+        properties.setMaxSegments(2);
+        AccessLog accessLog = new AccessLog(properties);
+
+        for (int i = 0; i < 5; i++) {
+            accessLog.record("c" + i, 302, System.nanoTime(), "203.0.113.7");
+            awaitDrained(accessLog);
+        }
+        accessLog.close();
+
+        List<Path> segments = segments();
+        assertEquals(2, segments.size());
+        StringWriter out = new StringWriter();
+        for (Path segment : segments) {
+            AccessLogReader.convert(segment, out);
+        }
+        assertTrue(out.toString().contains("\"code\":\"c3\""));
+        assertTrue(out.toString().contains("\"code\":\"c4\""));
+        assertFalse(out.toString().contains("\"code\":\"c0\""));
+    }
+
+    @Test
+    @DisplayName("Deve gerar o mesmo hash para o mesmo IP com a chave configurada")
+    void shouldHashClientWithConfiguredKey() {
+        AccessLogProperties properties = properties();
+        properties.setClientHashKey("segredo");
+        AccessLog first = new AccessLog(properties);
+        AccessLog second = new AccessLog(properties);
+        properties.setClientHashKey("outro");
+        AccessLog other = new AccessLog(properties);
+
+        try {
+            assertEquals(first.clientHash("203.0.113.7"), second.clientHash("203.0.113.7"));
+            assertNotEquals(first.clientHash("203.0.113.7"), first.clientHash("203.0.113.8"));
+            assertNotEquals(first.clientHash("203.0.113.7"), other.clientHash("203.0.113.7"));
+        } finally {
+            first.close();
+            second.close();
+            other.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Log desligado deve ignorar os registros")
+    void disabledShouldDoNothing() {
+        AccessLog accessLog = AccessLog.disabled();
+
+        accessLog.record("abc1234", 302, System.nanoTime(), "203.0.113.7");
+        accessLog.close();
+
+        assertFalse(accessLog.isEnabled());
+    }
+
+    private AccessLogProperties properties() {
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setDir(dir.toString());
+        properties.setBufferRecords(16);
+        return properties;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.sorted().toList();
+        }
+    }
+
+    // Um registro por segmento: espera a thread de escrita ler antes do próximo
+    private static void awaitDrained(AccessLog accessLog) {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (accessLog.buffered() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.flylink.infrastructure.accesslog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SipHash24Test {
+
+    // Chave 00 01 .. 0f dos vetores de teste do artigo do SipHash
+    private final SipHash24 sipHash = new SipHash24(0x0706050403020100L, 0x0f0e0d0c0b0a0908L);
+
+    @Test
+    @DisplayName("Deve reproduzir os vetores de referência do SipHash-2-4")
+    void shouldMatchReferenceVectors() {
+        assertEquals(0x726fdb47dd0e0e31L, sipHash.hash(""));
+        // Bytes 00 .. 07 lidos como UTF-16LE
+        assertEquals(0x93f5f5799a932462L, sipHash.hash("\u0100\u0302\u0504\u0706"));
+    }
+
+    @Test
+    @DisplayName("Deve tratar a última palavra parcial como os bytes UTF-16LE da String")
+    void shouldHashPartialWord() {
+        // Valor de uma implementação de referência sobre "203.0.113.7".encode("utf-16-le")
+        assertEquals(0x21f0c6ef56654e3aL, sipHash.hash("203.0.113.7"));
+    }
+}
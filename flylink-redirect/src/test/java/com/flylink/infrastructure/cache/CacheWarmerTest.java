@@ -0,0 +1,127 @@
+package com.flylink.infrastructure.cache;
+
+import com.flylink.config.CacheProperties;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private CacheProperties cacheProperties;
+    private RedirectCache redirectCache;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        redirectCache = new RedirectCache(cacheProperties, new InMemoryCacheInvalidationBus(50));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os códigos no cache e ficar pronto ao terminar")
+    void shouldLoadTopCodesAndBecomeWarm() throws Exception {
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("a", "b");
+        when(resultSet.getString(2)).thenReturn("https://a.com", "https://b.com");
+        when(resultSet.getString(5)).thenReturn("MOVED_PERMANENTLY", (String) null);
+        when(resultSet.getObject(3, OffsetDateTime.class)).thenReturn(null);
+        when(resultSet.getObject(4, Long.class)).thenReturn(null);
+        stubStreamingQuery();
+
+        CacheWarmer warmer = newWarmer();
+        assertFalse(warmer.isWarm());
+
+        assertEquals(2, warmer.warmUp());
+
+        assertTrue(warmer.isWarm());
+        assertEquals("https://a.com", redirectCache.getIfPresent("a").originalUrl());
+        assertEquals("https://b.com", redirectCache.getIfPresent("b").originalUrl());
+        assertEquals(RedirectType.MOVED_PERMANENTLY, redirectCache.getIfPresent("a").redirectType());
+        assertEquals(RedirectType.FOUND, redirectCache.getIfPresent("b").redirectType());
+
+        ArgumentCaptor<CacheWarmupCompletedEvent> event = ArgumentCaptor.forClass(CacheWarmupCompletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(2, event.getValue().entries());
+        assertFalse(event.getValue().timedOut());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever entradas já carregadas pelo tráfego")
+    void shouldNotOverwriteLiveEntries() throws Exception {
+        redirectCache.put(new RedirectTarget("a", "https://novo.com", null, null));
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getString(1)).thenReturn("a");
+        when(resultSet.getString(2)).thenReturn("https://antigo.com");
+        when(resultSet.getString(5)).thenReturn(null);
+        when(resultSet.getObject(3, OffsetDateTime.class)).thenReturn(null);
+        when(resultSet.getObject(4, Long.class)).thenReturn(null);
+        stubStreamingQuery();
+
+        newWarmer().warmUp();
+
+        assertEquals("https://novo.com", redirectCache.getIfPresent("a").originalUrl());
+    }
+
+    @Test
+    @DisplayName("Deve ficar pronto mesmo se o aquecimento falhar")
+    void shouldBecomeWarmWhenWarmupFails() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), ArgumentMatchers.<ResultSetExtractor<Object>>any()))
+                .thenThrow(new org.springframework.dao.DataAccessResourceFailureException("banco fora"));
+
+        CacheWarmer warmer = newWarmer();
+
+        assertEquals(0, warmer.warmUp());
+        assertTrue(warmer.isWarm());
+    }
+
+    @Test
+    @DisplayName("Deve estar pronto de imediato com o aquecimento desabilitado")
+    void shouldBeWarmWhenDisabled() {
+        cacheProperties.getWarmup().setEnabled(false);
+
+        assertTrue(newWarmer().isWarm());
+    }
+
+    private void stubStreamingQuery() {
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), ArgumentMatchers.<ResultSetExtractor<Object>>any()))
+                .thenAnswer(invocation -> invocation.<ResultSetExtractor<?>>getArgument(1).extractData(resultSet));
+    }
+
+    private CacheWarmer newWarmer() {
+        return new CacheWarmer(cacheProperties, redirectCache, jdbcTemplate, transactionManager,
+                ShardRouter.single(), eventPublisher);
+    }
+}
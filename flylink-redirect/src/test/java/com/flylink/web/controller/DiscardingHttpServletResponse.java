@@ -0,0 +1,137 @@
+package com.flylink.web.controller;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Resposta que guarda só o que o redirecionamento escreve (status,
+ * Location, Cache-Control, Expires, stale; no 404/410, o tipo e o tamanho do
+ * corpo, que é descartado) em campos, sem alocar — para
+ * medir alocação e latência do controller sem o custo de um mock. Qualquer
+ * outro método falha, sinalizando uso inesperado da resposta.
+ */
+public class DiscardingHttpServletResponse extends HttpServletResponseWrapper {
+
+    private static final HttpServletResponse UNSUPPORTED = (HttpServletResponse) Proxy.newProxyInstance(
+            DiscardingHttpServletResponse.class.getClassLoader(),
+            new Class<?>[] { HttpServletResponse.class },
+            (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.getName());
+            });
+
+    private int status;
+    private String location;
+    private String cacheControl;
+    private String stale;
+    private long expires;
+    private String contentType;
+    private long bodyBytes;
+
+    private final ServletOutputStream body = new ServletOutputStream() {
+
+        @Override
+        public void write(int b) {
+            bodyBytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bodyBytes += len;
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("setWriteListener");
+        }
+    };
+
+    public DiscardingHttpServletResponse() {
+        super(UNSUPPORTED);
+    }
+
+    @Override
+    public void setStatus(int sc) {
+        this.status = sc;
+    }
+
+    @Override
+    public int getStatus() {
+        return status;
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        switch (name) {
+            case "Location" -> location = value;
+            case "Cache-Control" -> cacheControl = value;
+            case RedirectController.STALE_HEADER -> stale = value;
+            default -> throw new UnsupportedOperationException("setHeader " + name);
+        }
+    }
+
+    @Override
+    public void setDateHeader(String name, long date) {
+        if (!"Expires".equals(name)) {
+            throw new UnsupportedOperationException("setDateHeader " + name);
+        }
+        this.expires = date;
+    }
+
+    @Override
+    public String getHeader(String name) {
+        return switch (name) {
+            case "Location" -> location;
+            case "Cache-Control" -> cacheControl;
+            case RedirectController.STALE_HEADER -> stale;
+            default -> null;
+        };
+    }
+
+    public long getExpires() {
+        return expires;
+    }
+
+    @Override
+    public void setContentType(String type) {
+        this.contentType = type;
+    }
+
+    @Override
+    public String getContentType() {
+        return contentType;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        // O tamanho real é contado em bodyBytes
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        return body;
+    }
+
+    public long getBodyBytes() {
+        return bodyBytes;
+    }
+
+    @Override
+    public void reset() {
+        status = 0;
+        location = null;
+        cacheControl = null;
+        stale = null;
+        expires = 0;
+        contentType = null;
+        bodyBytes = 0;
+    }
+}
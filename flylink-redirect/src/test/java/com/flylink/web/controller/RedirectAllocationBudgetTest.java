@@ -0,0 +1,209 @@
+package com.flylink.web.controller;
+
+import com.flylink.config.AccessLogProperties;
+import com.flylink.config.CacheProperties;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.domain.service.UrlShortenerService;
+import com.flylink.infrastructure.accesslog.AccessLog;
+import com.flylink.infrastructure.cache.RedirectCache;
+import com.flylink.infrastructure.cache.invalidation.InMemoryCacheInvalidationBus;
+import com.flylink.infrastructure.metrics.HotPathMetrics;
+import com.flylink.infrastructure.persistence.repository.RedirectRepository;
+import com.flylink.infrastructure.persistence.sharding.ShardRouter;
+import com.flylink.infrastructure.resilience.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Orçamento de alocação do redirecionamento: bytes alocados por chamada
+ * (ThreadMXBean.getCurrentThreadAllocatedBytes) do RedirectController →
+ * UrlShortenerService → RedirectCache, com um repositório em memória, uma
+ * resposta que não aloca e o log de acesso ligado.
+ *
+ * Os tetos ficam abaixo do custo de qualquer um dos objetos que já saíram
+ * do caminho quente, medido depois do JIT — URI.create (~320 B),
+ * HttpHeaders (~300 B), OffsetDateTime.now() (~56 B) ou uma exceção
+ * (~1 KB com stack trace) — então a volta de qualquer um deles quebra o
+ * build.
+ */
+class RedirectAllocationBudgetTest {
+
+    // Cache hit do caso comum: Cache-Control pronto, 0 B medidos (folga para ruído)
+    private static final long HIT_BUDGET_BYTES = 16;
+
+    // Link expirando antes do max-age: monta o Cache-Control por requisição (64 B medidos)
+    private static final long CAPPED_BUDGET_BYTES = 96;
+
+    // Código inexistente (varredura): cache miss, single-flight e 404 pronto, sem exceção (56 B medidos)
+    private static final long NOT_FOUND_BUDGET_BYTES = 96;
+
+    private static final int LINKS = 1_000;
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 20_000;
+    private static final int ROUNDS = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @TempDir
+    private static Path accessLogDir;
+
+    private static AccessLog accessLog;
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final DiscardingHttpServletResponse response = new DiscardingHttpServletResponse();
+
+    @BeforeAll
+    static void enableAllocationCounting() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM sem contagem de alocação por thread");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM sem contagem de alocação por thread");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        AccessLogProperties properties = new AccessLogProperties();
+        properties.setDir(accessLogDir.toString());
+        accessLog = new AccessLog(properties);
+    }
+
+    @AfterAll
+    static void closeAccessLog() {
+        if (accessLog != null) {
+            accessLog.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Redirecionamento com cache hit deve ficar dentro do orçamento de alocação")
+    void cacheHitShouldStayWithinBudget() throws IOException {
+        String[] codes = codes("h");
+        RedirectController controller = controller(codes, null);
+
+        long bytes = bytesPerRedirect(controller, codes);
+
+        assertEquals(302, response.getStatus());
+        assertEquals("max-age=300, public", response.getHeader("Cache-Control"));
+        assertTrue(bytes <= HIT_BUDGET_BYTES,
+                "cache hit alocou " + bytes + " B/redirect (orçamento " + HIT_BUDGET_BYTES + " B)");
+    }
+
+    @Test
+    @DisplayName("Redirecionamento com Cache-Control limitado pelo expiresAt deve ficar dentro do orçamento")
+    void cappedCacheControlShouldStayWithinBudget() throws IOException {
+        String[] codes = codes("c");
+        RedirectController controller = controller(codes, OffsetDateTime.now().plusSeconds(120));
+
+        long bytes = bytesPerRedirect(controller, codes);
+
+        assertTrue(response.getHeader("Cache-Control").startsWith("max-age=1"));
+        assertTrue(bytes <= CAPPED_BUDGET_BYTES,
+                "link com expiresAt alocou " + bytes + " B/redirect (orçamento " + CAPPED_BUDGET_BYTES + " B)");
+    }
+
+    @Test
+    @DisplayName("Código inexistente deve responder 404 dentro do orçamento, sem exceção")
+    void notFoundShouldStayWithinBudget() throws IOException {
+        RedirectController controller = controller(codes("h"), null);
+        String[] unknown = codes("x");
+
+        long bytes = bytesPerRedirect(controller, unknown);
+
+        assertEquals(404, response.getStatus());
+        assertEquals("application/json", response.getContentType());
+        assertTrue(bytes <= NOT_FOUND_BUDGET_BYTES,
+                "404 alocou " + bytes + " B/redirect (orçamento " + NOT_FOUND_BUDGET_BYTES + " B)");
+    }
+
+    private RedirectController controller(String[] codes, OffsetDateTime expiresAt) {
+        InMemoryRedirectRepository store = new InMemoryRedirectRepository();
+        for (int i = 0; i < codes.length; i++) {
+            store.targets.put(codes[i], new RedirectTarget(codes[i], "https://example.com/" + i, expiresAt, null,
+                    RedirectType.FOUND));
+        }
+
+        CacheProperties cacheProperties = new CacheProperties();
+        cacheProperties.getRedirect().setMaxSize(LINKS * 2);
+        RedirectCache redirectCache = new RedirectCache(cacheProperties, new InMemoryCacheInvalidationBus(50));
+        CircuitBreaker circuitBreaker = new CircuitBreaker("db", 5, Duration.ofMillis(500), Duration.ofSeconds(10));
+
+        UrlShortenerService service = new UrlShortenerService(null, null, store, redirectCache,
+                ShardRouter.single(), circuitBreaker, null, new HotPathMetrics(new SimpleMeterRegistry()));
+        return new RedirectController(service, accessLog, 86_400, 300);
+    }
+
+    /**
+     * Aquece até o JIT compilar o caminho (escape analysis incluída) e
+     * devolve o menor valor de algumas rodadas, para descontar alocações
+     * esporádicas de fora do caminho (compilação, GC, métricas).
+     */
+    private long bytesPerRedirect(RedirectController controller, String[] codes) throws IOException {
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            controller.redirect(codes[i % LINKS], request, response);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = threads.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                controller.redirect(codes[i % LINKS], request, response);
+            }
+            long after = threads.getCurrentThreadAllocatedBytes();
+            best = Math.min(best, (after - before) / MEASURED_CALLS);
+        }
+        return best;
+    }
+
+    private static String[] codes(String prefix) {
+        String[] codes = new String[LINKS];
+        for (int i = 0; i < LINKS; i++) {
+            codes[i] = prefix + i;
+        }
+        return codes;
+    }
+
+    /**
+     * Repositório do caminho quente em memória: lookup e clique sem I/O.
+     */
+    private static final class InMemoryRedirectRepository implements RedirectRepository {
+
+        final Map<String, RedirectTarget> targets = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<RedirectTarget> findActiveByCode(String code) {
+            return Optional.ofNullable(targets.get(code));
+        }
+
+        @Override
+        public int incrementClickCount(String code) {
+            return targets.containsKey(code) ? 1 : 0;
+        }
+
+        @Override
+        public int addClicks(String code, long count) {
+            return targets.containsKey(code) ? 1 : 0;
+        }
+
+        @Override
+        public void deactivate(String code) {
+            targets.remove(code);
+        }
+    }
+}
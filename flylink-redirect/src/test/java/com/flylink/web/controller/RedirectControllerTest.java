@@ -0,0 +1,157 @@
+package com.flylink.web.controller;
+
+import com.flylink.domain.exception.ServiceUnavailableException;
+import com.flylink.domain.service.UrlShortenerService;
+import com.flylink.domain.model.RedirectResolution;
+import com.flylink.domain.model.RedirectTarget;
+import com.flylink.domain.model.RedirectType;
+import com.flylink.infrastructure.accesslog.AccessLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = RedirectController.class)
+@AutoConfigureMockMvc(addFilters = false)
+class RedirectControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UrlShortenerService urlService;
+
+    @MockitoBean
+    private AccessLog accessLog;
+
+    @Test
+    @DisplayName("Deve redirecionar para a URL original com sucesso")
+    void shouldRedirectSuccessfully() throws Exception {
+        String code = "1234567";
+        String originalUrl = "https://example.com";
+
+        RedirectTarget target = new RedirectTarget(code, originalUrl, null, null);
+
+        when(urlService.redirect(code)).thenReturn(target);
+
+        mockMvc.perform(get("/" + code))
+                .andExpect(status().isFound())
+                .andExpect(header().string("Location", originalUrl))
+                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                .andExpect(header().exists("Expires"));
+    }
+
+    @Test
+    @DisplayName("Deve usar o tipo de redirecionamento da URL e limitar o cache ao expiresAt")
+    void shouldUsePermanentRedirectCappedByExpiry() throws Exception {
+        String code = "perm123";
+        OffsetDateTime expiresAt = OffsetDateTime.now().plusSeconds(120);
+        RedirectTarget target = new RedirectTarget(code, "https://example.com", expiresAt, null,
+                RedirectType.MOVED_PERMANENTLY);
+
+        when(urlService.redirect(code)).thenReturn(target);
+
+        String cacheControl = mockMvc.perform(get("/" + code))
+                .andExpect(status().isMovedPermanently())
+                .andReturn().getResponse().getHeader("Cache-Control");
+
+        long maxAge = Long.parseLong(cacheControl.replaceAll("\\D", ""));
+        assertTrue(maxAge > 0 && maxAge <= 120, cacheControl);
+    }
+
+    @Test
+    @DisplayName("Não deve permitir cache de URLs com limite de cliques")
+    void shouldNotCacheClickLimitedUrls() throws Exception {
+        String code = "limit12";
+        RedirectTarget target = new RedirectTarget(code, "https://example.com", null, 10L,
+                RedirectType.PERMANENT_REDIRECT);
+
+        when(urlService.redirect(code)).thenReturn(target);
+
+        mockMvc.perform(get("/" + code))
+                .andExpect(status().isPermanentRedirect())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().doesNotExist("Expires"));
+    }
+
+    @Test
+    @DisplayName("Deve marcar como stale e não permitir cache quando servido sem o banco")
+    void shouldMarkStaleRedirect() throws Exception {
+        String code = "stale12";
+        RedirectTarget target = new RedirectTarget(code, "https://example.com", null, null).asStale();
+
+        when(urlService.redirect(code)).thenReturn(target);
+
+        mockMvc.perform(get("/" + code))
+                .andExpect(status().isFound())
+                .andExpect(header().string("X-Flylink-Stale", "true"))
+                .andExpect(header().string("Cache-Control", "no-store"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 404 com o corpo de erro pronto para código inexistente")
+    void shouldRespondNotFoundWithoutException() throws Exception {
+        when(urlService.redirect("naoexiste")).thenReturn(RedirectResolution.NOT_FOUND);
+
+        mockMvc.perform(get("/naoexiste"))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("URL não encontrada."))
+                .andExpect(header().doesNotExist("Location"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 410 para URL expirada ou com os cliques esgotados")
+    void shouldRespondGoneForExpiredAndExhausted() throws Exception {
+        when(urlService.redirect("expirou")).thenReturn(RedirectResolution.EXPIRED);
+        when(urlService.redirect("esgotou")).thenReturn(RedirectResolution.EXHAUSTED);
+
+        mockMvc.perform(get("/expirou"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+        mockMvc.perform(get("/esgotou"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value("A URL atingiu o limite de cliques e não está mais disponível."));
+    }
+
+    @Test
+    @DisplayName("Deve registrar no log de acesso o código, o status e o IP do cliente")
+    void shouldRecordAccessLog() throws Exception {
+        when(urlService.redirect("naoexiste")).thenReturn(RedirectResolution.NOT_FOUND);
+
+        mockMvc.perform(get("/naoexiste").with(request -> {
+            request.setRemoteAddr("203.0.113.7");
+            return request;
+        })).andExpect(status().isNotFound());
+
+        verify(accessLog).record(eq("naoexiste"), eq(404), anyLong(), eq("203.0.113.7"));
+    }
+
+    @Test
+    @DisplayName("Deve registrar 503 no log de acesso quando o banco está indisponível")
+    void shouldRecordServiceUnavailable() throws Exception {
+        when(urlService.redirect("semBanco")).thenThrow(new ServiceUnavailableException("Banco indisponível"));
+
+        mockMvc.perform(get("/semBanco"))
+                .andExpect(status().isServiceUnavailable());
+
+        verify(accessLog).record(eq("semBanco"), eq(503), anyLong(), eq("127.0.0.1"));
+    }
+}
@@ -1,18 +0,0 @@
-package com.flylink.config;
-
-import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
-
-/**
- * Configuração para redirecionar /docs para o Scalar.
- */
-@Configuration
-public class WebConfig implements WebMvcConfigurer {
-
-    @Override
-    public void addViewControllers(ViewControllerRegistry registry) {
-        // Redireciona /docs para a página do Scalar
-        registry.addRedirectViewController("/docs", "/docs.html");
-    }
-}